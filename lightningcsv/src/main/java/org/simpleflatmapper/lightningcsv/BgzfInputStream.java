@@ -0,0 +1,229 @@
+package org.simpleflatmapper.lightningcsv;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Inflate the blocks of a BGZF stream in parallel.
+ * <p>
+ * The blocks are read ahead and submitted to the executor, the stream returns them in order. If a block has not been
+ * picked up by the executor when it is needed, it is inflated by the reading thread.
+ */
+final class BgzfInputStream extends InputStream {
+
+	static final int FEXTRA = 4;
+
+	private static final int FIXED_HEADER_SIZE = 12;
+	private static final int TRAILER_SIZE = 8;
+	private static final byte[] EMPTY = new byte[0];
+
+	private final InputStream in;
+	private final Executor executor;
+	private final int maxInFlight;
+	private final ArrayDeque<FutureTask<byte[]>> blocks = new ArrayDeque<FutureTask<byte[]>>();
+	private final byte[] header = new byte[FIXED_HEADER_SIZE];
+
+	private byte[] current = EMPTY;
+	private int position;
+	private boolean endOfStream;
+
+	BgzfInputStream(InputStream in, Executor executor, int maxInFlight) {
+		this.in = in;
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+	}
+
+	@Override
+	public int read() throws IOException {
+		while (position == current.length) {
+			if (!nextBlock()) {
+				return -1;
+			}
+		}
+		return current[position++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		while (position == current.length) {
+			if (!nextBlock()) {
+				return -1;
+			}
+		}
+		int l = Math.min(len, current.length - position);
+		System.arraycopy(current, position, b, off, l);
+		position += l;
+		return l;
+	}
+
+	@Override
+	public int available() {
+		return current.length - position;
+	}
+
+	private boolean nextBlock() throws IOException {
+		readAhead();
+		FutureTask<byte[]> block = blocks.poll();
+		if (block == null) {
+			return false;
+		}
+		// no op if already started by the executor
+		block.run();
+		try {
+			current = block.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}
+		position = 0;
+		readAhead();
+		return true;
+	}
+
+	private void readAhead() throws IOException {
+		while (!endOfStream && blocks.size() < maxInFlight) {
+			byte[] block = readBlock();
+			if (block == null) {
+				endOfStream = true;
+			} else {
+				FutureTask<byte[]> task = new FutureTask<byte[]>(new InflateBlock(block));
+				blocks.add(task);
+				executor.execute(task);
+			}
+		}
+	}
+
+	private byte[] readBlock() throws IOException {
+		int l = readFully(header, 0, FIXED_HEADER_SIZE);
+		if (l == 0) {
+			return null;
+		}
+		if (l < FIXED_HEADER_SIZE) {
+			throw new EOFException("Truncated bgzf block header");
+		}
+		if ((header[0] & 0xff) != 0x1f || (header[1] & 0xff) != 0x8b || header[2] != 8 || (header[3] & FEXTRA) == 0) {
+			throw new IOException("Invalid bgzf block header");
+		}
+		int xlen = uint16(header, 10);
+		byte[] extra = new byte[xlen];
+		if (readFully(extra, 0, xlen) < xlen) {
+			throw new EOFException("Truncated bgzf block header");
+		}
+		int blockSize = blockSize(extra);
+		int headerSize = FIXED_HEADER_SIZE + xlen;
+		if (blockSize < headerSize + TRAILER_SIZE) {
+			throw new IOException("Invalid bgzf block size " + blockSize);
+		}
+		byte[] block = new byte[blockSize];
+		System.arraycopy(header, 0, block, 0, FIXED_HEADER_SIZE);
+		System.arraycopy(extra, 0, block, FIXED_HEADER_SIZE, xlen);
+		if (readFully(block, headerSize, blockSize - headerSize) < blockSize - headerSize) {
+			throw new EOFException("Truncated bgzf block");
+		}
+		return block;
+	}
+
+	// the BC subfield holds the total block size minus 1
+	private static int blockSize(byte[] extra) throws IOException {
+		int i = 0;
+		while (i + 4 <= extra.length) {
+			int slen = uint16(extra, i + 2);
+			if (extra[i] == 'B' && extra[i + 1] == 'C' && slen == 2 && i + 6 <= extra.length) {
+				return uint16(extra, i + 4) + 1;
+			}
+			i += 4 + slen;
+		}
+		throw new IOException("Missing bgzf BC subfield");
+	}
+
+	private int readFully(byte[] b, int off, int len) throws IOException {
+		int l = 0;
+		while (l < len) {
+			int r = in.read(b, off + l, len - l);
+			if (r == -1) {
+				break;
+			}
+			l += r;
+		}
+		return l;
+	}
+
+	private static int uint16(byte[] b, int i) {
+		return (b[i] & 0xff) | ((b[i + 1] & 0xff) << 8);
+	}
+
+	private static int int32(byte[] b, int i) {
+		return uint16(b, i) | (uint16(b, i + 2) << 16);
+	}
+
+	@Override
+	public void close() throws IOException {
+		endOfStream = true;
+		for (FutureTask<byte[]> block : blocks) {
+			block.cancel(false);
+		}
+		blocks.clear();
+		in.close();
+	}
+
+	private static final class InflateBlock implements Callable<byte[]> {
+		private final byte[] block;
+
+		private InflateBlock(byte[] block) {
+			this.block = block;
+		}
+
+		@Override
+		public byte[] call() throws IOException {
+			final byte[] block = this.block;
+			int headerSize = FIXED_HEADER_SIZE + uint16(block, 10);
+			int size = int32(block, block.length - 4);
+			byte[] data = new byte[size];
+
+			Inflater inflater = new Inflater(true);
+			try {
+				inflater.setInput(block, headerSize, block.length - headerSize - TRAILER_SIZE);
+				int l = 0;
+				while (l < size) {
+					int r = inflater.inflate(data, l, size - l);
+					if (r == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					l += r;
+				}
+				if (l != size) {
+					throw new IOException("Corrupted bgzf block, expected " + size + " bytes got " + l);
+				}
+			} catch (DataFormatException e) {
+				throw new IOException("Corrupted bgzf block", e);
+			} finally {
+				inflater.end();
+			}
+
+			CRC32 crc32 = new CRC32();
+			crc32.update(data, 0, size);
+			if ((int) crc32.getValue() != int32(block, block.length - TRAILER_SIZE)) {
+				throw new IOException("Corrupted bgzf block, crc mismatch");
+			}
+			return data;
+		}
+	}
+}
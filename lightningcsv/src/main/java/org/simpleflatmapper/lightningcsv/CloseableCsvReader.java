@@ -44,20 +44,37 @@ public class CloseableCsvReader implements Closeable, Iterable<String[]> {
         return delegate.read(handler, limit);
     }
 
+    public <RH extends CheckedConsumer<? super RowView>> RH readViews(RH handler) throws IOException {
+        return delegate.readViews(handler);
+    }
+
+    public <RH extends CheckedConsumer<? super RowView>> RH readViews(RH handler, int limit) throws IOException {
+        return delegate.readViews(handler, limit);
+    }
+
     @Override
     public Iterator<String[]> iterator() {
         return delegate.iterator();
     }
 
+    public Iterator<Row> rowIterator() throws IOException {
+        return delegate.rowIterator();
+    }
+
 
     //IFJAVA8_START
     public Stream<String[]> stream() {
         return delegate.stream();
     }
+
+    public Stream<Row> rowStream() {
+        return delegate.rowStream();
+    }
     //IFJAVA8_END
 
     @Override
     public void close() throws IOException {
+        delegate.release();
         resource.close();
     }
 }
@@ -0,0 +1,146 @@
+package org.simpleflatmapper.lightningcsv;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compression of a file, detected from its magic bytes.
+ * <p>
+ * The csv parser decompresses the file in the thread fetching the content, see {@link CsvParser.AbstractDSL#parse(File, org.simpleflatmapper.lightningcsv.parser.CellConsumer)}.
+ */
+public enum Compression {
+	NONE {
+		@Override
+		public InputStream open(File file, Executor executor) throws IOException {
+			return new FileInputStream(file);
+		}
+	},
+	GZIP {
+		@Override
+		public InputStream open(File file, Executor executor) throws IOException {
+			FileInputStream in = new FileInputStream(file);
+			try {
+				return new GZIPInputStream(in, BUFFER_SIZE);
+			} catch (IOException e) {
+				CsvParser.safeClose(in);
+				throw e;
+			}
+		}
+	},
+	/**
+	 * Blocked gzip, a serie of gzip members of at most 64k each recording their compressed size, the members are
+	 * inflated in parallel.
+	 */
+	BGZF {
+		@Override
+		public InputStream open(File file, Executor executor) throws IOException {
+			return new BgzfInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE), executor, Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
+		}
+	},
+	/**
+	 * Zstandard, needs com.github.luben:zstd-jni on the classpath.
+	 */
+	ZSTD {
+		@Override
+		public InputStream open(File file, Executor executor) throws IOException {
+			Class<?> zstdInputStream;
+			try {
+				zstdInputStream = Class.forName("com.github.luben.zstd.ZstdInputStream");
+			} catch (ClassNotFoundException e) {
+				throw new IOException("File " + file + " is zstd compressed, com.github.luben:zstd-jni is needed to decompress it");
+			}
+			InputStream in = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+			try {
+				return (InputStream) zstdInputStream.getConstructor(InputStream.class).newInstance(in);
+			} catch (InvocationTargetException e) {
+				CsvParser.safeClose(in);
+				if (e.getCause() instanceof IOException) {
+					throw (IOException) e.getCause();
+				}
+				throw new IOException(e.getCause());
+			} catch (Exception e) {
+				CsvParser.safeClose(in);
+				throw new IOException(e);
+			}
+		}
+	};
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * @param file the file
+	 * @param executor the executor to decompress the blocks of a blocked format
+	 * @return an InputStream of the decompressed content
+	 * @throws IOException if an io error occurs
+	 */
+	public abstract InputStream open(File file, Executor executor) throws IOException;
+
+	/**
+	 * The executor inflating the blocks of the {@link #BGZF} files parsed by the {@link CsvParser}, bounded to one daemon thread
+	 * per core. The blocks not picked up yet are inflated by the reading thread.
+	 * @return the shared block executor
+	 */
+	static Executor blockExecutor() {
+		return BlockExecutorHolder.EXECUTOR;
+	}
+
+	public static Compression detect(File file) throws IOException {
+		byte[] header = new byte[HEADER_SIZE];
+		int l = 0;
+		FileInputStream in = new FileInputStream(file);
+		try {
+			int r;
+			while (l < header.length && (r = in.read(header, l, header.length - l)) != -1) {
+				l += r;
+			}
+		} finally {
+			CsvParser.safeClose(in);
+		}
+		return detect(header, l);
+	}
+
+	static Compression detect(byte[] header, int length) {
+		if (length >= 3 && (header[0] & 0xff) == 0x1f && (header[1] & 0xff) == 0x8b && header[2] == 8) {
+			if (length >= 16
+					&& (header[3] & BgzfInputStream.FEXTRA) != 0
+					&& header[12] == 'B' && header[13] == 'C'
+					&& header[14] == 2 && header[15] == 0) {
+				return BGZF;
+			}
+			return GZIP;
+		}
+		if (length >= 4 && (header[0] & 0xff) == 0x28 && (header[1] & 0xff) == 0xb5 && (header[2] & 0xff) == 0x2f && (header[3] & 0xff) == 0xfd) {
+			return ZSTD;
+		}
+		return NONE;
+	}
+
+	private static final class BlockExecutorHolder {
+		private static final Executor EXECUTOR = newBlockExecutor();
+
+		private static Executor newBlockExecutor() {
+			int nbThreads = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(nbThreads, nbThreads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "sfm-bgzf-inflater");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package org.simpleflatmapper.lightningcsv;
+
+/**
+ * Position of a csv file at a row boundary, the byte offset of the row and its row number.
+ * <p>
+ * The tokenizer has no state between rows so the offset is enough to resume the parsing, see
+ * {@link CsvParser.AbstractDSL#resume(java.io.File, CsvCheckpoint)}. The two values can be stored as is, for example
+ * in the same transaction as the rows they follow.
+ */
+public final class CsvCheckpoint {
+
+	public static final CsvCheckpoint START = new CsvCheckpoint(0, 0);
+
+	private final long byteOffset;
+	private final long rowNumber;
+
+	/**
+	 * @param byteOffset the offset in the file of the first byte of the row
+	 * @param rowNumber the number of the row, 0 being the first row of the file
+	 */
+	public CsvCheckpoint(long byteOffset, long rowNumber) {
+		if (byteOffset < 0 || rowNumber < 0) {
+			throw new IllegalArgumentException("Invalid checkpoint " + byteOffset + ", " + rowNumber);
+		}
+		this.byteOffset = byteOffset;
+		this.rowNumber = rowNumber;
+	}
+
+	public long byteOffset() {
+		return byteOffset;
+	}
+
+	public long rowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		CsvCheckpoint that = (CsvCheckpoint) o;
+
+		return byteOffset == that.byteOffset && rowNumber == that.rowNumber;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = (int) (byteOffset ^ (byteOffset >>> 32));
+		result = 31 * result + (int) (rowNumber ^ (rowNumber >>> 32));
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "CsvCheckpoint{" +
+				"byteOffset=" + byteOffset +
+				", rowNumber=" + rowNumber +
+				'}';
+	}
+}
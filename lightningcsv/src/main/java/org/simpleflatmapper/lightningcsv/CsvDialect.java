@@ -0,0 +1,299 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The separator, quote, escape and header row of a csv content, inferred from a sample of the content.
+ * <p>
+ * Each candidate separator and quote pair is used to parse the sample, the pair that splits the rows in the most
+ * consistent number of cells wins. The escape is a backslash if the sample has more backslash escaped quotes than
+ * doubled quotes.
+ * The header row is detected by comparing the first row to the following ones, a column where the first cell is
+ * not a number but the others are, or where the cells have a fixed length that the first cell does not have, is a
+ * vote for a header.
+ * <p>
+ * The line endings do not need to be detected, the parser accepts \n, \r\n and \r.
+ * <p>
+ * Example:
+ * <code>
+ *     CsvDialect dialect = CsvParser.sniff(file);<br>
+ *     dialect.applyTo(CsvParser.skip(dialect.hasHeader ? 1 : 0)).forEach(file, consumer);
+ * </code>
+ */
+public final class CsvDialect {
+
+	public static final int DEFAULT_SAMPLE_SIZE = 1 << 16;
+
+	private static final char[] SEPARATORS = { ',', ';', '\t', '|', ':' };
+	private static final char[] QUOTES = { '"', '\'' };
+	private static final int MAX_SAMPLE_ROWS = 100;
+
+	public final TextFormat textFormat;
+	public final boolean hasHeader;
+
+	public CsvDialect(TextFormat textFormat, boolean hasHeader) {
+		this.textFormat = textFormat;
+		this.hasHeader = hasHeader;
+	}
+
+	/**
+	 * @param dsl the dsl to configure
+	 * @param <D> the type of dsl
+	 * @return the dsl with the separator, quote and escape of the dialect
+	 */
+	public <D extends CsvParser.AbstractDSL<D>> D applyTo(D dsl) {
+		return dsl.separator(textFormat.separatorChar).quote(textFormat.quoteChar).escape(textFormat.escapeChar);
+	}
+
+	/**
+	 * Sniff the dialect from the first {@link #DEFAULT_SAMPLE_SIZE} chars of the file, compressed files are
+	 * decompressed.
+	 * @param file the file
+	 * @return the dialect
+	 * @throws IOException if an io error occurs
+	 */
+	public static CsvDialect sniff(File file) throws IOException {
+		Reader reader = CsvParser.dsl().openReader(file);
+		try {
+			return sniffSample(reader);
+		} finally {
+			CsvParser.safeClose(reader);
+		}
+	}
+
+	/**
+	 * Sniff the dialect from the first {@link #DEFAULT_SAMPLE_SIZE} chars of the reader. The reader is marked and
+	 * reset after the sample is read so that the content can then be parsed from the start.
+	 * @param reader the reader, needs to support mark
+	 * @return the dialect
+	 * @throws IOException if an io error occurs
+	 * @throws IllegalArgumentException if the reader does not support mark, wrap it in a java.io.BufferedReader
+	 */
+	public static CsvDialect sniff(Reader reader) throws IOException {
+		if (!reader.markSupported()) {
+			throw new IllegalArgumentException("Reader does not support mark, wrap it in a BufferedReader");
+		}
+		reader.mark(DEFAULT_SAMPLE_SIZE + 1);
+		try {
+			return sniffSample(reader);
+		} finally {
+			reader.reset();
+		}
+	}
+
+	/**
+	 * @param sample the content, all the rows are used including a last row without end of line
+	 * @return the dialect
+	 */
+	public static CsvDialect sniff(CharSequence sample) {
+		return sniff(sample, false);
+	}
+
+	// read one more char than the sample size to know if the sample is cut
+	private static CsvDialect sniffSample(Reader reader) throws IOException {
+		String sample = read(reader, DEFAULT_SAMPLE_SIZE + 1);
+		if (sample.length() > DEFAULT_SAMPLE_SIZE) {
+			return sniff(sample.substring(0, DEFAULT_SAMPLE_SIZE), true);
+		}
+		return sniff(sample, false);
+	}
+
+	private static CsvDialect sniff(CharSequence sample, boolean truncated) {
+		if (truncated) {
+			sample = completeRows(sample);
+		}
+
+		List<String[]> bestRows = null;
+		TextFormat bestFormat = TextFormat.RFC4180;
+		double bestScore = 0;
+		int bestNbCells = 1;
+
+		for (char quote : QUOTES) {
+			char escape = escapeChar(sample, quote);
+			for (char separator : SEPARATORS) {
+				List<String[]> rows = parse(sample, separator, quote, escape);
+				int nbCells = modeNbCells(rows);
+				if (nbCells <= 1) {
+					continue;
+				}
+				double score = consistency(rows, nbCells);
+				if (score > bestScore || (score == bestScore && nbCells > bestNbCells)) {
+					bestScore = score;
+					bestNbCells = nbCells;
+					bestFormat = new TextFormat(separator, quote, escape, false);
+					bestRows = rows;
+				}
+			}
+		}
+
+		if (bestRows == null) {
+			bestRows = parse(sample, bestFormat.separatorChar, bestFormat.quoteChar, bestFormat.escapeChar);
+		}
+
+		return new CsvDialect(bestFormat, hasHeader(bestRows));
+	}
+
+	private static String read(Reader reader, int size) throws IOException {
+		char[] chars = new char[size];
+		int l = 0;
+		int r;
+		while (l < size && (r = reader.read(chars, l, size - l)) != -1) {
+			l += r;
+		}
+		return new String(chars, 0, l);
+	}
+
+	// drop the last line of a cut sample if the sample is larger than one line
+	private static CharSequence completeRows(CharSequence sample) {
+		for (int i = sample.length() - 1; i > 0; i--) {
+			char c = sample.charAt(i);
+			if (c == '\n' || c == '\r') {
+				return sample.subSequence(0, i + 1);
+			}
+		}
+		return sample;
+	}
+
+	private static char escapeChar(CharSequence sample, char quote) {
+		int backslashEscaped = 0;
+		int doubled = 0;
+		for (int i = 1; i < sample.length(); i++) {
+			if (sample.charAt(i) == quote) {
+				char previous = sample.charAt(i - 1);
+				if (previous == '\\') {
+					backslashEscaped++;
+				} else if (previous == quote) {
+					doubled++;
+					i++;
+				}
+			}
+		}
+		return backslashEscaped > doubled ? '\\' : quote;
+	}
+
+	private static List<String[]> parse(CharSequence sample, char separator, char quote, char escape) {
+		final List<String[]> rows = new ArrayList<String[]>();
+		try {
+			CsvParser
+				.separator(separator)
+				.quote(quote)
+				.escape(escape)
+				.limit(MAX_SAMPLE_ROWS)
+				.disableSpecialisedCharConsumer()
+				.forEach(sample, new CheckedConsumer<String[]>() {
+					@Override
+					public void accept(String[] row) {
+						if (row.length > 1 || row[0].length() > 0) {
+							rows.add(row);
+						}
+					}
+				});
+		} catch (IOException e) {
+			// cannot happen on a CharSequence
+			throw new IllegalStateException(e);
+		}
+		return rows;
+	}
+
+	private static int modeNbCells(List<String[]> rows) {
+		Map<Integer, Integer> counts = new HashMap<Integer, Integer>();
+		int mode = 0;
+		int modeCount = 0;
+		for (String[] row : rows) {
+			Integer count = counts.get(row.length);
+			count = count == null ? 1 : count + 1;
+			counts.put(row.length, count);
+			if (count > modeCount || (count == modeCount && row.length > mode)) {
+				mode = row.length;
+				modeCount = count;
+			}
+		}
+		return mode;
+	}
+
+	private static double consistency(List<String[]> rows, int nbCells) {
+		int n = 0;
+		for (String[] row : rows) {
+			if (row.length == nbCells) {
+				n++;
+			}
+		}
+		return ((double) n) / rows.size();
+	}
+
+	private static boolean hasHeader(List<String[]> rows) {
+		if (rows.size() < 2) {
+			return false;
+		}
+		String[] header = rows.get(0);
+		int votes = 0;
+		for (int i = 0; i < header.length; i++) {
+			boolean numbers = true;
+			int length = -1;
+			boolean fixedLength = true;
+			int n = 0;
+			for (int j = 1; j < rows.size(); j++) {
+				String[] row = rows.get(j);
+				if (row.length != header.length) {
+					continue;
+				}
+				n++;
+				String cell = row[i];
+				numbers &= isNumber(cell);
+				if (length == -1) {
+					length = cell.length();
+				} else if (length != cell.length()) {
+					fixedLength = false;
+				}
+			}
+			if (n == 0) {
+				continue;
+			}
+			if (numbers) {
+				votes += isNumber(header[i]) ? -1 : 1;
+			} else if (fixedLength) {
+				votes += header[i].length() != length ? 1 : -1;
+			}
+		}
+		return votes > 0;
+	}
+
+	private static boolean isNumber(String cell) {
+		if (cell.length() == 0) {
+			return false;
+		}
+		int i = cell.charAt(0) == '-' || cell.charAt(0) == '+' ? 1 : 0;
+		boolean digits = false;
+		boolean dot = false;
+		for (; i < cell.length(); i++) {
+			char c = cell.charAt(i);
+			if (c >= '0' && c <= '9') {
+				digits = true;
+			} else if (c == '.' && !dot) {
+				dot = true;
+			} else {
+				return false;
+			}
+		}
+		return digits;
+	}
+
+	@Override
+	public String toString() {
+		return "CsvDialect{" +
+				"separator=" + textFormat.separatorChar +
+				", quote=" + textFormat.quoteChar +
+				", escape=" + textFormat.escapeChar +
+				", hasHeader=" + hasHeader +
+				'}';
+	}
+}
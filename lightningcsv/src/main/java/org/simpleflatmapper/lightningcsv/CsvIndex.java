@@ -0,0 +1,207 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.InputStreamByteArrayBuffer;
+import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.lightningcsv.parser.Utf8ByteConsumer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Index of the byte offset of every rowInterval rows of a csv file.
+ * <p>
+ * It allows to start parsing at any row by tokenizing at most rowInterval - 1 rows, see
+ * {@link CsvParser.AbstractDSL#seek(File, CsvIndex, long)}.
+ * The index is built at the byte level and only supports charsets that encode the separator, quote and end of line chars
+ * on one byte that can't be part of another char like utf-8 or iso-8859-1.
+ * <p>
+ * The index can be saved next to the file with {@link #write(File)}, it records the length and last modified time of
+ * the file to detect a stale index.
+ */
+public final class CsvIndex {
+
+	public static final String DEFAULT_EXTENSION = ".idx";
+
+	private static final int MAGIC = 0x53464D49; // SFMI
+	private static final int VERSION = 1;
+
+	private final int rowInterval;
+	private final long[] offsets;
+	private final long rowCount;
+	private final long fileLength;
+	private final long fileLastModified;
+
+	CsvIndex(int rowInterval, long[] offsets, long rowCount, long fileLength, long fileLastModified) {
+		this.rowInterval = rowInterval;
+		this.offsets = offsets;
+		this.rowCount = rowCount;
+		this.fileLength = fileLength;
+		this.fileLastModified = fileLastModified;
+	}
+
+	static CsvIndex build(File file, TextFormat textFormat, int rowInterval, int bufferSize, int maxBufferSize) throws IOException {
+		if (rowInterval < 1) {
+			throw new IllegalArgumentException("rowInterval needs to be positive " + rowInterval);
+		}
+		long fileLength = file.length();
+		long fileLastModified = file.lastModified();
+
+		InputStream inputStream = new FileInputStream(file);
+		try {
+			InputStreamByteArrayBuffer byteArrayBuffer = new InputStreamByteArrayBuffer(bufferSize, maxBufferSize, inputStream);
+			CsvReader csvReader = new CsvReader(new Utf8ByteConsumer(byteArrayBuffer, textFormat, false, false));
+
+			long[] offsets = new long[16];
+			int nbOffsets = 0;
+			offsets[nbOffsets++] = 0;
+
+			RowCounter rowCounter = new RowCounter();
+			while (csvReader.rawParseRow(rowCounter, false)) {
+				if (rowCounter.rows % rowInterval == 0) {
+					if (nbOffsets == offsets.length) {
+						offsets = Arrays.copyOf(offsets, offsets.length * 2);
+					}
+					offsets[nbOffsets++] = byteArrayBuffer.offset() + byteArrayBuffer.rowStartMark;
+				}
+			}
+
+			return new CsvIndex(rowInterval, Arrays.copyOf(offsets, nbOffsets), rowCounter.rows, fileLength, fileLastModified);
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * @return the number of rows between 2 recorded offsets
+	 */
+	public int rowInterval() {
+		return rowInterval;
+	}
+
+	/**
+	 * @return the number of rows in the file at the time of indexing
+	 */
+	public long rowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @param rowNumber the row
+	 * @return the byte offset of the closest indexed row before or at rowNumber
+	 */
+	public long indexedOffset(long rowNumber) {
+		return offsets[entry(rowNumber)];
+	}
+
+	/**
+	 * @param rowNumber the row
+	 * @return the number of rows to skip from the {@link #indexedOffset(long)} to reach rowNumber
+	 */
+	public int rowsFromIndexedOffset(long rowNumber) {
+		return (int) (rowNumber - ((long) entry(rowNumber)) * rowInterval);
+	}
+
+	private int entry(long rowNumber) {
+		if (rowNumber < 0) {
+			throw new IllegalArgumentException("Invalid row number " + rowNumber);
+		}
+		return (int) Math.min(rowNumber / rowInterval, offsets.length - 1);
+	}
+
+	/**
+	 * @param file the indexed file
+	 * @return true if the file length and last modified time are the same as when the index was built
+	 */
+	public boolean isUpToDate(File file) {
+		return file.length() == fileLength && file.lastModified() == fileLastModified;
+	}
+
+	/**
+	 * @param file the csv file
+	 * @return the default index file, the csv file name suffixed by {@link #DEFAULT_EXTENSION}
+	 */
+	public static File indexFile(File file) {
+		return new File(file.getPath() + DEFAULT_EXTENSION);
+	}
+
+	public void write(File indexFile) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(rowInterval);
+			out.writeLong(rowCount);
+			out.writeLong(fileLength);
+			out.writeLong(fileLastModified);
+			out.writeInt(offsets.length);
+			for (long offset : offsets) {
+				out.writeLong(offset);
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	public static CsvIndex read(File indexFile) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)));
+		try {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a csv index file " + indexFile);
+			}
+			int version = in.readInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported csv index version " + version + " in " + indexFile);
+			}
+			int rowInterval = in.readInt();
+			long rowCount = in.readLong();
+			long fileLength = in.readLong();
+			long fileLastModified = in.readLong();
+			long[] offsets = new long[in.readInt()];
+			for(int i = 0; i < offsets.length; i++) {
+				offsets[i] = in.readLong();
+			}
+			return new CsvIndex(rowInterval, offsets, rowCount, fileLength, fileLastModified);
+		} finally {
+			in.close();
+		}
+	}
+
+	private static final class RowCounter implements ByteCellConsumer {
+		private long rows;
+		private boolean rowData;
+
+		@Override
+		public void newCell(byte[] bytes, int offset, int length) {
+			rowData = true;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			rowData = true;
+		}
+
+		@Override
+		public boolean endOfRow() {
+			rows++;
+			rowData = false;
+			return true;
+		}
+
+		@Override
+		public void end() {
+			if (rowData) {
+				rows++;
+				rowData = false;
+			}
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package org.simpleflatmapper.lightningcsv;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe {@link CsvMetricsListener} that accumulates counters and histograms of the parsing activity.
+ * <p>
+ * <code>
+ *     CsvMetrics metrics = new CsvMetrics();<br>
+ *     CsvParser.metrics(metrics).forEach(file, consumer);<br>
+ *     metrics.rows(); metrics.charsPerSecond(); metrics.readNanosHistogram().percentile(0.99);
+ * </code>
+ */
+public final class CsvMetrics implements CsvMetricsListener {
+
+	private final AtomicLong rows = new AtomicLong();
+	private final AtomicLong read = new AtomicLong();
+	private final AtomicLong refills = new AtomicLong();
+	private final AtomicLong bufferGrowths = new AtomicLong();
+	private final AtomicLong readNanos = new AtomicLong();
+	private final AtomicLong parseNanos = new AtomicLong();
+	private final AtomicLong maxCellLength = new AtomicLong();
+	private final AtomicLong maxBufferLength = new AtomicLong();
+
+	private final Histogram readNanosHistogram = new Histogram();
+	private final Histogram parseNanosHistogram = new Histogram();
+	private final Histogram cellLengthHistogram = new Histogram();
+
+	@Override
+	public void refill(int read, long readNanos, long parseNanos, long rows, int maxCellLength, int bufferLength) {
+		this.refills.incrementAndGet();
+		this.read.addAndGet(read);
+		this.readNanos.addAndGet(readNanos);
+		this.parseNanos.addAndGet(parseNanos);
+		this.rows.addAndGet(rows);
+		max(this.maxCellLength, maxCellLength);
+		max(this.maxBufferLength, bufferLength);
+		readNanosHistogram.record(readNanos);
+		parseNanosHistogram.record(parseNanos);
+		cellLengthHistogram.record(maxCellLength);
+	}
+
+	@Override
+	public void bufferGrowth(int oldLength, int newLength) {
+		bufferGrowths.incrementAndGet();
+		max(maxBufferLength, newLength);
+	}
+
+	@Override
+	public void end(long rows, int maxCellLength) {
+		this.rows.addAndGet(rows);
+		max(this.maxCellLength, maxCellLength);
+	}
+
+	private static void max(AtomicLong max, long value) {
+		long current;
+		while ((current = max.get()) < value) {
+			if (max.compareAndSet(current, value)) {
+				return;
+			}
+		}
+	}
+
+	public long rows() {
+		return rows.get();
+	}
+
+	/**
+	 * @return the number of chars, or bytes for the byte level parsing, read
+	 */
+	public long read() {
+		return read.get();
+	}
+
+	public long refills() {
+		return refills.get();
+	}
+
+	/**
+	 * @return the number of times the buffer had to grow
+	 */
+	public long bufferGrowths() {
+		return bufferGrowths.get();
+	}
+
+	public long maxBufferLength() {
+		return maxBufferLength.get();
+	}
+
+	public long maxCellLength() {
+		return maxCellLength.get();
+	}
+
+	/**
+	 * @return the time blocked reading the content
+	 */
+	public long readNanos() {
+		return readNanos.get();
+	}
+
+	/**
+	 * @return the time spent tokenizing, including the time spent in the cell consumers
+	 */
+	public long parseNanos() {
+		return parseNanos.get();
+	}
+
+	public double rowsPerSecond() {
+		return perSecond(rows.get());
+	}
+
+	public double charsPerSecond() {
+		return perSecond(read.get());
+	}
+
+	private double perSecond(long value) {
+		long nanos = readNanos.get() + parseNanos.get();
+		return nanos == 0 ? 0 : value * 1e9 / nanos;
+	}
+
+	/**
+	 * @return the histogram of the time blocked on each refill
+	 */
+	public Histogram readNanosHistogram() {
+		return readNanosHistogram;
+	}
+
+	/**
+	 * @return the histogram of the time spent tokenizing each buffer
+	 */
+	public Histogram parseNanosHistogram() {
+		return parseNanosHistogram;
+	}
+
+	/**
+	 * @return the histogram of the largest cell length of each buffer
+	 */
+	public Histogram cellLengthHistogram() {
+		return cellLengthHistogram;
+	}
+
+	@Override
+	public String toString() {
+		return "CsvMetrics{" +
+				"rows=" + rows +
+				", read=" + read +
+				", refills=" + refills +
+				", bufferGrowths=" + bufferGrowths +
+				", maxBufferLength=" + maxBufferLength +
+				", maxCellLength=" + maxCellLength +
+				", readNanos=" + readNanos +
+				", parseNanos=" + parseNanos +
+				'}';
+	}
+
+	/**
+	 * Histogram with power of 2 buckets, the bucket i counts the values in [2^(i-1), 2^i).
+	 */
+	public static final class Histogram {
+		private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+		public void record(long value) {
+			buckets.incrementAndGet(bucket(value));
+		}
+
+		private static int bucket(long value) {
+			return value <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(value);
+		}
+
+		public long count() {
+			long count = 0;
+			for (int i = 0; i < buckets.length(); i++) {
+				count += buckets.get(i);
+			}
+			return count;
+		}
+
+		/**
+		 * @param bucket the bucket index
+		 * @return the number of values in the bucket
+		 */
+		public long bucketCount(int bucket) {
+			return buckets.get(bucket);
+		}
+
+		/**
+		 * @param percentile between 0 and 1
+		 * @return the upper bound of the bucket holding the percentile, 0 if empty
+		 */
+		public long percentile(double percentile) {
+			long count = count();
+			if (count == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(percentile * count);
+			long seen = 0;
+			for (int i = 0; i < buckets.length(); i++) {
+				seen += buckets.get(i);
+				if (seen >= rank) {
+					return i == 0 ? 0 : i == 63 ? Long.MAX_VALUE : (1L << i) - 1;
+				}
+			}
+			return Long.MAX_VALUE;
+		}
+	}
+}
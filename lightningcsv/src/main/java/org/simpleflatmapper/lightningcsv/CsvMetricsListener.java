@@ -0,0 +1,39 @@
+package org.simpleflatmapper.lightningcsv;
+
+/**
+ * Listener of the parsing activity, see {@link CsvParser.AbstractDSL#metrics(CsvMetricsListener)}.
+ * <p>
+ * The listener is called on the buffer refills and at the end of the parsing only, the tokenizer loop is not
+ * instrumented. The rows and cell lengths are counted by a CellConsumer wrapper when a listener is set.
+ * <p>
+ * The listener needs to be thread safe if it is shared between parsers or used with {@link CsvParser.AbstractDSL#parallel(int)}.
+ *
+ * @see CsvMetrics
+ */
+public interface CsvMetricsListener {
+
+	/**
+	 * called after a buffer refill.
+	 * @param read the number of chars, or bytes for the byte level parsing, read. 0 at the end of the content
+	 * @param readNanos the time blocked on the refill
+	 * @param parseNanos the time spent tokenizing the buffer since the previous refill
+	 * @param rows the number of rows since the previous refill
+	 * @param maxCellLength the length of the largest cell since the previous refill
+	 * @param bufferLength the length of the buffer after the refill
+	 */
+	void refill(int read, long readNanos, long parseNanos, long rows, int maxCellLength, int bufferLength);
+
+	/**
+	 * called when the buffer grows to fit a row, or a cell, larger than the buffer.
+	 * @param oldLength the length before
+	 * @param newLength the new length
+	 */
+	void bufferGrowth(int oldLength, int newLength);
+
+	/**
+	 * called at the end of the parsing.
+	 * @param rows the number of rows since the last refill
+	 * @param maxCellLength the length of the largest cell since the last refill
+	 */
+	void end(long rows, int maxCellLength);
+}
@@ -3,23 +3,38 @@ package org.simpleflatmapper.lightningcsv;
 import org.simpleflatmapper.lightningcsv.parser.CharConsumerFactory;
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ByteArrayBuffer;
 import org.simpleflatmapper.lightningcsv.parser.CellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.CharBufferPool;
 import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ConstantByteArrayBuffer;
+import org.simpleflatmapper.lightningcsv.parser.FixedWidthCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.InputStreamByteArrayBuffer;
+import org.simpleflatmapper.lightningcsv.parser.MappedFileCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.NoopCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.NullCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ProjectionCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.PushCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.ReaderCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.StringInterner;
 import org.simpleflatmapper.lightningcsv.parser.TextFormat;
 import org.simpleflatmapper.lightningcsv.parser.TrimCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.UnescapeCellPreProcessor;
+import org.simpleflatmapper.lightningcsv.parser.Utf8ByteConsumer;
 import org.simpleflatmapper.lightningcsv.parser.YamlCellPreProcessor;
+import org.simpleflatmapper.util.ParallelInputStreamReader;
 import org.simpleflatmapper.util.ParallelReader;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.CheckedConsumer;
 
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.nio.channels.Channels;
@@ -95,6 +110,7 @@ public final class CsvParser {
 	public static final int DEFAULT_MAX_BUFFER_SIZE_8M = 1 << 23;
 	public static final int DEFAULT_BUFFER_SIZE_4K = 1024 * 4;
 	public static final Charset DEFAULT_CHARSET = Charset.defaultCharset();
+	private static final Charset UTF8 = Charset.forName("UTF-8");
 
 	
 	private static final CharConsumerFactory CHAR_CONSUMER_FACTORY = CharConsumerFactory.newInstance();
@@ -131,6 +147,30 @@ public final class CsvParser {
 		return dsl().limit(limit);
 	}
 
+	/**
+	 * infer the separator, quote, escape and header row from the first chars of the file.
+	 * Use {@link CsvDialect#applyTo} to configure a DSL with it, {@link CsvDialect#hasHeader} tells if the first row is a header.
+	 * @param file the file
+	 * @return the dialect of the file
+	 * @throws IOException if an io error occurs
+	 * @see CsvDialect
+	 */
+	public static CsvDialect sniff(File file) throws IOException {
+		return CsvDialect.sniff(file);
+	}
+
+	/**
+	 * infer the separator, quote, escape and header row from the first chars of the reader, the reader is reset to its current position.
+	 * Use {@link CsvDialect#applyTo} to configure a DSL with it, {@link CsvDialect#hasHeader} tells if the first row is a header.
+	 * @param reader the reader, needs to support mark
+	 * @return the dialect of the content
+	 * @throws IOException if an io error occurs
+	 * @see CsvDialect
+	 */
+	public static CsvDialect sniff(Reader reader) throws IOException {
+		return CsvDialect.sniff(reader);
+	}
+
 	/**
 	 * @param reader the reader
 	 * @return a csv reader based on the default setup.
@@ -192,6 +232,10 @@ public final class CsvParser {
 		return dsl().parse(file, cellConsumer);
 	}
 
+	private static boolean isParallel(Reader reader) {
+		return reader instanceof ParallelReader || reader instanceof ParallelInputStreamReader;
+	}
+
 	private static Reader newReader(File file) throws IOException {
 		return newReader(file, DEFAULT_CHARSET);
 	}
@@ -211,7 +255,7 @@ public final class CsvParser {
 		return newReaderJava6(file, charset);
 	}
 
-	private static void safeClose(Closeable closeable) {
+	static void safeClose(Closeable closeable) {
 		if (closeable == null) return;
 		try {
 			closeable.close();
@@ -220,6 +264,25 @@ public final class CsvParser {
 		}
 	}
 
+	static FileChannel newFileChannel(File file) throws IOException {
+		//IFJAVA8_START
+		if (true) {
+			return FileChannel.open(file.toPath());
+		}
+		//IFJAVA8_END
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			return randomAccessFile.getChannel();
+		} catch(RuntimeException t) {
+			safeClose(randomAccessFile);
+			throw t;
+		} catch(Error t) {
+			safeClose(randomAccessFile);
+			throw t;
+		}
+	}
+
 	private static Reader newReaderJava6(File file, Charset charset) throws IOException {
 		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
 		FileChannel fileChannel = null;
@@ -271,6 +334,15 @@ public final class CsvParser {
 		protected final boolean yamlComment;
 		protected final boolean parallelReader;
 		protected final boolean specialisedCharConsumer;
+		protected final boolean mmap;
+		protected final int parallelism;
+		protected final boolean parallelOrdered;
+		protected final int[] columns;
+		protected final int[] fixedWidths;
+		protected final ParallelReader.ThreadMode parallelThreadMode;
+		protected final int[] internedColumns;
+		protected final CsvMetricsListener metricsListener;
+		protected final CharBufferPool bufferPool;
 		
 		protected enum StringPostProcessing { NONE, UNESCAPE, TRIM_AND_UNESCAPE}
 
@@ -287,9 +359,21 @@ public final class CsvParser {
 			yamlComment = false;
 			parallelReader = false;
 			specialisedCharConsumer = true;
-		}
-
-		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
+			mmap = false;
+			parallelism = 0;
+			parallelOrdered = true;
+			columns = null;
+			fixedWidths = null;
+			parallelThreadMode = ParallelReader.ThreadMode.DEFAULT;
+			internedColumns = null;
+			metricsListener = null;
+			bufferPool = null;
+		}
+
+		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			if (columns != null && yamlComment) {
+				throw new IllegalStateException("The columns projection is not supported with yaml comments");
+			}
 			this.separatorChar = separatorChar;
 			this.quoteChar = quoteChar;
 			this.escapeChar = escapeChar;
@@ -302,6 +386,15 @@ public final class CsvParser {
 			this.yamlComment = yamlComment;
 			this.parallelReader = parallelReader;
 			this.specialisedCharConsumer = specialisedCharConsumer;
+			this.mmap = mmap;
+			this.parallelism = parallelism;
+			this.parallelOrdered = parallelOrdered;
+			this.columns = columns;
+			this.fixedWidths = fixedWidths;
+			this.parallelThreadMode = parallelThreadMode;
+			this.internedColumns = internedColumns;
+			this.metricsListener = metricsListener;
+			this.bufferPool = bufferPool;
 		}
 
 		/**
@@ -324,9 +417,29 @@ public final class CsvParser {
 			return parse(charBuffer(content), cellConsumer);
 		}
 
+		/**
+		 * Parse the utf-8 - or ascii - content of the inputStream at the byte level, without going through a Reader.
+		 * The cells are decoded only if the cellConsumer is not a {@link org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer}.
+		 * The separator, quote and escape chars need to be ascii.
+		 * @param inputStream the utf-8 encoded content
+		 * @param cellConsumer the callback object for each cell value
+		 * @param <CC> the type of the cell consumer
+		 * @return cellConsumer
+		 * @throws IOException if and error occurs in the inputStream
+		 */
+		public final <CC extends CellConsumer> CC parse(InputStream inputStream, CC cellConsumer) throws IOException {
+			return parse(reader(inputStream), cellConsumer);
+		}
+
+		public final <CC extends CellConsumer> CC parse(byte[] content, CC cellConsumer) throws IOException {
+			return parse(reader(content), cellConsumer);
+		}
+
 		private <CC extends CellConsumer> CC parse(CharBuffer charBuffer, CC cellConsumer) throws IOException {
-			CsvReader csvreader = reader(charBuffer);
+			return parse(reader(charBuffer), cellConsumer);
+		}
 
+		private <CC extends CellConsumer> CC parse(CsvReader csvreader, CC cellConsumer) throws IOException {
 			if (limit == -1) {
 				return csvreader.parseAll(cellConsumer);
 			} else {
@@ -335,7 +448,16 @@ public final class CsvParser {
 		}
 
 		public final <CC extends CellConsumer> CC parse(File file, CC cellConsumer) throws IOException {
-			Reader reader = newReader(file);
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				MappedFileCharBuffer charBuffer = mappedFileCharBuffer(file);
+				try {
+					return parse(charBuffer, cellConsumer);
+				} finally {
+					safeClose(charBuffer);
+				}
+			}
+			Reader reader = openReader(file, compression);
 			try {
 				return parse(reader, cellConsumer);
 			} finally {
@@ -350,7 +472,7 @@ public final class CsvParser {
 		 * @throws IOException if an io error occurs
 		 */
 		public final CsvReader reader(Reader reader) throws IOException {
-			return reader(charBuffer(parallelReader ? new ParallelReader(reader) : reader));
+			return reader(charBuffer(parallelReader && !isParallel(reader) ? new ParallelReader(reader, parallelThreadMode) : reader));
 		}
 
 		public final CsvReader reader(CharSequence content) throws IOException {
@@ -361,16 +483,82 @@ public final class CsvParser {
 			return reader(charBuffer(content));
 		}
 
+		/**
+		 * Create a CsvReader parsing the utf-8 - or ascii - content of the inputStream at the byte level.
+		 * The reader does not expose a CharBuffer.
+		 * @param inputStream the utf-8 encoded content
+		 * @return a CsvReader on the inputStream.
+		 * @throws IOException if an io error occurs
+		 * @see #parse(InputStream, CellConsumer)
+		 */
+		public final CsvReader reader(InputStream inputStream) throws IOException {
+			if (fixedWidths != null) {
+				return reader(new InputStreamReader(inputStream, UTF8));
+			}
+			return reader(utf8ByteConsumer(new InputStreamByteArrayBuffer(bufferSize, maxBufferSize, inputStream)));
+		}
+
+		public final CsvReader reader(byte[] content) throws IOException {
+			if (fixedWidths != null) {
+				return reader(new String(content, UTF8));
+			}
+			return reader(utf8ByteConsumer(new ConstantByteArrayBuffer(content)));
+		}
+
 		private CsvReader reader(CharBuffer charBuffer) throws IOException {
-			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper);
+			return reader(charConsumer(charBuffer));
+		}
+
+		private CsvReader reader(AbstractCharConsumer charConsumer) throws IOException {
+			CsvReader csvReader = new CsvReader(charConsumer, cellConsumerWrapper, internedColumns);
 			csvReader.skipRows(skip);
 			return csvReader;
 		}
 
+		/**
+		 * Create a parser that is fed with the content as it arrives instead of reading it, see {@link CsvPushParser}.
+		 * The bytes are decoded with the default charset.
+		 * @param cellConsumer the callback object for each cell value
+		 * @param <CC> the type of the cell consumer
+		 * @return a push parser calling back the cellConsumer
+		 */
+		public final <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer) {
+			return pushParser(cellConsumer, DEFAULT_CHARSET);
+		}
+
+		public final <CC extends CellConsumer> CsvPushParser<CC> pushParser(CC cellConsumer, Charset charset) {
+			PushCharBuffer charBuffer = new PushCharBuffer(bufferSize, maxBufferSize);
+			CellConsumer wrappedCellConsumer = cellConsumerWrapper != null ? cellConsumerWrapper.apply(cellConsumer) : cellConsumer;
+			return new CsvPushParser<CC>(charBuffer, charConsumer(charBuffer), wrappedCellConsumer, cellConsumer, charset, skip);
+		}
+
 		protected CharBuffer charBuffer(Reader reader) throws IOException {
+			if (bufferPool != null) {
+				return new ReaderCharBuffer(bufferSize, maxBufferSize, reader, bufferPool);
+			}
 			return new ReaderCharBuffer(bufferSize, maxBufferSize, reader);
 		}
 
+		protected MappedFileCharBuffer mappedFileCharBuffer(File file) throws IOException {
+			FileChannel fileChannel = newFileChannel(file);
+			try {
+				return new MappedFileCharBuffer(fileChannel, DEFAULT_CHARSET, bufferSize, maxBufferSize);
+			} catch (IOException e) {
+				safeClose(fileChannel);
+				throw e;
+			}
+		}
+
+		private CloseableCsvReader mappedReader(File file) throws IOException {
+			MappedFileCharBuffer charBuffer = mappedFileCharBuffer(file);
+			try {
+				return new CloseableCsvReader(reader(charBuffer), charBuffer);
+			} catch (IOException e) {
+				safeClose(charBuffer);
+				throw e;
+			}
+		}
+
 		protected CharBuffer charBuffer(CharSequence content) throws IOException {
 			return new CharSequenceCharBuffer(content);
 		}
@@ -379,8 +567,173 @@ public final class CsvParser {
 			return new CharSequenceCharBuffer(content);
 		}
 
+		/**
+		 * Open a reader on the file. A compressed file - see {@link Compression} - is decompressed in the thread fetching the content,
+		 * the blocks of a BGZF file on the shared block executor, and decoded and parsed in the calling thread.
+		 */
+		final Reader openReader(File file) throws IOException {
+			return openReader(file, Compression.detect(file));
+		}
+
+		final Reader openReader(File file, Compression compression) throws IOException {
+			if (compression != Compression.NONE) {
+				return new ParallelInputStreamReader(compression.open(file, Compression.blockExecutor()), DEFAULT_CHARSET, parallelThreadMode);
+			}
+			if (parallelReader) {
+				// fetch the raw bytes in the other thread and decode them straight into the parser buffer
+				return new ParallelInputStreamReader(new FileInputStream(file), DEFAULT_CHARSET, parallelThreadMode);
+			}
+			return newReader(file);
+		}
+
+		final boolean useMmap(Compression compression) {
+			return mmap && compression == Compression.NONE;
+		}
+
 		public final CloseableCsvReader reader(File file) throws IOException {
-			return onReader(file, this, CREATE_CLOSEABLE_CSV_READER);
+			return reader(file, Compression.detect(file));
+		}
+
+		private CloseableCsvReader reader(File file, Compression compression) throws IOException {
+			if (useMmap(compression)) {
+				return mappedReader(file);
+			}
+			return onReader(openReader(file, compression), this, CREATE_CLOSEABLE_CSV_READER);
+		}
+
+		/**
+		 * Build an index of the byte offset of every rowInterval rows of the file.
+		 * The file is read at the byte level, see {@link CsvIndex} for the supported charsets.
+		 * @param file the file
+		 * @param rowInterval the number of rows between 2 recorded offsets
+		 * @return the index
+		 * @throws IOException if an io error occurs
+		 */
+		public final CsvIndex index(File file, int rowInterval) throws IOException {
+			if (fixedWidths != null) {
+				throw new UnsupportedOperationException("Index not supported on fixed width content");
+			}
+			if (Compression.detect(file) != Compression.NONE) {
+				throw new UnsupportedOperationException("Index not supported on compressed file " + file);
+			}
+			return CsvIndex.build(file, getTextFormat(), rowInterval, bufferSize, maxBufferSize);
+		}
+
+		/**
+		 * Create a CsvReader on the file starting at the specified row, only the rows between the closest indexed row and rowNumber are tokenized.
+		 * The skip setting is ignored.
+		 * @param file the file
+		 * @param index the index of the file
+		 * @param rowNumber the first row to read, 0 being the first row of the file
+		 * @return a CsvReader on the file.
+		 * @throws IOException if an io error occurs
+		 */
+		public final CloseableCsvReader seek(File file, CsvIndex index, long rowNumber) throws IOException {
+			if (!index.isUpToDate(file)) {
+				throw new IllegalArgumentException("The index is out of date for " + file);
+			}
+			long offset = index.indexedOffset(rowNumber);
+			int rowsToSkip = index.rowsFromIndexedOffset(rowNumber);
+
+			FileChannel fileChannel = newFileChannel(file);
+			try {
+				if (offset > 0 && isCarriageReturn(fileChannel, offset - 1)) {
+					// start on the \r and skip the empty row so the \n that might follow is not read as a row
+					offset--;
+					rowsToSkip++;
+				}
+				CharBuffer charBuffer;
+				if (mmap) {
+					charBuffer = new MappedFileCharBuffer(fileChannel, DEFAULT_CHARSET, bufferSize, maxBufferSize, MappedFileCharBuffer.DEFAULT_MAPPING_SIZE, offset, fileChannel.size());
+				} else {
+					charBuffer = charBuffer(Channels.newReader(fileChannel.position(offset), DEFAULT_CHARSET.newDecoder(), -1));
+				}
+				CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper, internedColumns);
+				csvReader.skipRows(rowsToSkip);
+				return new CloseableCsvReader(csvReader, fileChannel);
+			} catch (IOException e) {
+				safeClose(fileChannel);
+				throw e;
+			}
+		}
+
+		/**
+		 * Create a CsvReader on the file using the index to skip the number of rows set by skip.
+		 * @param file the file
+		 * @param index the index of the file
+		 * @return a CsvReader on the file.
+		 * @throws IOException if an io error occurs
+		 * @see #seek(File, CsvIndex, long)
+		 */
+		public final CloseableCsvReader reader(File file, CsvIndex index) throws IOException {
+			return seek(file, index, skip);
+		}
+
+		/**
+		 * Create a ResumableCsvReader on the file, the skip setting is applied and counted in the row numbers.
+		 * @param file the file
+		 * @return a reader tracking its checkpoint
+		 * @throws IOException if an io error occurs
+		 * @see #resume(File, CsvCheckpoint)
+		 */
+		public final ResumableCsvReader resumableReader(File file) throws IOException {
+			ResumableCsvReader reader = resume(file, CsvCheckpoint.START);
+			try {
+				for(int i = 0; i < skip; i++) {
+					reader.parseRow(NullCellConsumer.INSTANCE);
+				}
+			} catch (IOException e) {
+				safeClose(reader);
+				throw e;
+			}
+			return reader;
+		}
+
+		/**
+		 * Create a ResumableCsvReader on the file starting at the checkpoint, the content before the checkpoint is not read.
+		 * The skip setting is ignored. The file is parsed at the byte level and needs to be utf-8 or an ascii compatible single byte charset.
+		 * @param file the file
+		 * @param checkpoint a checkpoint taken on the same file
+		 * @return a reader tracking its checkpoint
+		 * @throws IOException if an io error occurs
+		 * @throws IllegalArgumentException if the checkpoint is past the end of the file
+		 */
+		public final ResumableCsvReader resume(File file, CsvCheckpoint checkpoint) throws IOException {
+			if (fixedWidths != null) {
+				throw new UnsupportedOperationException("Checkpoint not supported on fixed width content");
+			}
+			if (Compression.detect(file) != Compression.NONE) {
+				throw new UnsupportedOperationException("Checkpoint not supported on compressed file " + file);
+			}
+			long offset = checkpoint.byteOffset();
+			int rowsToSkip = 0;
+
+			FileChannel fileChannel = newFileChannel(file);
+			try {
+				if (offset > fileChannel.size()) {
+					throw new IllegalArgumentException(checkpoint + " is past the end of " + file);
+				}
+				if (offset > 0 && isCarriageReturn(fileChannel, offset - 1)) {
+					// start on the \r and skip the empty row so the \n that might follow is not read as a row
+					offset--;
+					rowsToSkip++;
+				}
+				InputStreamByteArrayBuffer byteBuffer = new InputStreamByteArrayBuffer(bufferSize, maxBufferSize, Channels.newInputStream(fileChannel.position(offset)));
+				CsvReader csvReader = new CsvReader(utf8ByteConsumer(byteBuffer), cellConsumerWrapper, internedColumns);
+				csvReader.skipRows(rowsToSkip);
+				return new ResumableCsvReader(csvReader, byteBuffer, fileChannel, offset, checkpoint.rowNumber());
+			} catch (IOException e) {
+				safeClose(fileChannel);
+				throw e;
+			} catch (RuntimeException e) {
+				safeClose(fileChannel);
+				throw e;
+			}
+		}
+
+		private boolean isCarriageReturn(FileChannel fileChannel, long position) throws IOException {
+			java.nio.ByteBuffer byteBuffer = java.nio.ByteBuffer.allocate(1);
+			return fileChannel.read(byteBuffer, position) == 1 && byteBuffer.get(0) == '\r';
 		}
 
 		public final Iterator<String[]> iterator(Reader reader) throws IOException {
@@ -395,8 +748,17 @@ public final class CsvParser {
 			return reader(content).iterator();
 		}
 
+		public final Iterator<String[]> iterator(InputStream inputStream) throws IOException {
+			return reader(inputStream).iterator();
+		}
+
 		public final CloseableIterator<String[]> iterator(File file) throws IOException {
-			return onReader(file, this, CREATE_CLOSEABLE_ITERATOR);
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				CloseableCsvReader csvReader = mappedReader(file);
+				return new CloseableIterator<String[]>(csvReader.iterator(), csvReader);
+			}
+			return onReader(openReader(file, compression), this, CREATE_CLOSEABLE_ITERATOR);
 		}
 
 		public final Iterator<Row> rowIterator(Reader reader) throws IOException {
@@ -412,7 +774,17 @@ public final class CsvParser {
 		}
 
 		public final CloseableIterator<Row> rowIterator(File file) throws IOException {
-			return onReader(file, this, CREATE_CLOSEABLE_ROW_ITERATOR);
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				CloseableCsvReader csvReader = mappedReader(file);
+				try {
+					return new CloseableIterator<Row>(csvReader.rowIterator(), csvReader);
+				} catch (IOException e) {
+					safeClose(csvReader);
+					throw e;
+				}
+			}
+			return onReader(openReader(file, compression), this, CREATE_CLOSEABLE_ROW_ITERATOR);
 		}
 		
 
@@ -428,8 +800,16 @@ public final class CsvParser {
 			return reader(content).read(consumer);
 		}
 
+		public final <H extends CheckedConsumer<String[]>> H forEach(InputStream inputStream, H consumer) throws IOException {
+			return reader(inputStream).read(consumer);
+		}
+
 		public final <H extends CheckedConsumer<String[]>> H forEach(File file, H consumer) throws IOException {
-			CloseableCsvReader csvReader = reader(file);
+			Compression compression = Compression.detect(file);
+			if (parallelism > 1 && compression == Compression.NONE && ParallelCsvFileParser.supports(this, DEFAULT_CHARSET)) {
+				return new ParallelCsvFileParser(this, DEFAULT_CHARSET, parallelism, parallelOrdered).forEach(file, consumer);
+			}
+			CloseableCsvReader csvReader = reader(file, compression);
 			try {
 				csvReader.read(consumer);
 			} finally {
@@ -438,6 +818,36 @@ public final class CsvParser {
 			return consumer;
 		}
 
+		/**
+		 * parse the content calling back the consumer with a reused {@link RowView} instead of a String[] per row.
+		 * @param reader the reader
+		 * @param consumer the row view consumer
+		 * @param <H> the type of the consumer
+		 * @return the consumer
+		 * @throws IOException if an io error occurs
+		 */
+		public final <H extends CheckedConsumer<? super RowView>> H forEachView(Reader reader, H consumer) throws IOException {
+			return reader(reader).readViews(consumer);
+		}
+
+		public final <H extends CheckedConsumer<? super RowView>> H forEachView(CharSequence content, H consumer) throws IOException {
+			return reader(content).readViews(consumer);
+		}
+
+		public final <H extends CheckedConsumer<? super RowView>> H forEachView(String content, H consumer) throws IOException {
+			return reader(content).readViews(consumer);
+		}
+
+		public final <H extends CheckedConsumer<? super RowView>> H forEachView(File file, H consumer) throws IOException {
+			CloseableCsvReader csvReader = reader(file);
+			try {
+				csvReader.readViews(consumer);
+			} finally {
+				csvReader.close();
+			}
+			return consumer;
+		}
+
 		//IFJAVA8_START
 		public final Stream<String[]> stream(Reader reader) throws IOException {
 			return reader(reader).stream();
@@ -471,11 +881,25 @@ public final class CsvParser {
 		//IFJAVA8_START
 		@Deprecated
 		public final Stream<String[]> stream(File file) throws IOException {
-			return onReader(file, this, (reader, dsl) -> dsl.stream(reader).onClose(() -> { try { reader.close(); } catch (IOException e) {} }));
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				CloseableCsvReader csvReader = mappedReader(file);
+				return csvReader.stream().onClose(() -> safeClose(csvReader));
+			}
+			return onReader(openReader(file, compression), this, (reader, dsl) -> dsl.stream(reader).onClose(() -> { try { reader.close(); } catch (IOException e) {} }));
 		}
 
 		public final <R> R stream(File file, Function<Stream<String[]>, R> function) throws IOException {
-			Reader reader = newReader(file);
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				CloseableCsvReader csvReader = mappedReader(file);
+				try {
+					return function.apply(csvReader.stream());
+				} finally {
+					safeClose(csvReader);
+				}
+			}
+			Reader reader = openReader(file, compression);
 			try {
 				return function.apply(stream(reader));
 			} catch(IOException ioe) {
@@ -485,7 +909,16 @@ public final class CsvParser {
 		}
 
 		public final <R> R rowStream(File file, Function<Stream<Row>, R> function) throws IOException {
-			Reader reader = newReader(file);
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				CloseableCsvReader csvReader = mappedReader(file);
+				try {
+					return function.apply(csvReader.rowStream());
+				} finally {
+					safeClose(csvReader);
+				}
+			}
+			Reader reader = openReader(file, compression);
 			try {
 				return function.apply(rowStream(reader));
 			} catch(IOException ioe) {
@@ -496,13 +929,42 @@ public final class CsvParser {
 		//IFJAVA8_END
 
 		protected final AbstractCharConsumer charConsumer(CharBuffer charBuffer) {
+			AbstractCharConsumer charConsumer = newCharConsumer(charBuffer);
+			return metricsListener != null ? new MetricsCharConsumer(charConsumer, metricsListener) : charConsumer;
+		}
+
+		private AbstractCharConsumer newCharConsumer(CharBuffer charBuffer) {
+			if (fixedWidths != null) {
+				return fixedWidthCharConsumer(charBuffer);
+			}
 			final TextFormat textFormat = getTextFormat();
 			CellPreProcessor cellTransformer = getCellTransformer(textFormat, stringPostProcessing);
-			
+			if (columns != null) {
+				cellTransformer = new ProjectionCellPreProcessor(cellTransformer, columns);
+			}
+
 			return CHAR_CONSUMER_FACTORY.newCharConsumer(textFormat, charBuffer, cellTransformer, specialisedCharConsumer);
 		}
 
 
+		private AbstractCharConsumer fixedWidthCharConsumer(CharBuffer charBuffer) {
+			CellPreProcessor cellTransformer = stringPostProcessing == StringPostProcessing.NONE
+					? NoopCellPreProcessor.INSTANCE
+					: new TrimCellPreProcessor(NoopCellPreProcessor.INSTANCE);
+			if (columns != null) {
+				cellTransformer = new ProjectionCellPreProcessor(cellTransformer, columns);
+			}
+			return new FixedWidthCharConsumer(charBuffer, fixedWidths, cellTransformer);
+		}
+
+		protected final AbstractCharConsumer utf8ByteConsumer(ByteArrayBuffer byteArrayBuffer) {
+			AbstractCharConsumer charConsumer = new Utf8ByteConsumer(byteArrayBuffer, getTextFormat(),
+					stringPostProcessing == StringPostProcessing.TRIM_AND_UNESCAPE,
+					stringPostProcessing != StringPostProcessing.NONE,
+					columns);
+			return metricsListener != null ? new MetricsCharConsumer(charConsumer, metricsListener) : charConsumer;
+		}
+
 		protected TextFormat getTextFormat() {
 			return new TextFormat(separatorChar, quoteChar, escapeChar, yamlComment);
 		}
@@ -555,7 +1017,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D separator(char c) {
-			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
@@ -564,7 +1026,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D quote(char c) {
-			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
@@ -573,7 +1035,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D escape(char c) {
-			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
@@ -582,7 +1044,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D bufferSize(int size) {
-			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
@@ -591,7 +1053,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D skip(int skip) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
@@ -600,7 +1062,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D limit(int limit) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 
@@ -611,12 +1073,33 @@ public final class CsvParser {
 		 * </p><p>
 		 * On java 6 and 7 it will create a shared ExecutorService with the number of threads set to the number of cores if it is greater than 1, otherwise it will create a new Thread every time.
 		 * </p><p>
+		 * When parsing a File the bytes are fetched in the other thread by a org.simpleflatmapper.util.ParallelInputStreamReader and decoded in the parsing thread.
+		 * </p><p>
 		 * If you wish to customize the org.simpleflatmapper.util.ParallelReader further for example to specify which Executor to user or the size of the ring buffer or read buffer you will need to wrap the Reader manually.
 		 * </p>
 		 * @return this
 		 */
 		public D parallelReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * on parsing from a reader the Reader will be fetched from a thread of the specified mode.
+		 * <p>
+		 * With {@link ParallelReader.ThreadMode#VIRTUAL} each reader is fetched from a new virtual thread that blocks instead of spinning when the ring buffer is full,
+		 * suited to a large number of concurrent parsing. It requires java 21 or over.
+		 * </p>
+		 * @param threadMode the thread mode
+		 * @return this
+		 * @throws UnsupportedOperationException if the thread mode is VIRTUAL and virtual threads are not available
+		 * @see #parallelReader()
+		 * @see ParallelReader#isVirtualThreadSupported()
+		 */
+		public D parallelReader(ParallelReader.ThreadMode threadMode) {
+			if (threadMode == ParallelReader.ThreadMode.VIRTUAL && !ParallelReader.isVirtualThreadSupported()) {
+				throw new UnsupportedOperationException("Virtual threads are not available on java " + System.getProperty("java.version"));
+			}
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, threadMode, internedColumns, metricsListener, bufferPool);
 		}
 		
 		/**
@@ -624,11 +1107,109 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D serialReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 		
+		/**
+		 * on parsing from a file the file will be mapped in memory and decoded straight into the char buffer instead of going through a Reader.
+		 * Reader based parsing are not affected.
+		 * @return this
+		 */
+		public D mmap() {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, true, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * parse files in parallel with the specified number of chunks in flight, the rows being delivered in the file order.
+		 * <p>
+		 * The file is split in byte ranges that are resynchronised on a row boundary by counting the quotes, that assumes
+		 * the quote char only appears around a cell or doubled inside a quoted cell, and that the charset encodes the quote and end of line on one byte.
+		 * The consumer is called on the calling thread. Only affects forEach on File, falls back to serial parsing for yaml comments, an escape char different from the quote char or a multi-bytes charset.
+		 * </p>
+		 * @param parallelism the number of chunks parsed concurrently
+		 * @return this
+		 */
+		public D parallel(int parallelism) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, true, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * same as {@link #parallel(int)} but the rows of a chunk are delivered as soon as it is parsed, the order of the rows is only guaranteed within a chunk.
+		 * @param parallelism the number of chunks parsed concurrently
+		 * @return this
+		 */
+		public D parallelUnordered(int parallelism) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, false, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * only parse the specified columns, the cells of the other columns are skipped by the tokenizer without being
+		 * unescaped or converted to a String.
+		 * The rows then only contain the cells of the specified columns in the file order, the header row included.
+		 * A last row without end of line that has no cell in the specified columns is not reported.
+		 * @param columns the 0 based indexes of the columns to keep
+		 * @return this
+		 * @throws IllegalStateException if the yaml comments are enabled, the projection is not supported with them
+		 */
+		public D columns(int... columns) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns.clone(), fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * parse fixed width content instead of csv, each line is split in cells of the specified widths.
+		 * The separator, quote and yaml comment settings are ignored and the cells are trimmed of their padding spaces
+		 * unless unescaping is disabled. Empty lines are skipped.
+		 * The byte level parsing decodes the content as utf-8 through a Reader, the parallel parsing and the index are not supported.
+		 * @param widths the width of each column
+		 * @return this
+		 */
+		public D fixedWidth(int... widths) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, widths.clone(), parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * share the String instances of the repeated values of the specified columns, see {@link StringInterner}.
+		 * Suited to low cardinality columns like country codes or status, it reduces the retained heap when the rows are buffered.
+		 * The indexes are the indexes of the cells in the row after the projection.
+		 * @param internedColumns the 0 based indexes of the columns to intern, all the columns if none specified
+		 * @return this
+		 */
+		public D internStrings(int... internedColumns) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns.clone(), metricsListener, bufferPool);
+		}
+
+		/**
+		 * report the parsing activity to the listener, see {@link CsvMetrics} for a default implementation.
+		 * The listener is called on each buffer refill and at the end of the parsing, it needs to be thread safe if the dsl is used concurrently or with {@link #parallel(int)}.
+		 * @param metricsListener the listener
+		 * @return this
+		 */
+		public D metrics(CsvMetricsListener metricsListener) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * acquire the buffers of the Reader based parsing from the pool, and return them once the content is parsed or the reader closed.
+		 * A buffer that had to grow for a large cell is recycled at its new size instead of being reallocated by the next parse.
+		 * The row views and the cell consumers must not retain the buffer after the parsing.
+		 * @param bufferPool the pool, can be shared between dsl
+		 * @return this
+		 * @see #pooledBuffers()
+		 */
+		public D bufferPool(CharBufferPool bufferPool) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
+		}
+
+		/**
+		 * use the pool shared by the process, see {@link #bufferPool(CharBufferPool)}.
+		 * @return this
+		 */
+		public D pooledBuffers() {
+			return bufferPool(CharBufferPool.shared());
+		}
+
 		public D disableSpecialisedCharConsumer() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 		
 		/**
@@ -637,11 +1218,11 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D maxBufferSize(int maxBufferSize) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 
-		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer);
+		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool);
 
 
 	}
@@ -654,20 +1235,21 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
         }
 
 		/**
 		 * will parse line starting with # as yaml comment.
 		 * comments line will be ignored unless using the special foreach call.
 		 * @return this
+		 * @throws IllegalStateException if columns are specified
 		 */
 		public DSLYamlComment withYamlComments() {
 			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing,
@@ -678,13 +1260,14 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
 		 * will parse line starting with # as yaml comment.
 		 * comments line will be come as a row of 1 cell.
 		 * @return this
+		 * @throws IllegalStateException if columns are specified
 		 */
 		public DSLYamlComment withYamlCommentsAsCell() {
 			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing,
@@ -695,16 +1278,16 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 	}
@@ -712,8 +1295,8 @@ public final class CsvParser {
 
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -765,7 +1348,17 @@ public final class CsvParser {
 		}
 
 		private final CloseableCsvReader rawReader(File file) throws IOException {
-			return onReader(file, this, CREATE_CLOSEABLE_CSV_RAW_READER);
+			Compression compression = Compression.detect(file);
+			if (useMmap(compression)) {
+				MappedFileCharBuffer charBuffer = mappedFileCharBuffer(file);
+				try {
+					return new CloseableCsvReader(rawReader(charBuffer), charBuffer);
+				} catch (IOException e) {
+					safeClose(charBuffer);
+					throw e;
+				}
+			}
+			return onReader(openReader(file, compression), this, CREATE_CLOSEABLE_CSV_RAW_READER);
 		}
 
 		private static final OnReaderFactory<CloseableCsvReader, DSLYamlComment> CREATE_CLOSEABLE_CSV_RAW_READER =
@@ -779,8 +1372,8 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 	}
@@ -815,7 +1408,10 @@ public final class CsvParser {
 	}
 
 	public static <R, D extends AbstractDSL<?>> R onReader(File file, D dsl, OnReaderFactory<R, ? super D> factory) throws IOException {
-		Reader reader = newReader(file);
+		return onReader(dsl.openReader(file), dsl, factory);
+	}
+
+	private static <R, D extends AbstractDSL<?>> R onReader(Reader reader, D dsl, OnReaderFactory<R, ? super D> factory) throws IOException {
 		try {
 			return factory.apply(reader, dsl);
 		} catch(IOException ioe) {
@@ -0,0 +1,171 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.NullCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.PushCharBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Incremental csv parser fed with the content as it arrives, for non blocking io.
+ * <p>
+ * Each push parses all the complete cells and rows of the content pushed so far and calls back the CellConsumer,
+ * the partial cell at the end of the chunk is kept for the next push. {@link #finish()} needs to be called
+ * at the end of the stream to flush the last cell and row.
+ * <p>
+ * The bytes pushed with {@link #push(ByteBuffer)} are decoded with the charset of the parser, a char split across chunks is
+ * kept until the next push. The parser is not thread safe, there should be one per stream.
+ * @param <CC> the type of cell consumer
+ * @see CsvParser.AbstractDSL#pushParser(CellConsumer)
+ */
+public final class CsvPushParser<CC extends CellConsumer> {
+
+	private static final int MAX_BYTES_PER_SPLIT_CHAR = 16;
+
+	private final PushCharBuffer charBuffer;
+	private final AbstractCharConsumer consumer;
+	private final CellConsumer wrappedCellConsumer;
+	private final CC cellConsumer;
+	private final Charset charset;
+
+	private int rowsToSkip;
+
+	private CharsetDecoder decoder;
+	private java.nio.CharBuffer decodedChars;
+	private ByteBuffer splitCharBytes;
+
+	CsvPushParser(PushCharBuffer charBuffer, AbstractCharConsumer consumer, CellConsumer wrappedCellConsumer, CC cellConsumer, Charset charset, int skip) {
+		this.charBuffer = charBuffer;
+		this.consumer = consumer;
+		this.wrappedCellConsumer = wrappedCellConsumer;
+		this.cellConsumer = cellConsumer;
+		this.charset = charset;
+		this.rowsToSkip = skip;
+	}
+
+	public CC cellConsumer() {
+		return cellConsumer;
+	}
+
+	public CsvPushParser<CC> push(CharSequence content) throws IOException {
+		return push(content.toString().toCharArray());
+	}
+
+	public CsvPushParser<CC> push(char[] chars) throws IOException {
+		return push(chars, 0, chars.length);
+	}
+
+	/**
+	 * parse the chars, the array can be reused once the method returns.
+	 * @param chars the chars
+	 * @param offset the offset of the first char to parse
+	 * @param length the number of chars to parse
+	 * @return this
+	 * @throws IOException if the cell does not fit in the max buffer size
+	 */
+	public CsvPushParser<CC> push(char[] chars, int offset, int length) throws IOException {
+		charBuffer.push(chars, offset, length);
+		consume();
+		return this;
+	}
+
+	/**
+	 * decode and parse the remaining bytes of the buffer, the buffer is fully consumed when the method returns.
+	 * @param bytes the bytes
+	 * @return this
+	 */
+	public CsvPushParser<CC> push(ByteBuffer bytes) throws IOException {
+		if (decoder == null) {
+			decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			decodedChars = java.nio.CharBuffer.allocate(Math.max(charBuffer.buffer.length, 64));
+			splitCharBytes = ByteBuffer.allocate(MAX_BYTES_PER_SPLIT_CHAR);
+		}
+
+		if (splitCharBytes.position() > 0) {
+			// complete the split char with the first bytes of the chunk
+			int borrowed = Math.min(bytes.remaining(), splitCharBytes.remaining());
+			ByteBuffer head = bytes.duplicate();
+			head.limit(head.position() + borrowed);
+			splitCharBytes.put(head);
+			splitCharBytes.flip();
+			decode(splitCharBytes, false);
+			int notDecoded = splitCharBytes.remaining();
+			if (notDecoded > borrowed) {
+				// still not enough bytes to decode the char
+				bytes.position(bytes.position() + borrowed);
+				splitCharBytes.compact();
+				return this;
+			}
+			bytes.position(bytes.position() + borrowed - notDecoded);
+			splitCharBytes.clear();
+		}
+
+		decode(bytes, false);
+		if (bytes.hasRemaining()) {
+			splitCharBytes.put(bytes);
+		}
+		return this;
+	}
+
+	private void decode(ByteBuffer bytes, boolean endOfInput) throws IOException {
+		CoderResult coderResult;
+		do {
+			coderResult = decoder.decode(bytes, decodedChars, endOfInput);
+			pushDecodedChars();
+		} while (coderResult.isOverflow());
+	}
+
+	private void pushDecodedChars() throws IOException {
+		java.nio.CharBuffer decodedChars = this.decodedChars;
+		if (decodedChars.position() > 0) {
+			push(decodedChars.array(), 0, decodedChars.position());
+			decodedChars.clear();
+		}
+	}
+
+	private void consume() throws IOException {
+		final AbstractCharConsumer consumer = this.consumer;
+		for(;;) {
+			if (rowsToSkip > 0) {
+				if (consumer.consumeToNextRow(NullCellConsumer.INSTANCE)) {
+					rowsToSkip--;
+					continue;
+				}
+			} else {
+				consumer.consumeAllBuffer(wrappedCellConsumer);
+			}
+			if (!consumer.shiftAndRead(false)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * flush the last cell and row to the CellConsumer and call {@link CellConsumer#end()}.
+	 * @return the cell consumer
+	 */
+	public CC finish() throws IOException {
+		if (decoder != null) {
+			splitCharBytes.flip();
+			decode(splitCharBytes, true);
+			splitCharBytes.clear();
+			decoder.flush(decodedChars);
+			pushDecodedChars();
+		}
+		if (rowsToSkip > 0) {
+			consumer.finish(NullCellConsumer.INSTANCE);
+			wrappedCellConsumer.end();
+		} else {
+			consumer.finish(wrappedCellConsumer);
+		}
+		return cellConsumer;
+	}
+}
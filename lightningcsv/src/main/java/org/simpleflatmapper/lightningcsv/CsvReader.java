@@ -7,6 +7,7 @@ import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.NullCellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.StringInterner;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.ErrorHelper;
 import org.simpleflatmapper.util.Function;
@@ -17,6 +18,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 //IFJAVA8_START
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -30,13 +32,25 @@ public final class CsvReader implements Iterable<String[]> {
 
 	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
 
+	private final int[] internedColumns;
+
 	public CsvReader(AbstractCharConsumer charConsumer) {
 		this(charConsumer, null);
 	}
 
 	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper) {
+		this(charConsumer, cellConsumerWrapper, null);
+	}
+
+	/**
+	 * @param charConsumer the char consumer
+	 * @param cellConsumerWrapper the cell consumer wrapper, can be null
+	 * @param internedColumns the columns to intern the Strings of, all if empty, none if null. see {@link StringInterner}
+	 */
+	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, int[] internedColumns) {
 		this.consumer = charConsumer;
 		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.internedColumns = internedColumns;
 	}
 
 	/**
@@ -59,6 +73,14 @@ public final class CsvReader implements Iterable<String[]> {
 		} while(consumer.shiftAndRead(keepRow));
 
 		consumer.finish(cellConsumer);
+		consumer.release();
+	}
+
+	/**
+	 * return the buffer to its pool, the reader must not be used after.
+	 */
+	void release() {
+		consumer.release();
 	}
 
 
@@ -110,8 +132,36 @@ public final class CsvReader implements Iterable<String[]> {
 		return consumer;
 	}
 
+	/**
+	 * parse the rows calling back the consumer with a {@link RowView} on the CharBuffer, the cells are not copied into Strings.
+	 * The view is reused and only valid for the duration of the callback. Not supported on byte level parsing.
+	 * @param consumer the row view consumer
+	 * @param <RH> the type of the consumer
+	 * @return the consumer
+	 * @throws IOException if an io error occurs
+	 */
+	public <RH extends CheckedConsumer<? super RowView>> RH readViews(RH consumer) throws IOException {
+		_parseAll(wrapConsumer(RowView.cellConsumer(charBuffer(), consumer)), true);
+		return consumer;
+	}
+
+	public <RH extends CheckedConsumer<? super RowView>> RH readViews(RH consumer, int limit) throws IOException {
+		CellConsumer cellConsumer = wrapConsumer(RowView.cellConsumer(charBuffer(), consumer));
+		for(int i = 0; i < limit; i++) {
+			rawParseRow(cellConsumer, true);
+		}
+		return consumer;
+	}
+
 	private CellConsumer toCellConsumer(CheckedConsumer<String[]> consumer) {
-		return StringArrayCellConsumer.newInstance(consumer);
+		return StringArrayCellConsumer.newInstance(consumer, StringArrayCellConsumer.DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW, newStringInterner());
+	}
+
+	/**
+	 * @return a new StringInterner for the interned columns, null if the Strings are not interned
+	 */
+	public StringInterner newStringInterner() {
+		return internedColumns != null ? new StringInterner(internedColumns) : null;
 	}
 
 	public CellConsumer wrapConsumer(CellConsumer cellConsumer) {
@@ -138,17 +188,25 @@ public final class CsvReader implements Iterable<String[]> {
 	}
 
 
-	private static class CsvStringArraySpliterator implements Spliterator<String[]> {
+	private static class CsvStringArraySpliterator extends Spliterators.AbstractSpliterator<String[]> {
 		private final CsvReader reader;
+		private boolean emitted;
 
 		public CsvStringArraySpliterator(CsvReader csvReader) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
 			this.reader = csvReader;
 		}
 
 		@Override
 		public boolean tryAdvance(Consumer<? super String[]> action) {
 			try {
-				return reader.parseRow(reader.toCellConsumer(action::accept));
+				emitted = false;
+				boolean more = reader.parseRow(reader.toCellConsumer(values -> {
+					emitted = true;
+					action.accept(values);
+				}));
+				// a last row without end of line is emitted by the call to parseRow that returns false
+				return more || emitted;
 			} catch (IOException e) {
                return ErrorHelper.rethrow(e);
 			}
@@ -162,33 +220,20 @@ public final class CsvReader implements Iterable<String[]> {
                 ErrorHelper.rethrow(e);
 			}
 		}
-
-		@Override
-		public Spliterator<String[]> trySplit() {
-			return null;
-		}
-
-		@Override
-		public long estimateSize() {
-			return Long.MAX_VALUE;
-		}
-
-		@Override
-		public int characteristics() {
-			return Spliterator.ORDERED | Spliterator.NONNULL;
-		}
 	}
 
 	public Stream<Row> rowStream() {
 		return StreamSupport.stream(new CsvRowSpliterator(this), false);
 	}
 
-	private static class CsvRowSpliterator implements Spliterator<Row> {
+	private static class CsvRowSpliterator extends Spliterators.AbstractSpliterator<Row> {
 		private final CsvReader reader;
 		
 		private Row.Headers headers;
+		private boolean emitted;
 
 		public CsvRowSpliterator(CsvReader csvReader) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
 			this.reader = csvReader;
 		}
 
@@ -198,7 +243,13 @@ public final class CsvReader implements Iterable<String[]> {
 				if (headers == null) {
 					headers = headers(reader);
 				}
-				return reader.parseRow(new CellConsumerFixLengthToCheckConsumer(headers.size(), values -> action.accept(new Row(headers, values))));
+				emitted = false;
+				boolean more = reader.parseRow(new CellConsumerFixLengthToCheckConsumer(headers.size(), values -> {
+					emitted = true;
+					action.accept(new Row(headers, values));
+				}));
+				// a last row without end of line is emitted by the call to parseRow that returns false
+				return more || emitted;
 			} catch (IOException e) {
 				return ErrorHelper.rethrow(e);
 			}
@@ -215,23 +266,6 @@ public final class CsvReader implements Iterable<String[]> {
 				ErrorHelper.rethrow(e);
 			}
 		}
-
-		@Override
-		public Spliterator<Row> trySplit() {
-			return null;
-		}
-
-		@Override
-		public long estimateSize() {
-			return Long.MAX_VALUE;
-		}
-
-		@Override
-		public int characteristics() {
-			return Spliterator.ORDERED | Spliterator.NONNULL;
-		}
-		
-		
 	}
 	//IFJAVA8_END
 
@@ -0,0 +1,143 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ByteArrayBuffer;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.Utf8ByteConsumer;
+
+import java.io.IOException;
+
+/**
+ * Report the activity of the delegate to a {@link CsvMetricsListener}, the time is only measured around the refills.
+ */
+final class MetricsCharConsumer extends AbstractCharConsumer {
+
+	private final AbstractCharConsumer delegate;
+	private final ByteArrayBuffer byteBuffer;
+	private final CsvMetricsListener listener;
+	private final CountingCellConsumer countingCellConsumer = new CountingCellConsumer();
+
+	private long lastRefillEnd;
+
+	MetricsCharConsumer(AbstractCharConsumer delegate, CsvMetricsListener listener) {
+		this.delegate = delegate;
+		this.byteBuffer = delegate instanceof Utf8ByteConsumer ? ((Utf8ByteConsumer) delegate).byteBuffer() : null;
+		this.listener = listener;
+	}
+
+	@Override
+	public CharBuffer charBuffer() {
+		return delegate.charBuffer();
+	}
+
+	@Override
+	public void consumeAllBuffer(CellConsumer cellConsumer) {
+		start();
+		delegate.consumeAllBuffer(countingCellConsumer.delegateTo(cellConsumer));
+	}
+
+	@Override
+	public boolean consumeToNextRow(CellConsumer cellConsumer) {
+		start();
+		return delegate.consumeToNextRow(countingCellConsumer.delegateTo(cellConsumer));
+	}
+
+	private void start() {
+		if (lastRefillEnd == 0) {
+			lastRefillEnd = System.nanoTime();
+		}
+	}
+
+	@Override
+	public void finish(CellConsumer cellConsumer) {
+		delegate.finish(countingCellConsumer.delegateTo(cellConsumer));
+		CountingCellConsumer counter = this.countingCellConsumer;
+		listener.end(counter.rows, counter.maxCellLength);
+		counter.reset();
+	}
+
+	@Override
+	public boolean shiftAndRead(boolean keepRow) throws IOException {
+		int beforeLength = bufferLength();
+		int beforeSize = bufferSize();
+		int beforeMark = cellStartMark();
+
+		long start = System.nanoTime();
+		boolean b = delegate.shiftAndRead(keepRow);
+		long end = System.nanoTime();
+
+		int afterLength = bufferLength();
+		if (afterLength != beforeLength) {
+			listener.bufferGrowth(beforeLength, afterLength);
+		}
+		int shifted = beforeMark - cellStartMark();
+		int read = bufferSize() - (beforeSize - shifted);
+
+		CountingCellConsumer counter = this.countingCellConsumer;
+		long parseNanos = lastRefillEnd == 0 ? 0 : start - lastRefillEnd;
+		listener.refill(read, end - start, parseNanos, counter.rows, counter.maxCellLength, afterLength);
+		counter.reset();
+		lastRefillEnd = end;
+		return b;
+	}
+
+	@Override
+	public void release() {
+		delegate.release();
+	}
+
+	private int bufferLength() {
+		return byteBuffer != null ? byteBuffer.buffer.length : delegate.charBuffer().buffer.length;
+	}
+
+	private int bufferSize() {
+		return byteBuffer != null ? byteBuffer.bufferSize : delegate.charBuffer().bufferSize;
+	}
+
+	private int cellStartMark() {
+		return byteBuffer != null ? byteBuffer.cellStartMark : delegate.charBuffer().cellStartMark;
+	}
+
+	private static final class CountingCellConsumer implements CellConsumer {
+		private CellConsumer delegate;
+		private long rows;
+		private int maxCellLength;
+		private boolean rowData;
+
+		private CountingCellConsumer delegateTo(CellConsumer delegate) {
+			this.delegate = delegate;
+			return this;
+		}
+
+		private void reset() {
+			rows = 0;
+			maxCellLength = 0;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			if (length > maxCellLength) {
+				maxCellLength = length;
+			}
+			rowData = true;
+			delegate.newCell(chars, offset, length);
+		}
+
+		@Override
+		public boolean endOfRow() {
+			rows++;
+			rowData = false;
+			return delegate.endOfRow();
+		}
+
+		@Override
+		public void end() {
+			if (rowData) {
+				rows++;
+				rowData = false;
+			}
+			delegate.end();
+		}
+	}
+}
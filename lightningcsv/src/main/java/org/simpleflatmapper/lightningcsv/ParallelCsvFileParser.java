@@ -0,0 +1,287 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.MappedFileCharBuffer;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Parse a file by chunks on multiple threads.
+ * <p>
+ * The file is split in byte ranges that are scanned in parallel. The quote state at the start of a range is not known
+ * at that point so the scan records the first end of line for both quote parity, the parity of the quote count of the previous
+ * ranges then tells which one is a real row boundary.
+ * <p>
+ * Each chunk is parsed with its own CharBuffer and char consumer, the rows are delivered to the consumer on the calling thread.
+ */
+final class ParallelCsvFileParser {
+
+	private static final int MIN_CHUNK_SIZE = 1 << 16;
+	private static final int MAX_CHUNK_SIZE = 1 << 25;
+
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private final CsvParser.AbstractDSL<?> dsl;
+	private final Charset charset;
+	private final int parallelism;
+	private final boolean ordered;
+	private final Executor executor;
+
+	ParallelCsvFileParser(CsvParser.AbstractDSL<?> dsl, Charset charset, int parallelism, boolean ordered) {
+		this(dsl, charset, parallelism, ordered, ParallelReader.getDefaultExecutor());
+	}
+
+	ParallelCsvFileParser(CsvParser.AbstractDSL<?> dsl, Charset charset, int parallelism, boolean ordered, Executor executor) {
+		this.dsl = dsl;
+		this.charset = charset;
+		this.parallelism = parallelism;
+		this.ordered = ordered;
+		this.executor = executor;
+	}
+
+	/**
+	 * the row boundaries can only be found if the quote can't be escaped with another char, and if the charset encodes
+	 * the quote and end of line chars on a single byte that can't be part of another char.
+	 */
+	static boolean supports(CsvParser.AbstractDSL<?> dsl, Charset charset) {
+		return !dsl.yamlComment
+				&& dsl.fixedWidths == null
+				&& dsl.escapeChar == dsl.quoteChar
+				&& isSingleByte(dsl.quoteChar, charset)
+				&& isSingleByte((char) LF, charset)
+				&& isSingleByte((char) CR, charset);
+	}
+
+	private static boolean isSingleByte(char c, Charset charset) {
+		byte[] bytes = String.valueOf(c).getBytes(charset);
+		return bytes.length == 1 && bytes[0] == c;
+	}
+
+	public <H extends CheckedConsumer<String[]>> H forEach(File file, H consumer) throws IOException {
+		FileChannel fileChannel = CsvParser.newFileChannel(file);
+		try {
+			long[] rowBoundaries = rowBoundaries(fileChannel);
+			if (ordered) {
+				forEachOrdered(fileChannel, rowBoundaries, consumer);
+			} else {
+				forEachUnordered(fileChannel, rowBoundaries, consumer);
+			}
+		} finally {
+			CsvParser.safeClose(fileChannel);
+		}
+		return consumer;
+	}
+
+	private void forEachOrdered(FileChannel fileChannel, long[] rowBoundaries, CheckedConsumer<String[]> consumer) throws IOException {
+		int nbChunks = rowBoundaries.length - 1;
+		List<Future<List<String[]>>> chunks = new ArrayList<Future<List<String[]>>>(nbChunks);
+		try {
+			int submitted = 0;
+			for(int i = 0; i < nbChunks; i++) {
+				while (submitted < nbChunks && submitted - i < parallelism) {
+					chunks.add(submit(new ChunkParser(fileChannel, rowBoundaries[submitted], rowBoundaries[submitted + 1], submitted == 0)));
+					submitted++;
+				}
+				deliver(get(chunks.get(i)), consumer);
+				chunks.set(i, null);
+			}
+		} finally {
+			cancel(chunks);
+		}
+	}
+
+	private void forEachUnordered(FileChannel fileChannel, long[] rowBoundaries, CheckedConsumer<String[]> consumer) throws IOException {
+		int nbChunks = rowBoundaries.length - 1;
+		CompletionService<List<String[]>> completionService = new ExecutorCompletionService<List<String[]>>(executor);
+		List<Future<List<String[]>>> chunks = new ArrayList<Future<List<String[]>>>(nbChunks);
+		try {
+			int submitted = 0;
+			for(int i = 0; i < nbChunks; i++) {
+				while (submitted < nbChunks && submitted - i < parallelism) {
+					chunks.add(completionService.submit(new ChunkParser(fileChannel, rowBoundaries[submitted], rowBoundaries[submitted + 1], submitted == 0)));
+					submitted++;
+				}
+				deliver(get(take(completionService)), consumer);
+			}
+		} finally {
+			cancel(chunks);
+		}
+	}
+
+	private void deliver(List<String[]> rows, CheckedConsumer<String[]> consumer) {
+		for (String[] row : rows) {
+			try {
+				consumer.accept(row);
+			} catch (Exception e) {
+				ErrorHelper.rethrow(e);
+			}
+		}
+	}
+
+	private long[] rowBoundaries(FileChannel fileChannel) throws IOException {
+		final long size = fileChannel.size();
+
+		long chunkSize = Math.max(size / (parallelism * 4L), MIN_CHUNK_SIZE);
+		chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+		final int nbRanges = (int) Math.max(1, size / chunkSize);
+
+		List<Future<RangeScan>> scans = new ArrayList<Future<RangeScan>>(nbRanges);
+		try {
+			for(int i = 0; i < nbRanges; i++) {
+				long start = i * chunkSize;
+				long end = i == nbRanges - 1 ? size : start + chunkSize;
+				scans.add(submit(new RangeScan(fileChannel, dsl.quoteChar, start, end, size)));
+			}
+
+			long[] rowBoundaries = new long[nbRanges + 1];
+			int nbBoundaries = 0;
+			rowBoundaries[nbBoundaries++] = 0;
+
+			boolean inQuote = false;
+			for(int i = 0; i < nbRanges; i++) {
+				RangeScan scan = get(scans.get(i));
+				if (i > 0) {
+					long boundary = inQuote ? scan.endOfRowOddQuotes : scan.endOfRowEvenQuotes;
+					if (boundary != -1 && boundary < size) {
+						rowBoundaries[nbBoundaries++] = boundary;
+					}
+				}
+				inQuote ^= scan.oddQuotes;
+			}
+			rowBoundaries[nbBoundaries++] = size;
+
+			return Arrays.copyOf(rowBoundaries, nbBoundaries);
+		} finally {
+			cancel(scans);
+		}
+	}
+
+	private <T> Future<T> submit(Callable<T> callable) {
+		FutureTask<T> futureTask = new FutureTask<T>(callable);
+		executor.execute(futureTask);
+		return futureTask;
+	}
+
+	private static <T> void cancel(List<Future<T>> futures) {
+		for (Future<T> future : futures) {
+			if (future != null) {
+				// do not interrupt, that would close the shared file channel
+				future.cancel(false);
+			}
+		}
+	}
+
+	private static <T> Future<T> take(CompletionService<T> completionService) throws IOException {
+		try {
+			return completionService.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+
+	private static <T> T get(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			return ErrorHelper.<T>rethrow(cause);
+		}
+	}
+
+	private final class ChunkParser implements Callable<List<String[]>> {
+		private final FileChannel fileChannel;
+		private final long start;
+		private final long end;
+		private final boolean first;
+
+		private ChunkParser(FileChannel fileChannel, long start, long end, boolean first) {
+			this.fileChannel = fileChannel;
+			this.start = start;
+			this.end = end;
+			this.first = first;
+		}
+
+		@Override
+		public List<String[]> call() throws Exception {
+			MappedFileCharBuffer charBuffer = new MappedFileCharBuffer(fileChannel, charset, dsl.bufferSize(), dsl.maxBufferSize(), MappedFileCharBuffer.DEFAULT_MAPPING_SIZE, start, end);
+			CsvReader csvReader = new CsvReader(dsl.charConsumer(charBuffer), dsl.cellConsumerWrapper, dsl.internedColumns);
+			if (first) {
+				csvReader.skipRows(dsl.skip());
+			}
+			return csvReader.read(new ListCollector<String[]>()).getList();
+		}
+	}
+
+	private static final class RangeScan implements Callable<RangeScan> {
+		private final FileChannel fileChannel;
+		private final byte quoteChar;
+		private final long start;
+		private final long end;
+		private final long fileSize;
+
+		private boolean oddQuotes;
+		private long endOfRowEvenQuotes = -1;
+		private long endOfRowOddQuotes = -1;
+
+		private RangeScan(FileChannel fileChannel, char quoteChar, long start, long end, long fileSize) {
+			this.fileChannel = fileChannel;
+			this.quoteChar = (byte) quoteChar;
+			this.start = start;
+			this.end = end;
+			this.fileSize = fileSize;
+		}
+
+		@Override
+		public RangeScan call() throws IOException {
+			// map one more byte to check if a \r is followed by a \n
+			long mappedEnd = Math.min(end + 1, fileSize);
+			MappedByteBuffer bytes = fileChannel.map(FileChannel.MapMode.READ_ONLY, start, mappedEnd - start);
+			int length = (int) (end - start);
+			int mappedLength = bytes.limit();
+
+			boolean odd = false;
+			for(int i = 0; i < length; i++) {
+				byte b = bytes.get(i);
+				if (b == quoteChar) {
+					odd = !odd;
+				} else if (b == LF || (b == CR && (i + 1 == mappedLength || bytes.get(i + 1) != LF))) {
+					if (odd) {
+						if (endOfRowOddQuotes == -1) {
+							endOfRowOddQuotes = start + i + 1;
+						}
+					} else if (endOfRowEvenQuotes == -1) {
+						endOfRowEvenQuotes = start + i + 1;
+					}
+				}
+			}
+			oddQuotes = odd;
+			return this;
+		}
+	}
+}
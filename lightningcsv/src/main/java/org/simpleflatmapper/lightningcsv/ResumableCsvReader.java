@@ -0,0 +1,146 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.ByteArrayBuffer;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Csv reader on a file that tracks the byte offset and number of the next row, see {@link #checkpoint()}.
+ * <p>
+ * The rows are parsed one by one at the byte level, like {@link CsvIndex} it only supports utf-8 or single byte
+ * charsets that are ascii compatible.
+ * <p>
+ * <code>
+ *     ResumableCsvReader reader = CsvParser.dsl().resume(file, lastCommittedCheckpoint);<br>
+ *     try {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;reader.forEach(rowConsumer, 10000, commitBatchWithCheckpoint);<br>
+ *     } finally {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;reader.close();<br>
+ *     }
+ * </code>
+ */
+public final class ResumableCsvReader implements Closeable {
+
+	private final CsvReader csvReader;
+	private final ByteArrayBuffer byteBuffer;
+	private final Closeable resource;
+	private final long startOffset;
+	private final RowCounter rowCounter;
+
+	ResumableCsvReader(CsvReader csvReader, ByteArrayBuffer byteBuffer, Closeable resource, long startOffset, long rowNumber) {
+		this.csvReader = csvReader;
+		this.byteBuffer = byteBuffer;
+		this.resource = resource;
+		this.startOffset = startOffset;
+		this.rowCounter = new RowCounter(rowNumber);
+	}
+
+	/**
+	 * @return the position of the next row to be parsed
+	 */
+	public CsvCheckpoint checkpoint() {
+		long offset = rowCounter.finished ? byteBuffer.offset() + byteBuffer.bufferSize : byteBuffer.offset() + byteBuffer.rowStartMark;
+		return new CsvCheckpoint(startOffset + offset, rowCounter.rows);
+	}
+
+	/**
+	 * @param cellConsumer the cell consumer
+	 * @return false if the end of the file was reached
+	 * @throws IOException if an io error occurs
+	 */
+	public boolean parseRow(CellConsumer cellConsumer) throws IOException {
+		if (rowCounter.finished) {
+			return false;
+		}
+		rowCounter.delegate = cellConsumer;
+		try {
+			return csvReader.parseRow(rowCounter);
+		} finally {
+			rowCounter.delegate = null;
+		}
+	}
+
+	public <RH extends CheckedConsumer<String[]>> RH read(RH consumer) throws IOException {
+		StringArrayCellConsumer<RH> cellConsumer = StringArrayCellConsumer.newInstance(consumer, StringArrayCellConsumer.DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW, csvReader.newStringInterner());
+		while (parseRow(cellConsumer)) {
+		}
+		return consumer;
+	}
+
+	/**
+	 * Read the rows and call back the checkpointConsumer with the position of the next row every checkpointInterval rows,
+	 * after the rows have been consumed, and at the end of the file.
+	 * @param consumer the row consumer
+	 * @param checkpointInterval the number of rows between checkpoints
+	 * @param checkpointConsumer the checkpoint consumer
+	 * @param <RH> the type of the row consumer
+	 * @return the row consumer
+	 * @throws IOException if an io error occurs
+	 */
+	public <RH extends CheckedConsumer<String[]>> RH forEach(RH consumer, int checkpointInterval, CheckedConsumer<? super CsvCheckpoint> checkpointConsumer) throws IOException {
+		if (checkpointInterval < 1) {
+			throw new IllegalArgumentException("checkpointInterval needs to be positive " + checkpointInterval);
+		}
+		StringArrayCellConsumer<RH> cellConsumer = StringArrayCellConsumer.newInstance(consumer, StringArrayCellConsumer.DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW, csvReader.newStringInterner());
+		int rows = 0;
+		boolean hasMore;
+		do {
+			long before = rowCounter.rows;
+			hasMore = parseRow(cellConsumer);
+			rows += (int) (rowCounter.rows - before);
+			if (rows >= checkpointInterval || (!hasMore && rows > 0)) {
+				rows = 0;
+				try {
+					checkpointConsumer.accept(checkpoint());
+				} catch (Exception e) {
+					ErrorHelper.rethrow(e);
+				}
+			}
+		} while (hasMore);
+		return consumer;
+	}
+
+	@Override
+	public void close() throws IOException {
+		resource.close();
+	}
+
+	private static final class RowCounter implements CellConsumer {
+		private CellConsumer delegate;
+		private long rows;
+		private boolean rowData;
+		private boolean finished;
+
+		private RowCounter(long rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			rowData = true;
+			delegate.newCell(chars, offset, length);
+		}
+
+		@Override
+		public boolean endOfRow() {
+			rows++;
+			rowData = false;
+			return delegate.endOfRow();
+		}
+
+		@Override
+		public void end() {
+			if (rowData) {
+				rows++;
+				rowData = false;
+			}
+			finished = true;
+			delegate.end();
+		}
+	}
+}
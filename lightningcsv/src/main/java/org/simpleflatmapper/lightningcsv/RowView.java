@@ -0,0 +1,237 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.DecimalParser;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.util.Arrays;
+
+/**
+ * Flyweight view on the current row of a {@link CsvReader}.
+ * <p>
+ * The cells are not copied, the view records the boundaries of the cells in the CharBuffer of the reader and the accessors
+ * read or parse the chars in place. The same instance is reused for every row, it is only valid for the duration of the callback,
+ * use {@link #toArray()} or {@link #getString(int)} to keep the values.
+ * <p>
+ * A cell index past the last cell of the row is treated as an empty cell.
+ */
+public final class RowView {
+
+    private final CharBuffer charBuffer;
+
+    private int[] fieldsBoundaries = new int[16];
+    private int nbCells;
+    private int rowStartMark;
+
+    private CellSequence[] cellSequences = new CellSequence[0];
+
+    RowView(CharBuffer charBuffer) {
+        this.charBuffer = charBuffer;
+    }
+
+    /**
+     * @return the number of cells in the row
+     */
+    public int size() {
+        return nbCells;
+    }
+
+    public int length(int i) {
+        if (i >= nbCells) return 0;
+        return fieldsBoundaries[i * 2 + 1];
+    }
+
+    public boolean isEmpty(int i) {
+        return length(i) == 0;
+    }
+
+    /**
+     * @param i the cell index
+     * @return a reused CharSequence reading the cell in place, null if the row has no cell at that index
+     */
+    public CharSequence getCharSequence(int i) {
+        if (i >= nbCells) return null;
+        if (i >= cellSequences.length) {
+            int oldLength = cellSequences.length;
+            cellSequences = Arrays.copyOf(cellSequences, Math.max(i + 1, nbCells));
+            for(int j = oldLength; j < cellSequences.length; j++) {
+                cellSequences[j] = new CellSequence(this, j);
+            }
+        }
+        return cellSequences[i];
+    }
+
+    public String getString(int i) {
+        if (i >= nbCells) return null;
+        return new String(charBuffer.buffer, start(i), length(i));
+    }
+
+    /**
+     * @param i the cell index
+     * @param value the value to compare to
+     * @return true if the cell has the same chars as value
+     */
+    public boolean contentEquals(int i, CharSequence value) {
+        int length = length(i);
+        if (length != value.length()) return false;
+        char[] buffer = charBuffer.buffer;
+        int start = start(i);
+        for(int j = 0; j < length; j++) {
+            if (buffer[start + j] != value.charAt(j)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param i the cell index
+     * @return the int value of the cell, 0 if empty
+     * @throws NumberFormatException if the cell is not an int
+     */
+    public int getInt(int i) {
+        long l = getLong(i);
+        if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + getString(i) + "\"");
+        }
+        return (int) l;
+    }
+
+    /**
+     * @param i the cell index
+     * @return the long value of the cell, 0 if empty
+     * @throws NumberFormatException if the cell is not a long
+     */
+    public long getLong(int i) {
+        if (isEmpty(i)) return 0;
+        int start = start(i);
+        return parseLong(charBuffer.buffer, start, start + length(i));
+    }
+
+    /**
+     * @param i the cell index
+     * @return the double value of the cell, 0 if empty
+     * @throws NumberFormatException if the cell is not a double
+     */
+    public double getDouble(int i) {
+        if (isEmpty(i)) return 0;
+        int start = start(i);
+        return parseDouble(charBuffer.buffer, start, start + length(i));
+    }
+
+    /**
+     * @return a copy of the cells values
+     */
+    public String[] toArray() {
+        String[] values = new String[nbCells];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = getString(i);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int start(int i) {
+        return rowStartMark + fieldsBoundaries[i * 2];
+    }
+
+    /**
+     * parse the long without creating a String, see {@link DecimalParser#parseLong(char[], int, int)}.
+     */
+    public static long parseLong(char[] chars, int start, int end) {
+        return DecimalParser.parseLong(chars, start, end);
+    }
+
+    /**
+     * parse the double without creating a String, see {@link DecimalParser}.
+     */
+    public static double parseDouble(char[] chars, int start, int end) {
+        return DecimalParser.parseDouble(chars, start, end);
+    }
+
+    static <RH extends CheckedConsumer<? super RowView>> CellConsumer cellConsumer(CharBuffer charBuffer, RH handler) {
+        return new RowViewCellConsumer<RH>(new RowView(charBuffer), handler);
+    }
+
+    private static final class RowViewCellConsumer<RH extends CheckedConsumer<? super RowView>> implements CellConsumer {
+        private final RowView rowView;
+        private final RH handler;
+
+        private RowViewCellConsumer(RowView rowView, RH handler) {
+            this.rowView = rowView;
+            this.handler = handler;
+        }
+
+        @Override
+        public void newCell(char[] chars, int offset, int length) {
+            RowView rowView = this.rowView;
+            int index = rowView.nbCells * 2;
+            int[] fieldsBoundaries = rowView.fieldsBoundaries;
+            if (index + 1 >= fieldsBoundaries.length) {
+                fieldsBoundaries = Arrays.copyOf(fieldsBoundaries, fieldsBoundaries.length * 2);
+                rowView.fieldsBoundaries = fieldsBoundaries;
+            }
+            // relative to the row start as the row can be shifted in the buffer before the end of the row
+            fieldsBoundaries[index] = offset - rowView.charBuffer.rowStartMark;
+            fieldsBoundaries[index + 1] = length;
+            rowView.nbCells++;
+        }
+
+        @Override
+        public boolean endOfRow() {
+            RowView rowView = this.rowView;
+            rowView.rowStartMark = rowView.charBuffer.rowStartMark;
+            try {
+                handler.accept(rowView);
+            } catch (Exception e) {
+                ErrorHelper.rethrow(e);
+            } finally {
+                rowView.nbCells = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public void end() {
+            if (rowView.nbCells > 0) {
+                endOfRow();
+            }
+        }
+    }
+
+    private static final class CellSequence implements CharSequence {
+        private final RowView rowView;
+        private final int index;
+
+        private CellSequence(RowView rowView, int index) {
+            this.rowView = rowView;
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return rowView.length(index);
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length()) throw new IndexOutOfBoundsException(String.valueOf(i));
+            return rowView.charBuffer.buffer[rowView.start(index) + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            String value = rowView.getString(index);
+            return value != null ? value : "";
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,10 +42,7 @@ public class AsmCharConsumerFactory extends CharConsumerFactory {
             if (key.equals(RFC4180)) {
                 constructor = RFC4180_CC;
             } else {
-                constructor = specialisedCharConsumers.get(key);
-                if (constructor == null && specialisedCharConsumers.size() < 64) {
-                    constructor = createNewSpecialisedCharConsumer(key);
-                }
+                constructor = getOrCreateSpecialisedCharConsumer(key);
             }
 
             if (constructor != null) {
@@ -61,19 +59,43 @@ public class AsmCharConsumerFactory extends CharConsumerFactory {
     }
 
 
-    private static Constructor<? extends AbstractCharConsumer> createNewSpecialisedCharConsumer(SpecialisationKey key) {
+    private static Constructor<? extends AbstractCharConsumer> getOrCreateSpecialisedCharConsumer(SpecialisationKey key) {
+        SpecialisedCharConsumer specialisedCharConsumer = specialisedCharConsumers.get(key);
+        if (specialisedCharConsumer != null) {
+            specialisedCharConsumer.lastAccess = System.nanoTime();
+            return specialisedCharConsumer.constructor;
+        }
+
+        // generate outside of the lock, a concurrent miss on the same key might generate the class twice
+        Constructor<? extends AbstractCharConsumer> constructor = generateSpecialisedCharConsumer(key);
+        if (constructor == null) {
+            return null;
+        }
+
         synchronized (lock) {
-            Constructor<? extends AbstractCharConsumer> constructor;
-            constructor = specialisedCharConsumers.get(key);
-            if (constructor == null) {
-                if (specialisedCharConsumers.size() < 64) { // artificial limit to avoid DOS
-                    constructor = generateSpecialisedCharConsumer(key);
-                    if (constructor != null) {
-                        specialisedCharConsumers.put(key, constructor);
-                    }
-                }
+            specialisedCharConsumer = specialisedCharConsumers.get(key);
+            if (specialisedCharConsumer != null) {
+                specialisedCharConsumer.lastAccess = System.nanoTime();
+                return specialisedCharConsumer.constructor;
+            }
+            if (specialisedCharConsumers.size() >= MAX_SPECIALISED_CHAR_CONSUMERS) {
+                evictLeastRecentlyUsed();
             }
-            return constructor;
+            specialisedCharConsumers.put(key, new SpecialisedCharConsumer(constructor));
+        }
+        return constructor;
+    }
+
+    // guarded by lock
+    private static void evictLeastRecentlyUsed() {
+        Map.Entry<SpecialisationKey, SpecialisedCharConsumer> eldest = null;
+        for (Map.Entry<SpecialisationKey, SpecialisedCharConsumer> e : specialisedCharConsumers.entrySet()) {
+            if (eldest == null || e.getValue().lastAccess - eldest.getValue().lastAccess < 0) {
+                eldest = e;
+            }
+        }
+        if (eldest != null) {
+            specialisedCharConsumers.remove(eldest.getKey());
         }
     }
 
@@ -213,7 +235,8 @@ public class AsmCharConsumerFactory extends CharConsumerFactory {
             String className = newName.replace('/', '.');
             AsmUtils.writeClassToFile(className, bytes);
 
-            Class<?> clazz = classLoader.registerClass(className, bytes);
+            // one class loader per class so that the evicted classes can be unloaded
+            Class<?> clazz = new FactoryClassLoader(AbstractCharConsumer.class.getClassLoader()).registerClass(className, bytes);
 
             return (Constructor<? extends AbstractCharConsumer>) clazz.getConstructor(CharBuffer.class, TextFormat.class, CellPreProcessor.class);
 
@@ -224,7 +247,8 @@ public class AsmCharConsumerFactory extends CharConsumerFactory {
         return null;
     }
 
-    private static final FactoryClassLoader classLoader = new FactoryClassLoader(AbstractCharConsumer.class.getClassLoader());
+    // artificial limit to avoid DOS, the least recently used specialisations are evicted
+    private static final int MAX_SPECIALISED_CHAR_CONSUMERS = 64;
     private static final Object lock = new Object();
     private static final SpecialisationKey RFC4180 = new SpecialisationKey(false, new TextFormat(',', '"', '"', false), UnescapeCellPreProcessor.class);
     private static final Constructor<? extends AbstractCharConsumer> RFC4180_CC;
@@ -233,8 +257,19 @@ public class AsmCharConsumerFactory extends CharConsumerFactory {
         RFC4180_CC = generateSpecialisedCharConsumer(RFC4180);
     }
 
-    private static final ConcurrentHashMap<SpecialisationKey, Constructor<? extends AbstractCharConsumer>> specialisedCharConsumers =
-            new ConcurrentHashMap<SpecialisationKey, Constructor<? extends AbstractCharConsumer>>();
+    // lock free lookup, the lock only guards the insertion and the eviction
+    private static final ConcurrentHashMap<SpecialisationKey, SpecialisedCharConsumer> specialisedCharConsumers =
+            new ConcurrentHashMap<SpecialisationKey, SpecialisedCharConsumer>();
+
+    private static class SpecialisedCharConsumer {
+        final Constructor<? extends AbstractCharConsumer> constructor;
+        volatile long lastAccess;
+
+        private SpecialisedCharConsumer(Constructor<? extends AbstractCharConsumer> constructor) {
+            this.constructor = constructor;
+            this.lastAccess = System.nanoTime();
+        }
+    }
 
     private static class SpecialisationKey {
         final boolean ignoreLeadingSpace;
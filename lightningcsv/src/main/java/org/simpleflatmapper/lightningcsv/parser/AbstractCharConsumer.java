@@ -15,5 +15,10 @@ public abstract class AbstractCharConsumer {
     public abstract void finish(CellConsumer cellConsumer);
 
     public abstract boolean shiftAndRead(boolean keepRow) throws IOException;
-    
+
+    /**
+     * called once the content is parsed or the reader closed, the buffer can be recycled.
+     */
+    public void release() {
+    }
 }
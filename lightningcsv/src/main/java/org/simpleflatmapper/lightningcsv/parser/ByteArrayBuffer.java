@@ -0,0 +1,69 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * byte equivalent of {@link CharBuffer} used by the byte level {@link Utf8ByteConsumer}.
+ */
+public abstract class ByteArrayBuffer {
+
+	public byte[] buffer;
+	public int bufferSize;
+	public int cellStartMark;
+	public int rowStartMark;
+
+	private long offset;
+
+	public ByteArrayBuffer(byte[] buffer, final int bufferSize) {
+		this.buffer = buffer;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * @return the position in the stream of the first byte of the buffer
+	 */
+	public final long offset() {
+		return offset;
+	}
+
+	public abstract boolean isConstant();
+	public abstract boolean shiftAndRead(int shiftFrom) throws IOException;
+
+	/**
+	 * @see CharBuffer#shift(int, int, int)
+	 */
+	protected final int shift(int shiftFrom, int readSize, int maxBufferSize) throws BufferOverflowException {
+		int newSize = this.bufferSize - shiftFrom;
+
+		byte[] lbuffer = this.buffer;
+		System.arraycopy(lbuffer, shiftFrom, lbuffer, 0, newSize);
+		cellStartMark -= shiftFrom;
+		rowStartMark -= shiftFrom;
+		bufferSize = newSize;
+		offset += shiftFrom;
+
+		int bufferLength = lbuffer.length;
+
+		if (bufferLength - newSize < readSize) {
+			int newBufferSize = bufferLength * 2;
+
+			if (newBufferSize < bufferLength + readSize) {
+				newBufferSize =  bufferLength + readSize;
+			}
+
+			if (newBufferSize > maxBufferSize) {
+				newBufferSize = maxBufferSize;
+			}
+
+			if (newSize >= newBufferSize) {
+				throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ newSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+			}
+
+			lbuffer = Arrays.copyOf(lbuffer, newBufferSize);
+			this.buffer = lbuffer;
+		}
+
+		return Math.min(readSize, lbuffer.length - newSize);
+	}
+}
@@ -0,0 +1,9 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * CellConsumer that can receive the raw utf-8 bytes of the cell from the {@link Utf8ByteConsumer}.
+ * The byte consumer will then skip the decoding of the cell.
+ */
+public interface ByteCellConsumer extends CellConsumer {
+	void newCell(byte[] bytes, int offset, int length);
+}
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.lightningcsv.parser;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 public abstract class CharBuffer {
 
@@ -16,4 +17,64 @@ public abstract class CharBuffer {
 
 	public abstract boolean isConstant();
 	public abstract boolean shiftAndRead(int shiftFrom) throws IOException;
+
+	/**
+	 * shift the unconsumed data to the start of the buffer and grow the buffer if there is not enough space to read readSize.
+	 * @param shiftFrom the index of the first char to keep
+	 * @param readSize the number of char we would like to read
+	 * @param maxBufferSize the maximum size of the buffer
+	 * @return the number of char that can be read at bufferSize
+	 * @throws BufferOverflowException if the data to keep does not fit in maxBufferSize
+	 */
+	protected final int shift(int shiftFrom, int readSize, int maxBufferSize) throws BufferOverflowException {
+		// shift buffer consumer data
+		int newSize = this.bufferSize - shiftFrom;
+
+		// shift left over
+		char[] lbuffer = this.buffer;
+		System.arraycopy(lbuffer, shiftFrom, lbuffer, 0, newSize);
+		cellStartMark -= shiftFrom;
+		rowStartMark -= shiftFrom;
+		bufferSize = newSize;
+
+		int bufferLength = lbuffer.length;
+
+		// make sure we can read readSize
+		if (bufferLength - newSize < readSize) {
+			int newBufferSize = bufferLength * 2;
+
+			if (newBufferSize < bufferLength + readSize) {
+				newBufferSize =  bufferLength + readSize;
+			}
+
+			if (newBufferSize > maxBufferSize) {
+				newBufferSize = maxBufferSize;
+			}
+
+			if (newSize >= newBufferSize) {
+				throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ newSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+			}
+
+			lbuffer = grow(lbuffer, newSize, newBufferSize);
+			this.buffer = lbuffer;
+		}
+
+		return Math.min(readSize, lbuffer.length - newSize);
+	}
+
+	/**
+	 * @param buffer the current buffer
+	 * @param size the number of chars to keep
+	 * @param newLength the length of the new buffer
+	 * @return a buffer of at least newLength starting with the size first chars of buffer
+	 */
+	protected char[] grow(char[] buffer, int size, int newLength) {
+		return Arrays.copyOf(buffer, newLength);
+	}
+
+	/**
+	 * called once the content is parsed, the buffer can be recycled.
+	 */
+	public void release() {
+	}
 }
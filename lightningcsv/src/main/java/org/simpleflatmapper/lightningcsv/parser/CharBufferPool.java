@@ -0,0 +1,127 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread safe pool of char[] by power of 2 size classes, used by the {@link ReaderCharBuffer} for its initial buffer
+ * and when it grows to fit a large cell. The buffers are returned to the pool when the parsing of the content is done or
+ * when the reader is closed.
+ * <p>
+ * The buffers larger than maxPooledLength are not pooled, and at most maxBuffersPerSize buffers are retained per size class.
+ */
+public final class CharBufferPool {
+
+	private static final int NB_SIZE_CLASSES = 31;
+
+	private static CharBufferPool shared;
+
+	private final int maxBuffersPerSize;
+	private final int maxPooledLength;
+	private final SizeClass[] sizeClasses = new SizeClass[NB_SIZE_CLASSES];
+
+	public CharBufferPool() {
+		this(Runtime.getRuntime().availableProcessors(), 1 << 23);
+	}
+
+	/**
+	 * @param maxBuffersPerSize the maximum number of buffers retained per size class
+	 * @param maxPooledLength the length of the largest buffer retained
+	 */
+	public CharBufferPool(int maxBuffersPerSize, int maxPooledLength) {
+		if (maxBuffersPerSize < 0 || maxPooledLength < 0) {
+			throw new IllegalArgumentException("Invalid pool size " + maxBuffersPerSize + ", " + maxPooledLength);
+		}
+		this.maxBuffersPerSize = maxBuffersPerSize;
+		this.maxPooledLength = Math.min(maxPooledLength, 1 << (NB_SIZE_CLASSES - 1));
+		for (int i = 0; i < sizeClasses.length; i++) {
+			sizeClasses[i] = new SizeClass();
+		}
+	}
+
+	/**
+	 * @return the pool shared by the dsl configured with {@code pooledBuffers()}
+	 */
+	public static synchronized CharBufferPool shared() {
+		if (shared == null) {
+			shared = new CharBufferPool();
+		}
+		return shared;
+	}
+
+	/**
+	 * @param minLength the minimum length of the buffer
+	 * @return the length of the buffer that {@link #acquire(int)} returns for minLength
+	 */
+	public int bufferLength(int minLength) {
+		if (minLength > maxPooledLength) {
+			return minLength;
+		}
+		return 1 << sizeClass(minLength);
+	}
+
+	/**
+	 * @param minLength the minimum length of the buffer
+	 * @return a pooled buffer, or a new buffer, of at least minLength
+	 */
+	public char[] acquire(int minLength) {
+		if (minLength > maxPooledLength) {
+			return new char[minLength];
+		}
+		int sizeClass = sizeClass(minLength);
+		char[] buffer = sizeClasses[sizeClass].poll();
+		if (buffer == null) {
+			buffer = new char[1 << sizeClass];
+		}
+		return buffer;
+	}
+
+	/**
+	 * return the buffer to the pool, the buffers that are not of a pooled size are dropped.
+	 * @param buffer the buffer, it must not be used after it is released
+	 */
+	public void release(char[] buffer) {
+		int length = buffer.length;
+		if (length == 0 || length > maxPooledLength || Integer.bitCount(length) != 1) {
+			return;
+		}
+		sizeClasses[sizeClass(length)].offer(buffer, maxBuffersPerSize);
+	}
+
+	/**
+	 * @return the number of buffers currently retained
+	 */
+	public int size() {
+		int size = 0;
+		for (SizeClass sizeClass : sizeClasses) {
+			size += sizeClass.size.get();
+		}
+		return size;
+	}
+
+	private static int sizeClass(int minLength) {
+		return minLength <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(minLength - 1);
+	}
+
+	private static final class SizeClass {
+		private final Queue<char[]> buffers = new ConcurrentLinkedQueue<char[]>();
+		private final AtomicInteger size = new AtomicInteger();
+
+		private char[] poll() {
+			char[] buffer = buffers.poll();
+			if (buffer != null) {
+				size.decrementAndGet();
+			}
+			return buffer;
+		}
+
+		private void offer(char[] buffer, int maxSize) {
+			if (size.incrementAndGet() <= maxSize) {
+				buffers.offer(buffer);
+			} else {
+				size.decrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,289 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+
+/**
+ * A batch of rows stored by column, the numeric columns are parsed in primitive arrays and the String columns are
+ * dictionary encoded, each distinct value of the batch is created once and the rows hold its code.
+ * <p>
+ * An empty cell, or a missing cell, is null, its value in the array is 0 or -1 for a dictionary code.
+ * <p>
+ * The batch is reused by the {@link ColumnBatchCellConsumer}, it is only valid for the duration of the callback,
+ * the arrays have the capacity of the batch, only the first {@link #size()} values are set.
+ */
+public final class ColumnBatch {
+
+	public enum Type { INT, LONG, DOUBLE, STRING }
+
+	private final Type[] types;
+	private final int capacity;
+
+	private final int[][] ints;
+	private final long[][] longs;
+	private final double[][] doubles;
+	private final int[][] codes;
+	private final Dictionary[] dictionaries;
+	private final long[][] nulls;
+
+	private int size;
+
+	/**
+	 * @param types the type of each column, a null type ignores the column
+	 * @param capacity the max number of rows in the batch
+	 */
+	public ColumnBatch(Type[] types, int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Invalid capacity " + capacity);
+		}
+		this.types = types.clone();
+		this.capacity = capacity;
+		int nbColumns = types.length;
+		ints = new int[nbColumns][];
+		longs = new long[nbColumns][];
+		doubles = new double[nbColumns][];
+		codes = new int[nbColumns][];
+		dictionaries = new Dictionary[nbColumns];
+		nulls = new long[nbColumns][];
+		for (int i = 0; i < nbColumns; i++) {
+			Type type = types[i];
+			if (type == null) {
+				continue;
+			}
+			switch (type) {
+				case INT:
+					ints[i] = new int[capacity];
+					break;
+				case LONG:
+					longs[i] = new long[capacity];
+					break;
+				case DOUBLE:
+					doubles[i] = new double[capacity];
+					break;
+				case STRING:
+					codes[i] = new int[capacity];
+					dictionaries[i] = new Dictionary();
+					break;
+			}
+			nulls[i] = new long[(capacity + 63) >>> 6];
+		}
+	}
+
+	/**
+	 * @return the number of rows in the batch
+	 */
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public int nbColumns() {
+		return types.length;
+	}
+
+	public Type getType(int column) {
+		return types[column];
+	}
+
+	public int[] getInts(int column) {
+		return checkType(ints[column], column, Type.INT);
+	}
+
+	public long[] getLongs(int column) {
+		return checkType(longs[column], column, Type.LONG);
+	}
+
+	public double[] getDoubles(int column) {
+		return checkType(doubles[column], column, Type.DOUBLE);
+	}
+
+	/**
+	 * @param column the column index
+	 * @return the dictionary code of the value of each row, -1 if null
+	 */
+	public int[] getCodes(int column) {
+		return checkType(codes[column], column, Type.STRING);
+	}
+
+	/**
+	 * @param column the column index
+	 * @return the distinct values of the column in the batch, indexed by code. The array can be larger than the
+	 * number of values, see {@link #getDictionarySize(int)}
+	 */
+	public String[] getDictionary(int column) {
+		return checkType(dictionaries[column], column, Type.STRING).values;
+	}
+
+	public int getDictionarySize(int column) {
+		return checkType(dictionaries[column], column, Type.STRING).size;
+	}
+
+	/**
+	 * @param column the column index
+	 * @param row the row index
+	 * @return the value of a String column
+	 */
+	public String getString(int column, int row) {
+		int code = getCodes(column)[row];
+		return code == -1 ? null : dictionaries[column].values[code];
+	}
+
+	public boolean isNull(int column, int row) {
+		long[] nulls = this.nulls[column];
+		return nulls == null || (nulls[row >>> 6] & (1L << row)) != 0;
+	}
+
+	private <A> A checkType(A array, int column, Type type) {
+		if (types[column] != type) {
+			throw new IllegalArgumentException("Column " + column + " is of type " + types[column] + " not " + type);
+		}
+		return array;
+	}
+
+	void setCell(int column, char[] chars, int offset, int length) {
+		if (column >= types.length || types[column] == null) {
+			return;
+		}
+		final int row = size;
+		if (length == 0) {
+			setNull(column, row);
+			return;
+		}
+		switch (types[column]) {
+			case INT:
+				long l = DecimalParser.parseLong(chars, offset, offset + length);
+				if (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE) {
+					throw new NumberFormatException("For input string: \"" + new String(chars, offset, length) + "\"");
+				}
+				ints[column][row] = (int) l;
+				break;
+			case LONG:
+				longs[column][row] = DecimalParser.parseLong(chars, offset, offset + length);
+				break;
+			case DOUBLE:
+				doubles[column][row] = DecimalParser.parseDouble(chars, offset, offset + length);
+				break;
+			case STRING:
+				codes[column][row] = dictionaries[column].code(chars, offset, length);
+				break;
+		}
+	}
+
+	private void setNull(int column, int row) {
+		nulls[column][row >>> 6] |= 1L << row;
+		switch (types[column]) {
+			case INT:
+				ints[column][row] = 0;
+				break;
+			case LONG:
+				longs[column][row] = 0;
+				break;
+			case DOUBLE:
+				doubles[column][row] = 0;
+				break;
+			case STRING:
+				codes[column][row] = -1;
+				break;
+		}
+	}
+
+	/**
+	 * @param nbCells the number of cells of the row, the following columns are set to null
+	 * @return true if the batch is full
+	 */
+	boolean endOfRow(int nbCells) {
+		for (int column = nbCells; column < types.length; column++) {
+			if (types[column] != null) {
+				setNull(column, size);
+			}
+		}
+		return ++size == capacity;
+	}
+
+	void clear() {
+		size = 0;
+		for (int i = 0; i < types.length; i++) {
+			if (nulls[i] != null) {
+				Arrays.fill(nulls[i], 0);
+			}
+			if (dictionaries[i] != null) {
+				dictionaries[i].clear();
+			}
+		}
+	}
+
+	/**
+	 * open addressing hash table of the distinct values of a column, looked up from the chars without creating a String.
+	 */
+	private static final class Dictionary {
+		private String[] values = new String[16];
+		private int[] hashes = new int[16];
+		// code + 1, 0 for an empty slot
+		private int[] table = new int[32];
+		private int size;
+
+		int code(char[] chars, int offset, int length) {
+			int h = 0;
+			final int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				h = 31 * h + chars[i];
+			}
+			int mask = table.length - 1;
+			int slot = (h ^ (h >>> 16)) & mask;
+			int entry;
+			while ((entry = table[slot]) != 0) {
+				int code = entry - 1;
+				if (hashes[code] == h && matches(values[code], chars, offset, length)) {
+					return code;
+				}
+				slot = (slot + 1) & mask;
+			}
+			int code = size++;
+			if (code == values.length) {
+				values = Arrays.copyOf(values, code * 2);
+				hashes = Arrays.copyOf(hashes, code * 2);
+			}
+			values[code] = new String(chars, offset, length);
+			hashes[code] = h;
+			table[slot] = code + 1;
+			if (size * 2 > table.length) {
+				rehash();
+			}
+			return code;
+		}
+
+		private static boolean matches(String value, char[] chars, int offset, int length) {
+			if (value.length() != length) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (value.charAt(i) != chars[offset + i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void rehash() {
+			int[] table = new int[this.table.length * 2];
+			int mask = table.length - 1;
+			for (int code = 0; code < size; code++) {
+				int h = hashes[code];
+				int slot = (h ^ (h >>> 16)) & mask;
+				while (table[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = code + 1;
+			}
+			this.table = table;
+		}
+
+		void clear() {
+			Arrays.fill(values, 0, size, null);
+			Arrays.fill(table, 0);
+			size = 0;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+
+/**
+ * Parse the cells directly in a {@link ColumnBatch} and call back the handler every time the batch is full, and at
+ * the end with the remaining rows. No object is created per row.
+ * <p>
+ * <code>
+ *     CsvParser.skip(1).parse(reader, ColumnBatchCellConsumer.newInstance(new ColumnBatch.Type[] { INT, STRING, DOUBLE }, handler));
+ * </code>
+ */
+public final class ColumnBatchCellConsumer<BH extends CheckedConsumer<? super ColumnBatch>> implements CellConsumer {
+
+	public static final int DEFAULT_BATCH_SIZE = 8192;
+
+	private final ColumnBatch batch;
+	private final BH handler;
+	private int currentIndex;
+
+	private ColumnBatchCellConsumer(ColumnBatch batch, BH handler) {
+		this.batch = batch;
+		this.handler = handler;
+	}
+
+	@Override
+	public void newCell(char[] chars, int offset, int length) {
+		batch.setCell(currentIndex, chars, offset, length);
+		currentIndex++;
+	}
+
+	@Override
+	public boolean endOfRow() {
+		boolean full = batch.endOfRow(currentIndex);
+		currentIndex = 0;
+		if (full) {
+			flush();
+		}
+		return true;
+	}
+
+	private void flush() {
+		try {
+			handler.accept(batch);
+		} catch (Exception e) {
+			ErrorHelper.rethrow(e);
+		} finally {
+			batch.clear();
+		}
+	}
+
+	@Override
+	public void end() {
+		if (currentIndex > 0) {
+			endOfRow();
+		}
+		if (batch.size() > 0) {
+			flush();
+		}
+	}
+
+	public BH handler() {
+		return handler;
+	}
+
+	/**
+	 * @param types the type of each column, a null type ignores the column
+	 * @param batchSize the number of rows per batch
+	 * @param handler the batch handler
+	 * @param <BH> the type of the handler
+	 * @return a new ColumnBatchCellConsumer
+	 */
+	public static <BH extends CheckedConsumer<? super ColumnBatch>> ColumnBatchCellConsumer<BH> newInstance(ColumnBatch.Type[] types, int batchSize, BH handler) {
+		return new ColumnBatchCellConsumer<BH>(new ColumnBatch(types, batchSize), handler);
+	}
+
+	public static <BH extends CheckedConsumer<? super ColumnBatch>> ColumnBatchCellConsumer<BH> newInstance(ColumnBatch.Type[] types, BH handler) {
+		return newInstance(types, DEFAULT_BATCH_SIZE, handler);
+	}
+}
@@ -46,6 +46,11 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 		return csvBuffer;
 	}
 
+	@Override
+	public void release() {
+		csvBuffer.release();
+	}
+
 	@Override
 	public final void consumeAllBuffer(final CellConsumer cellConsumer) {
 
@@ -124,7 +129,8 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 							currentState =
 									QUOTED_AREA
 											| QUOTED
-											| ((currentState & QUOTED) << 5); // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+											| ((currentState & QUOTED) << 5) // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+											| (currentState & ROW_DATA);
 							break;
 						}
 
@@ -267,7 +273,8 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 							currentState =
 									QUOTED_AREA
 											| QUOTED
-											| ((currentState & QUOTED) << 5); // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+											| ((currentState & QUOTED) << 5) // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+											| (currentState & ROW_DATA);
 							break;
 						} 
 						
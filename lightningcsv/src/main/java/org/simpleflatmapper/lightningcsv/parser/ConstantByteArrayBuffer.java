@@ -0,0 +1,18 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+public final class ConstantByteArrayBuffer extends ByteArrayBuffer {
+
+	public ConstantByteArrayBuffer(byte[] bytes) {
+		super(bytes, bytes.length);
+	}
+
+	@Override
+	public boolean isConstant() {
+		return true;
+	}
+
+	@Override
+	public final boolean shiftAndRead(int shiftFrom) {
+		throw new UnsupportedOperationException();
+	}
+}
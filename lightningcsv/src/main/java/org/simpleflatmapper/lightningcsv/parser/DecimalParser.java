@@ -0,0 +1,337 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parse the decimal numbers of a cell directly from the char[], without creating a String.
+ * <p>
+ * The doubles and floats use the exact fast path when the digits and the power of ten are exactly representable,
+ * then the Eisel-Lemire algorithm on the first 19 significant digits, both correctly rounded. The numbers they can not
+ * decide - subnormals, out of range exponents, rare ambiguous truncations - and the other syntaxes accepted by
+ * {@link Double#parseDouble(String)} fall back to the jdk parsing, which also reports the invalid numbers.
+ * <p>
+ * The BigDecimal and BigInteger of at most 18 digits are created from their unscaled long value.
+ */
+public final class DecimalParser {
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	private static final int MAX_DIGITS = 19;
+	private static final int MAX_LONG_DIGITS = 18;
+
+	private static final int SMALLEST_POWER_OF_FIVE = -342;
+	private static final int LARGEST_POWER_OF_FIVE = 308;
+	private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+	private DecimalParser() {
+	}
+
+	public static double parseDouble(char[] chars, int start, int end) {
+		return parse(chars, start, end, false);
+	}
+
+	public static float parseFloat(char[] chars, int start, int end) {
+		return (float) parse(chars, start, end, true);
+	}
+
+	/**
+	 * parse the long without creating a String, accepts the same input as {@link Long#parseLong(String)}.
+	 */
+	public static long parseLong(char[] chars, int start, int end) {
+		if (start >= end) throw numberFormatException(chars, start, end);
+
+		int i = start;
+		boolean negative = false;
+		long limit = -Long.MAX_VALUE;
+		char firstChar = chars[i];
+		if (firstChar == '-' || firstChar == '+') {
+			if (firstChar == '-') {
+				negative = true;
+				limit = Long.MIN_VALUE;
+			}
+			i++;
+			if (i == end) throw numberFormatException(chars, start, end);
+		}
+
+		// accumulate negatively to handle MIN_VALUE
+		long multmin = limit / 10;
+		long result = 0;
+		for(; i < end; i++) {
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9 || result < multmin) {
+				throw numberFormatException(chars, start, end);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw numberFormatException(chars, start, end);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	private static double parse(char[] chars, int start, int end, boolean toFloat) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+
+		// the first 19 significant digits, as an unsigned long
+		long mantissa = 0;
+		int significantDigits = 0;
+		int exponent = 0;
+		boolean hasDigits = false;
+		boolean afterDot = false;
+		boolean truncated = false;
+		for(; i < end; i++) {
+			char c = chars[i];
+			if (c >= '0' && c <= '9') {
+				hasDigits = true;
+				if (significantDigits < MAX_DIGITS) {
+					if (mantissa != 0 || c != '0') {
+						mantissa = mantissa * 10 + (c - '0');
+						significantDigits++;
+					}
+					if (afterDot) exponent--;
+				} else {
+					if (c != '0') truncated = true;
+					if (!afterDot) exponent++;
+				}
+			} else if (c == '.' && !afterDot) {
+				afterDot = true;
+			} else {
+				break;
+			}
+		}
+
+		if (!hasDigits) {
+			return fallback(chars, start, end, toFloat);
+		}
+
+		if (i < end) {
+			if (chars[i] != 'e' && chars[i] != 'E') {
+				return fallback(chars, start, end, toFloat);
+			}
+			i++;
+			boolean negativeExponent = false;
+			if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+				negativeExponent = chars[i] == '-';
+				i++;
+			}
+			if (i == end) {
+				return fallback(chars, start, end, toFloat);
+			}
+			int e = 0;
+			for(; i < end; i++) {
+				int digit = chars[i] - '0';
+				if (digit < 0 || digit > 9 || e > 1000) {
+					return fallback(chars, start, end, toFloat);
+				}
+				e = e * 10 + digit;
+			}
+			exponent += negativeExponent ? -e : e;
+		}
+
+		if (mantissa == 0) {
+			return negative ? -0.0 : 0.0;
+		}
+
+		if (!truncated) {
+			if (toFloat) {
+				if (mantissa >= 0 && mantissa <= (1L << 24) && exponent >= -10 && exponent <= 10) {
+					float value = exponent < 0 ? mantissa / FLOAT_POWERS_OF_TEN[-exponent] : mantissa * FLOAT_POWERS_OF_TEN[exponent];
+					return negative ? -value : value;
+				}
+			} else if (mantissa >= 0 && mantissa <= (1L << 53) && exponent >= -22 && exponent <= 22) {
+				double value = exponent < 0 ? mantissa / DOUBLE_POWERS_OF_TEN[-exponent] : mantissa * DOUBLE_POWERS_OF_TEN[exponent];
+				return negative ? -value : value;
+			}
+		}
+
+		long bits = eiselLemire(mantissa, exponent, toFloat);
+		if (bits != -1 && truncated && bits != eiselLemire(mantissa + 1, exponent, toFloat)) {
+			// the digits after the 19th can change the rounding
+			bits = -1;
+		}
+		if (bits == -1) {
+			return fallback(chars, start, end, toFloat);
+		}
+
+		if (toFloat) {
+			float value = Float.intBitsToFloat((int) bits);
+			return negative ? -value : value;
+		}
+		double value = Double.longBitsToDouble(bits);
+		return negative ? -value : value;
+	}
+
+	private static double fallback(char[] chars, int start, int end, boolean toFloat) {
+		String str = new String(chars, start, end - start);
+		return toFloat ? Float.parseFloat(str) : Double.parseDouble(str);
+	}
+
+	/**
+	 * Eisel-Lemire, see Daniel Lemire, Number Parsing at a Gigabyte per Second.
+	 * @param w the decimal significand, unsigned and not zero
+	 * @param q the decimal exponent
+	 * @param toFloat binary32 instead of binary64
+	 * @return the bits of the absolute value, -1 if it can not be decided or is subnormal or infinite
+	 */
+	private static long eiselLemire(long w, int q, boolean toFloat) {
+		final int mantissaBits = toFloat ? 23 : 52;
+		final int minimumExponent = toFloat ? -127 : -1023;
+		final int infinitePower = toFloat ? 0xFF : 0x7FF;
+		final int minExponentRoundToEven = toFloat ? -17 : -4;
+		final int maxExponentRoundToEven = toFloat ? 10 : 23;
+
+		if (q < SMALLEST_POWER_OF_FIVE || q > LARGEST_POWER_OF_FIVE) {
+			return -1;
+		}
+
+		int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+
+		// 128 bits approximation of w * 5^q
+		int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+		long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+		long low = w * POWERS_OF_FIVE[index];
+		long precisionMask = -1L >>> (mantissaBits + 3);
+		if ((high & precisionMask) == precisionMask) {
+			long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+			low += secondHigh;
+			if ((secondHigh ^ Long.MIN_VALUE) > (low ^ Long.MIN_VALUE)) {
+				high++;
+			}
+		}
+		if (low == -1L && (q < -27 || q > 55)) {
+			return -1;
+		}
+
+		int upperBit = (int) (high >>> 63);
+		int shift = upperBit + 64 - mantissaBits - 3;
+		long mantissa = high >>> shift;
+		int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz - minimumExponent;
+		if (power2 <= 0) {
+			return -1;
+		}
+
+		// exactly in between two values, round to even
+		if ((low == 0 || low == 1) && q >= minExponentRoundToEven && q <= maxExponentRoundToEven && (mantissa & 3) == 1) {
+			if ((mantissa << shift) == high) {
+				mantissa &= ~1L;
+			}
+		}
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if (mantissa >= (2L << mantissaBits)) {
+			mantissa = 1L << mantissaBits;
+			power2++;
+		}
+		mantissa &= ~(1L << mantissaBits);
+		if (power2 >= infinitePower) {
+			return -1;
+		}
+		return mantissa | ((long) power2 << mantissaBits);
+	}
+
+	private static long unsignedMultiplyHigh(long x, long y) {
+		long x0 = x & 0xFFFFFFFFL;
+		long x1 = x >>> 32;
+		long y0 = y & 0xFFFFFFFFL;
+		long y1 = y >>> 32;
+		long p01 = x0 * y1;
+		long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+		return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+	}
+
+	/**
+	 * the 128 bits normalized powers of 5 from 5^-342 to 5^308, the negative powers are rounded up,
+	 * as 2 longs - high then low - per power.
+	 */
+	private static long[] powersOfFive() {
+		long[] table = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+		BigInteger five = BigInteger.valueOf(5);
+		for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+			BigInteger c;
+			if (q >= 0) {
+				c = five.pow(q);
+			} else {
+				BigInteger power5 = five.pow(-q);
+				int z = power5.bitLength();
+				int b = q >= -27 ? z + 127 : 2 * z + 128;
+				c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+			}
+			int bitLength = c.bitLength();
+			c = bitLength < 128 ? c.shiftLeft(128 - bitLength) : c.shiftRight(bitLength - 128);
+			int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+			table[index] = c.shiftRight(64).longValue();
+			table[index + 1] = c.longValue();
+		}
+		return table;
+	}
+
+	public static BigDecimal parseBigDecimal(char[] chars, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+		long unscaled = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean afterDot = false;
+		for(; i < end; i++) {
+			char c = chars[i];
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_LONG_DIGITS) {
+					return new BigDecimal(chars, start, end - start);
+				}
+				unscaled = unscaled * 10 + (c - '0');
+				if (afterDot) scale++;
+			} else if (c == '.' && !afterDot) {
+				afterDot = true;
+			} else {
+				return new BigDecimal(chars, start, end - start);
+			}
+		}
+		if (digits == 0) {
+			return new BigDecimal(chars, start, end - start);
+		}
+		return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+	}
+
+	public static BigInteger parseBigInteger(char[] chars, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+			negative = chars[i] == '-';
+			i++;
+		}
+		if (i == end || end - i > MAX_LONG_DIGITS) {
+			return new BigInteger(new String(chars, start, end - start));
+		}
+		long value = 0;
+		for(; i < end; i++) {
+			int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9) {
+				return new BigInteger(new String(chars, start, end - start));
+			}
+			value = value * 10 + digit;
+		}
+		return BigInteger.valueOf(negative ? -value : value);
+	}
+
+	private static NumberFormatException numberFormatException(char[] chars, int start, int end) {
+		return new NumberFormatException("For input string: \"" + new String(chars, start, end - start) + "\"");
+	}
+}
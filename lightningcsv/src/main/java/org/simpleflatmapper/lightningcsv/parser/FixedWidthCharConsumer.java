@@ -0,0 +1,142 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.IOException;
+
+/**
+ * Consume fixed width content, each line being split in cells at the column offsets.
+ * <p>
+ * There is no separator or quote to look for, only the end of line is searched. A line shorter than the columns
+ * definition produces empty cells for the missing columns, the chars past the last column are ignored. Empty lines are skipped.
+ */
+public final class FixedWidthCharConsumer extends AbstractCharConsumer {
+
+	private static final char LF = '\n';
+	private static final char CR = '\r';
+
+	private final CharBuffer csvBuffer;
+	private final CellPreProcessor cellPreProcessor;
+	private final int[] offsets;
+
+	// index from which the end of line still need to be looked for
+	private int _currentIndex = 0;
+
+	/**
+	 * @param csvBuffer the buffer
+	 * @param widths the width of each column
+	 * @param cellPreProcessor the cell preprocessor, called with the ROW_DATA state for all but the first cell of a row
+	 */
+	public FixedWidthCharConsumer(CharBuffer csvBuffer, int[] widths, CellPreProcessor cellPreProcessor) {
+		this.csvBuffer = csvBuffer;
+		this.cellPreProcessor = cellPreProcessor;
+		this.offsets = new int[widths.length + 1];
+		for(int i = 0; i < widths.length; i++) {
+			if (widths[i] < 0) {
+				throw new IllegalArgumentException("Invalid column width " + widths[i]);
+			}
+			offsets[i + 1] = offsets[i] + widths[i];
+		}
+	}
+
+	@Override
+	public CharBuffer charBuffer() {
+		return csvBuffer;
+	}
+
+	@Override
+	public void release() {
+		csvBuffer.release();
+	}
+
+	@Override
+	public void consumeAllBuffer(CellConsumer cellConsumer) {
+		while (consumeRow(cellConsumer)) {
+		}
+	}
+
+	@Override
+	public boolean consumeToNextRow(CellConsumer cellConsumer) {
+		return consumeRow(cellConsumer);
+	}
+
+	private boolean consumeRow(CellConsumer cellConsumer) {
+		final CharBuffer csvBuffer = this.csvBuffer;
+		final char[] chars = csvBuffer.buffer;
+		final int bufferSize = csvBuffer.bufferSize;
+
+		// skip the end of line of the previous row, and empty lines
+		int rowStart = csvBuffer.rowStartMark;
+		while (rowStart < bufferSize && (chars[rowStart] == LF || chars[rowStart] == CR)) {
+			rowStart++;
+		}
+		markRowStart(rowStart);
+		if (_currentIndex < rowStart) {
+			_currentIndex = rowStart;
+		}
+
+		int endOfLine = findEndOfLine(chars, bufferSize);
+		if (endOfLine == -1) {
+			return false;
+		}
+
+		newRow(chars, rowStart, endOfLine, cellConsumer);
+		cellConsumer.endOfRow();
+		markRowStart(endOfLine + 1);
+		_currentIndex = endOfLine + 1;
+		return true;
+	}
+
+	private int findEndOfLine(char[] chars, int bufferSize) {
+		for(int i = _currentIndex; i < bufferSize; i++) {
+			char c = chars[i];
+			if (c == LF || c == CR) {
+				return i;
+			}
+		}
+		_currentIndex = bufferSize;
+		return -1;
+	}
+
+	private void newRow(char[] chars, int rowStart, int endOfLine, CellConsumer cellConsumer) {
+		final int[] offsets = this.offsets;
+		final int nbColumns = offsets.length - 1;
+		for(int i = 0; i < nbColumns; i++) {
+			int start = Math.min(rowStart + offsets[i], endOfLine);
+			int end = Math.min(rowStart + offsets[i + 1], endOfLine);
+			cellPreProcessor.newCell(chars, start, end, cellConsumer, i == 0 ? ConfigurableCharConsumer.NONE : ConfigurableCharConsumer.ROW_DATA);
+		}
+	}
+
+	private void markRowStart(int index) {
+		csvBuffer.rowStartMark = index;
+		csvBuffer.cellStartMark = index;
+	}
+
+	@Override
+	public void finish(CellConsumer cellConsumer) {
+		final CharBuffer csvBuffer = this.csvBuffer;
+		int rowStart = csvBuffer.rowStartMark;
+		final int bufferSize = csvBuffer.bufferSize;
+		while (rowStart < bufferSize && (csvBuffer.buffer[rowStart] == LF || csvBuffer.buffer[rowStart] == CR)) {
+			rowStart++;
+		}
+		if (rowStart < bufferSize) {
+			markRowStart(rowStart);
+			newRow(csvBuffer.buffer, rowStart, bufferSize, cellConsumer);
+			markRowStart(bufferSize);
+			_currentIndex = bufferSize;
+		}
+		cellConsumer.end();
+	}
+
+	@Override
+	public boolean shiftAndRead(boolean keepRow) throws IOException {
+		if (csvBuffer.isConstant()) return false;
+
+		// cells are only emitted once the end of line is found, always keep the row
+		int shiftFrom = Math.min(csvBuffer.rowStartMark, csvBuffer.bufferSize);
+
+		boolean b = csvBuffer.shiftAndRead(shiftFrom);
+		_currentIndex -= shiftFrom;
+		return b;
+	}
+}
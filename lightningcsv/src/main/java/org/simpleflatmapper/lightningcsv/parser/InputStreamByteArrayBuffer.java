@@ -0,0 +1,37 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class InputStreamByteArrayBuffer extends ByteArrayBuffer {
+
+	private final int maxBufferSize;
+	private final InputStream inputStream;
+	private final int readSize;
+
+	public InputStreamByteArrayBuffer(final int readSize, int maxBufferLength, InputStream inputStream) {
+		super(new byte[readSize < 4096 ? readSize : readSize * 2], 0);
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferLength;
+		this.inputStream = inputStream;
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public final boolean shiftAndRead(int shiftFrom) throws IOException {
+		int effectiveReadSize = shift(shiftFrom, readSize, maxBufferSize);
+
+		int l = inputStream.read(buffer, bufferSize, effectiveReadSize);
+
+		if (l >= 0) {
+			this.bufferSize += l;
+			return true;
+		} else {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * CharBuffer that maps the file in memory and decode the bytes straight into the char buffer.
+ * <p>
+ * The file is mapped by window of mappingSize bytes, the decoding does not go through a Reader and
+ * its intermediate byte buffer.
+ */
+public final class MappedFileCharBuffer extends CharBuffer implements Closeable {
+
+	public static final int DEFAULT_MAPPING_SIZE = 1 << 26; // 64M
+
+	private final FileChannel fileChannel;
+	private final CharsetDecoder decoder;
+	private final int readSize;
+	private final int maxBufferSize;
+	private final int mappingSize;
+	private final long endPosition;
+
+	private MappedByteBuffer mappedBuffer;
+	private long mappedPosition;
+	private boolean endOfInput;
+	private boolean flushed;
+
+	public MappedFileCharBuffer(FileChannel fileChannel, Charset charset, int readSize, int maxBufferSize) throws IOException {
+		this(fileChannel, charset, readSize, maxBufferSize, DEFAULT_MAPPING_SIZE);
+	}
+
+	public MappedFileCharBuffer(FileChannel fileChannel, Charset charset, int readSize, int maxBufferSize, int mappingSize) throws IOException {
+		this(fileChannel, charset, readSize, maxBufferSize, mappingSize, 0, fileChannel.size());
+	}
+
+	/**
+	 * Decode only the bytes from startPosition to endPosition, startPosition needs to be on a char boundary.
+	 */
+	public MappedFileCharBuffer(FileChannel fileChannel, Charset charset, int readSize, int maxBufferSize, int mappingSize, long startPosition, long endPosition) throws IOException {
+		super(new char[readSize < 4096 ? readSize : readSize * 2], 0);
+		this.fileChannel = fileChannel;
+		this.decoder = charset.newDecoder();
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferSize;
+		this.mappingSize = Math.max(mappingSize, 16);
+		this.endPosition = endPosition;
+		map(startPosition);
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public final boolean shiftAndRead(int shiftFrom) throws IOException {
+		int effectiveReadSize = shift(shiftFrom, readSize, maxBufferSize);
+
+		if (flushed) {
+			return false;
+		}
+
+		java.nio.CharBuffer out = java.nio.CharBuffer.wrap(buffer, bufferSize, effectiveReadSize);
+		decode(out);
+		this.bufferSize = out.position();
+
+		return true;
+	}
+
+	private void decode(java.nio.CharBuffer out) throws IOException {
+		while (out.hasRemaining() && !flushed) {
+			if (endOfInput) {
+				if (decoder.flush(out).isOverflow()) {
+					return;
+				}
+				flushed = true;
+			} else {
+				boolean lastWindow = mappedPosition + mappedBuffer.limit() >= endPosition;
+				CoderResult coderResult = decoder.decode(mappedBuffer, out, lastWindow);
+				if (coderResult.isError()) {
+					coderResult.throwException();
+				}
+				if (coderResult.isUnderflow()) {
+					if (lastWindow) {
+						endOfInput = true;
+					} else {
+						// remap from the first undecoded byte, it might be the start of a multi bytes char
+						map(mappedPosition + mappedBuffer.position());
+					}
+				}
+			}
+		}
+	}
+
+	private void map(long position) throws IOException {
+		long size = Math.min(mappingSize, endPosition - position);
+		mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, size);
+		mappedPosition = position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		mappedBuffer = null;
+		fileChannel.close();
+	}
+}
@@ -0,0 +1,47 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * Only forward the cells of the projected columns to the delegate.
+ * <p>
+ * The cells of the other columns are still tokenized to find the cell boundaries but they are not unescaped, trimmed
+ * or passed to the CellConsumer. The first cell of a row is the one with a state without {@link ConfigurableCharConsumer#ROW_DATA}.
+ */
+public final class ProjectionCellPreProcessor extends CellPreProcessor {
+
+    private final CellPreProcessor delegate;
+    private final boolean[] projected;
+    private int column;
+
+    public ProjectionCellPreProcessor(CellPreProcessor delegate, int[] columns) {
+        this.delegate = delegate;
+        this.projected = projectedColumns(columns);
+    }
+
+    public final void newCell(char[] chars, int start, int end, CellConsumer cellConsumer, int state) {
+        final int c = (state & ConfigurableCharConsumer.ROW_DATA) == 0 ? 0 : column;
+        column = c + 1;
+        if (c < projected.length && projected[c]) {
+            delegate.newCell(chars, start, end, cellConsumer, state);
+        }
+    }
+
+    @Override
+    public boolean ignoreLeadingSpace() {
+        return delegate.ignoreLeadingSpace();
+    }
+
+    static boolean[] projectedColumns(int[] columns) {
+        int length = 0;
+        for (int column : columns) {
+            if (column < 0) {
+                throw new IllegalArgumentException("Invalid column index " + column);
+            }
+            length = Math.max(length, column + 1);
+        }
+        boolean[] projected = new boolean[length];
+        for (int column : columns) {
+            projected[column] = true;
+        }
+        return projected;
+    }
+}
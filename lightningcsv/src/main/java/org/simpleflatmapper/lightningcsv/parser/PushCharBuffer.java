@@ -0,0 +1,63 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * CharBuffer fed by the caller instead of pulling from a Reader.
+ * <p>
+ * The chars passed to {@link #push(char[], int, int)} are copied into the buffer by {@link #shiftAndRead(int)} as space
+ * allows, it returns false once all the pushed chars have been consumed and the consumer needs to wait for the next push.
+ */
+public final class PushCharBuffer extends CharBuffer {
+
+	private final int maxBufferSize;
+	private final int readSize;
+
+	private char[] pending;
+	private int pendingOffset;
+	private int pendingLength;
+
+	public PushCharBuffer(final int readSize, int maxBufferLength) {
+		super(new char[readSize < 4096 ? readSize : readSize * 2], 0);
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferLength;
+	}
+
+	/**
+	 * make the chars available to the next {@link #shiftAndRead(int)} calls, the array is not copied and needs to
+	 * be left unchanged until {@link #hasPendingChars()} is false.
+	 */
+	public void push(char[] chars, int offset, int length) {
+		if (pendingLength > 0) {
+			throw new IllegalStateException("Previous chars have not been consumed yet");
+		}
+		this.pending = chars;
+		this.pendingOffset = offset;
+		this.pendingLength = length;
+	}
+
+	public boolean hasPendingChars() {
+		return pendingLength > 0;
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public boolean shiftAndRead(int shiftFrom) throws BufferOverflowException {
+		int effectiveReadSize = shift(shiftFrom, Math.min(readSize, pendingLength), maxBufferSize);
+
+		int l = Math.min(effectiveReadSize, pendingLength);
+		if (l <= 0) {
+			return false;
+		}
+		System.arraycopy(pending, pendingOffset, buffer, bufferSize, l);
+		bufferSize += l;
+		pendingOffset += l;
+		pendingLength -= l;
+		if (pendingLength == 0) {
+			pending = null;
+		}
+		return true;
+	}
+}
@@ -2,19 +2,40 @@ package org.simpleflatmapper.lightningcsv.parser;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.Arrays;
 
 public final class ReaderCharBuffer extends CharBuffer {
 
+	private static final char[] RELEASED = new char[0];
+
 	private final int maxBufferSize;
 	private final Reader reader;
 	private final int readSize;
+	private final CharBufferPool pool;
 
 	public ReaderCharBuffer(final int readSize, int maxBufferLength, Reader reader) {
-		super(new char[readSize < 4096 ? readSize : readSize * 2], 0);
+		super(new char[initialLength(readSize)], 0);
+		this.readSize = readSize;
+		this.maxBufferSize = maxBufferLength;
+		this.reader = reader;
+		this.pool = null;
+	}
+
+	/**
+	 * @param readSize the number of chars to read at once
+	 * @param maxBufferLength the maximum length of the buffer
+	 * @param reader the reader
+	 * @param pool the pool the buffers are acquired from and returned to on {@link #release()}
+	 */
+	public ReaderCharBuffer(final int readSize, int maxBufferLength, Reader reader, CharBufferPool pool) {
+		super(pool.acquire(initialLength(readSize)), 0);
 		this.readSize = readSize;
 		this.maxBufferSize = maxBufferLength;
 		this.reader = reader;
+		this.pool = pool;
+	}
+
+	private static int initialLength(int readSize) {
+		return readSize < 4096 ? readSize : readSize * 2;
 	}
 
 	@Override
@@ -24,57 +45,39 @@ public final class ReaderCharBuffer extends CharBuffer {
 
 	@Override
 	public final boolean shiftAndRead(int shiftFrom) throws IOException {
-		// shift buffer consumer data
-		int currentSize = this.bufferSize;
-		
-		int newSize = currentSize - shiftFrom;
-		
-		// shift left over
-		char[] lbuffer = this.buffer;
-		System.arraycopy(lbuffer, shiftFrom, lbuffer, 0, newSize);
-		cellStartMark -= shiftFrom;
-		rowStartMark -= shiftFrom;
-
-		int bufferLength = lbuffer.length;
-		
-		int availableSpace = bufferLength - newSize;
-	
-		int effectiveReadSize = readSize;
-		
-		// make sure we can read readSize
-		if (availableSpace < effectiveReadSize) {
-			int newBufferSize = bufferLength * 2;
-			
-			if (newBufferSize < bufferLength + effectiveReadSize) {
-				newBufferSize =  bufferLength + effectiveReadSize;
-			}
-			
-			if (newBufferSize > maxBufferSize) {
-				newBufferSize = maxBufferSize;
-			}
-			
-			if (newSize >= newBufferSize) {
-				throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ newSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
-			}
-			
-			
-			lbuffer = Arrays.copyOf(lbuffer, newBufferSize);
-			this.buffer = lbuffer;
-			
-			if (effectiveReadSize > bufferLength - newSize) {
-				effectiveReadSize = bufferLength - newSize;
-			}
+		if (buffer == RELEASED) {
+			return false;
 		}
+		int effectiveReadSize = shift(shiftFrom, readSize, maxBufferSize);
 
-		int l = reader.read(lbuffer, newSize, effectiveReadSize);
+		int l = reader.read(buffer, bufferSize, effectiveReadSize);
 		
 		if (l >= 0) {
-			this.bufferSize = newSize + l;
+			this.bufferSize += l;
 			return true;
 		} else {
-			this.bufferSize = newSize;
 			return false;
 		}
 	}
 
+	@Override
+	protected char[] grow(char[] buffer, int size, int newLength) {
+		if (pool == null) {
+			return super.grow(buffer, size, newLength);
+		}
+		char[] newBuffer = pool.bufferLength(newLength) <= maxBufferSize ? pool.acquire(newLength) : new char[newLength];
+		System.arraycopy(buffer, 0, newBuffer, 0, size);
+		pool.release(buffer);
+		return newBuffer;
+	}
+
+	@Override
+	public void release() {
+		if (pool != null && buffer != RELEASED) {
+			char[] buffer = this.buffer;
+			this.buffer = RELEASED;
+			pool.release(buffer);
+		}
+	}
+
 }
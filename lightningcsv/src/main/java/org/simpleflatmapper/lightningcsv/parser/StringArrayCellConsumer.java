@@ -9,18 +9,20 @@ public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super St
 	public static final int DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW = 64 * 1024 * 1024;
 	private final RH handler;
 	private final int maxNumberOfCellPerRow;
+	private final StringInterner stringInterner;
 	private int currentIndex;
 	private String[] currentRow = new String[8];
 
-	private StringArrayCellConsumer(RH handler, int maxNumberOfCellPerRow) {
+	private StringArrayCellConsumer(RH handler, int maxNumberOfCellPerRow, StringInterner stringInterner) {
 		this.handler = handler;
 		this.maxNumberOfCellPerRow = maxNumberOfCellPerRow;
+		this.stringInterner = stringInterner;
 	}
 
 	@Override
 	public void newCell(char[] chars, int offset, int length) {
 		ensureCapacity();
-		currentRow[currentIndex] = new String(chars, offset, length);
+		currentRow[currentIndex] = stringInterner != null ? stringInterner.newString(currentIndex, chars, offset, length) : new String(chars, offset, length);
 		currentIndex ++;
 	}
 
@@ -58,7 +60,18 @@ public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super St
 		}
 	}
 	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, int maxNumberOfCellPerRow) {
-		return new StringArrayCellConsumer<RH>(handler, maxNumberOfCellPerRow);
+		return newInstance(handler, maxNumberOfCellPerRow, null);
+	}
+
+	/**
+	 * @param handler the row handler
+	 * @param maxNumberOfCellPerRow the max number of cell per row
+	 * @param stringInterner the interner of the cells, null to create a new String per cell
+	 * @param <RH> the type of the handler
+	 * @return a new StringArrayCellConsumer
+	 */
+	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, int maxNumberOfCellPerRow, StringInterner stringInterner) {
+		return new StringArrayCellConsumer<RH>(handler, maxNumberOfCellPerRow, stringInterner);
 	}
 
 	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler) {
@@ -0,0 +1,141 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+/**
+ * Per column cache of the Strings created from the cells, to share the instances of the values that repeat like
+ * country codes, status or currencies.
+ * <p>
+ * The lookup hashes the chars of the cell and compares them to the cached String, no String is created on a hit.
+ * Each column has a bounded 2-way set associative cache, on a miss the least recently used String of the set is evicted.
+ * Cells longer than the max length are not cached.
+ * <p>
+ * Not thread safe, use one instance per parsing.
+ */
+public final class StringInterner {
+
+	public static final int DEFAULT_CACHE_SIZE = 512;
+	public static final int DEFAULT_MAX_LENGTH = 32;
+
+	private final boolean[] internedColumns;
+	private final int cacheSize;
+	private final int maxLength;
+
+	private Cache[] caches = new Cache[8];
+
+	/**
+	 * @param columns the index of the cells to intern, all the cells if empty
+	 * @param cacheSize the max number of Strings cached per column
+	 * @param maxLength the max length of the cells to intern
+	 */
+	public StringInterner(int[] columns, int cacheSize, int maxLength) {
+		this.internedColumns = columns.length == 0 ? null : toFlags(columns);
+		this.cacheSize = Math.max(2, cacheSize);
+		this.maxLength = maxLength;
+	}
+
+	public StringInterner(int[] columns) {
+		this(columns, DEFAULT_CACHE_SIZE, DEFAULT_MAX_LENGTH);
+	}
+
+	private static boolean[] toFlags(int[] columns) {
+		int max = 0;
+		for (int column : columns) {
+			if (column < 0) {
+				throw new IllegalArgumentException("Invalid column index " + column);
+			}
+			max = Math.max(max, column);
+		}
+		boolean[] flags = new boolean[max + 1];
+		for (int column : columns) {
+			flags[column] = true;
+		}
+		return flags;
+	}
+
+	/**
+	 * @param column the index of the cell in the row
+	 * @param chars the buffer
+	 * @param offset the offset of the cell
+	 * @param length the length of the cell
+	 * @return a String of the cell content, shared with the previous cells of that column with the same content
+	 */
+	public String newString(int column, char[] chars, int offset, int length) {
+		if (length > maxLength || !isInterned(column)) {
+			return new String(chars, offset, length);
+		}
+		return cache(column).get(chars, offset, length);
+	}
+
+	private boolean isInterned(int column) {
+		final boolean[] internedColumns = this.internedColumns;
+		return internedColumns == null || (column < internedColumns.length && internedColumns[column]);
+	}
+
+	private Cache cache(int column) {
+		Cache[] caches = this.caches;
+		if (column >= caches.length) {
+			Cache[] newCaches = new Cache[Math.max(caches.length * 2, column + 1)];
+			System.arraycopy(caches, 0, newCaches, 0, caches.length);
+			this.caches = caches = newCaches;
+		}
+		Cache cache = caches[column];
+		if (cache == null) {
+			cache = new Cache(cacheSize);
+			caches[column] = cache;
+		}
+		return cache;
+	}
+
+	private static final class Cache {
+		private final String[] values;
+		// index of the least recently used way of each set
+		private final byte[] lru;
+		private final int setMask;
+
+		private Cache(int size) {
+			int nbSets = Integer.highestOneBit(size / 2);
+			values = new String[nbSets * 2];
+			lru = new byte[nbSets];
+			setMask = nbSets - 1;
+		}
+
+		String get(char[] chars, int offset, int length) {
+			int h = 0;
+			final int end = offset + length;
+			for (int i = offset; i < end; i++) {
+				h = 31 * h + chars[i];
+			}
+			final int set = (h ^ (h >>> 16)) & setMask;
+			final int way0 = set << 1;
+
+			final String[] values = this.values;
+			String value = values[way0];
+			if (matches(value, h, chars, offset, length)) {
+				lru[set] = 1;
+				return value;
+			}
+			value = values[way0 + 1];
+			if (matches(value, h, chars, offset, length)) {
+				lru[set] = 0;
+				return value;
+			}
+
+			value = new String(chars, offset, length);
+			int evicted = lru[set];
+			values[way0 + evicted] = value;
+			lru[set] = (byte) (1 - evicted);
+			return value;
+		}
+
+		private static boolean matches(String value, int h, char[] chars, int offset, int length) {
+			if (value == null || value.length() != length || value.hashCode() != h) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (value.charAt(i) != chars[offset + i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,412 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+import static org.simpleflatmapper.lightningcsv.parser.ConfigurableCharConsumer.*;
+
+/**
+ * Consume an utf-8 - or ascii - encoded ByteArrayBuffer without decoding it first.
+ * <p>
+ * The separator, quote and escape chars need to be ascii, the bytes of a multi bytes utf-8 char are all negative
+ * and can't be mistaken for one of them. The cell is only decoded when the cellConsumer is not a {@link ByteCellConsumer}.
+ * <p>
+ * The consumer does not have a CharBuffer, it can't be used by the mappers that read the cell from the CharBuffer.
+ */
+public final class Utf8ByteConsumer extends AbstractCharConsumer {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final int TURN_OFF_LAST_CHAR_MASK = ~(LAST_CHAR_WAS_CR|LAST_CHAR_WAS_SEPARATOR);
+	private static final int TURN_OFF_QUOTED_AREA = ~(QUOTED_AREA);
+	private static final int TURN_OFF_ESCAPED = ~(ESCAPED);
+
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+	private static final byte SPACE = ' ';
+
+	private static final long LANES_LOW_BITS = 0x0101010101010101L;
+	private static final long LANES_HIGH_BITS = 0x8080808080808080L;
+	private static final long LFS = LANES_LOW_BITS * LF;
+	private static final long CRS = LANES_LOW_BITS * CR;
+
+	private final ByteArrayBuffer byteBuffer;
+	private final byte separatorChar;
+	private final byte quoteChar;
+	private final byte escapeChar;
+	private final boolean trimSpaces;
+	private final boolean unescape;
+	private final long separators;
+	private final boolean[] projected;
+	private int column;
+
+	private final CharsetDecoder decoder;
+	private char[] chars = new char[64];
+	private byte[] unescapedBytes = new byte[64];
+	private ByteBuffer wordView;
+
+	private int _currentIndex = 0;
+	private int _currentState = NONE;
+
+	public Utf8ByteConsumer(ByteArrayBuffer byteBuffer, TextFormat textFormat, boolean trimSpaces, boolean unescape) {
+		this(byteBuffer, textFormat, trimSpaces, unescape, null);
+	}
+
+	/**
+	 * @param columns the indexes of the columns to pass to the CellConsumer, null for all of them
+	 */
+	public Utf8ByteConsumer(ByteArrayBuffer byteBuffer, TextFormat textFormat, boolean trimSpaces, boolean unescape, int[] columns) {
+		if (textFormat.yamlComment) {
+			throw new IllegalArgumentException("Yaml comment not supported on byte level parsing");
+		}
+		this.byteBuffer = byteBuffer;
+		this.separatorChar = asciiByte(textFormat.separatorChar);
+		this.quoteChar = asciiByte(textFormat.quoteChar);
+		this.escapeChar = asciiByte(textFormat.escapeChar);
+		this.trimSpaces = trimSpaces;
+		this.unescape = unescape;
+		this.separators = LANES_LOW_BITS * separatorChar;
+		this.projected = columns != null ? ProjectionCellPreProcessor.projectedColumns(columns) : null;
+		this.decoder = UTF8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	private static byte asciiByte(char c) {
+		if (c > 127) {
+			throw new IllegalArgumentException("Byte level parsing only support ascii separator, quote and escape char, got " + c);
+		}
+		return (byte) c;
+	}
+
+	public ByteArrayBuffer byteBuffer() {
+		return byteBuffer;
+	}
+
+	@Override
+	public CharBuffer charBuffer() {
+		throw new UnsupportedOperationException("Byte level parsing has no CharBuffer");
+	}
+
+	@Override
+	public final void consumeAllBuffer(final CellConsumer cellConsumer) {
+		consume(cellConsumer, false);
+	}
+
+	@Override
+	public final boolean consumeToNextRow(CellConsumer cellConsumer) {
+		return consume(cellConsumer, true);
+	}
+
+	private boolean consume(final CellConsumer cellConsumer, final boolean stopAtEndOfRow) {
+		final boolean notIgnoreLeadingSpace = !trimSpaces;
+		final byte escapeChar = this.escapeChar;
+		final byte separatorChar = this.separatorChar;
+		final byte quoteChar = this.quoteChar;
+
+		int currentState = _currentState;
+		int currentIndex = _currentIndex;
+
+		final ByteArrayBuffer byteBuffer = this.byteBuffer;
+		final byte[] bytes = byteBuffer.buffer;
+		final int bufferSize = byteBuffer.bufferSize;
+		if (bufferSize > bytes.length) throw new ArrayIndexOutOfBoundsException();
+
+		try {
+			while (currentIndex < bufferSize) {
+				if ((currentState & QUOTED_AREA) == 0) {
+					final byte b = bytes[currentIndex];
+					final int cellEnd = currentIndex;
+
+					currentIndex++;
+
+					if (b == separatorChar) { // separator
+						newCell(byteBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+						byteBuffer.cellStartMark = currentIndex;
+						currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
+					} else if (b == LF) { // \n
+						if ((currentState & LAST_CHAR_WAS_CR) == 0) {
+							newCell(byteBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							if (cellConsumer.endOfRow() && stopAtEndOfRow) {
+								markEndOfRow(currentIndex);
+								currentState = NONE;
+								return true;
+							}
+						}
+						markEndOfRow(currentIndex);
+						currentState = NONE;
+					} else if (b == CR) { // \r
+						newCell(byteBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+						currentState = LAST_CHAR_WAS_CR;
+						markEndOfRow(currentIndex);
+						if (cellConsumer.endOfRow() && stopAtEndOfRow) {
+							return true;
+						}
+					} else if (((currentState ^ CELL_DATA) & (QUOTED | CELL_DATA)) != 0 && b == quoteChar) { // no cell data | quoted
+						currentState =
+								QUOTED_AREA
+										| QUOTED
+										| ((currentState & QUOTED) << 5) // if already quoted it's a double quot need to escape QUOTED << 5 is  CONTAINS_ESCAPED_CHAR
+										| (currentState & ROW_DATA);
+					} else {
+						currentState &= TURN_OFF_LAST_CHAR_MASK;
+						if (notIgnoreLeadingSpace || b != SPACE) {
+							currentState |= CELL_DATA;
+							if ((currentState & QUOTED) == 0) {
+								// unquoted cell only the separator and end of line are significant
+								currentIndex = findEndOfUnquotedCell(bytes, currentIndex, bufferSize);
+							}
+						}
+					}
+				} else if ((currentState & ESCAPED) != 0) {
+					currentState &= TURN_OFF_ESCAPED;
+					currentIndex++;
+				} else {
+					final byte b = bytes[currentIndex];
+					currentIndex++;
+					if (b == quoteChar) {
+						currentState &= TURN_OFF_QUOTED_AREA;
+					} else if (b == escapeChar) {
+						currentState |= ESCAPED | CONTAINS_ESCAPED_CHAR;
+					}
+				}
+			}
+			return false;
+		} finally {
+			_currentState = currentState;
+			_currentIndex = currentIndex;
+		}
+	}
+
+	/**
+	 * Skip to the next separator, \r or \n, 8 bytes at a time after the first 8 bytes. The bytes of a multi bytes char have their high bit set
+	 * and never match.
+	 * @return the index of the byte or end if none found
+	 */
+	private int findEndOfUnquotedCell(final byte[] bytes, final int start, final int end) {
+		final byte separatorChar = this.separatorChar;
+		int i = start;
+
+		// most cells are short, check the first bytes one by one
+		final int scalarEnd = Math.min(start + 8, end);
+		for(; i < scalarEnd; i++) {
+			final byte b = bytes[i];
+			if (b == separatorChar || b == LF || b == CR) {
+				return i;
+			}
+		}
+
+		if (end - i >= 8) {
+			final ByteBuffer words = wordView(bytes);
+			final long separators = this.separators;
+			do {
+				final long word = words.getLong(i);
+				if ((hasZeroByte(word ^ separators) | hasZeroByte(word ^ LFS) | hasZeroByte(word ^ CRS)) != 0) {
+					break;
+				}
+				i += 8;
+			} while (end - i >= 8);
+		}
+
+		for(; i < end; i++) {
+			final byte b = bytes[i];
+			if (b == separatorChar || b == LF || b == CR) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private ByteBuffer wordView(byte[] bytes) {
+		ByteBuffer view = this.wordView;
+		if (view == null || view.array() != bytes) {
+			view = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+			this.wordView = view;
+		}
+		return view;
+	}
+
+	/**
+	 * non zero if one of the 8 bytes is 0, might also flag the bytes above a 0 byte because of the borrow
+	 * which is fine as the first matching byte is then looked up.
+	 */
+	private static long hasZeroByte(long word) {
+		return (word - LANES_LOW_BITS) & ~word & LANES_HIGH_BITS;
+	}
+
+	private void markEndOfRow(int currentIndex) {
+		ByteArrayBuffer byteBuffer = this.byteBuffer;
+		byteBuffer.cellStartMark = currentIndex;
+		byteBuffer.rowStartMark = currentIndex;
+	}
+
+	private void newCell(int start, int end, CellConsumer cellConsumer, int state) {
+		final boolean[] projected = this.projected;
+		if (projected != null) {
+			final int c = (state & ROW_DATA) == 0 ? 0 : column;
+			column = c + 1;
+			if (c >= projected.length || !projected[c]) {
+				return;
+			}
+		}
+
+		byte[] bytes = byteBuffer.buffer;
+
+		if (trimSpaces) {
+			for(; start < end && bytes[end - 1] == SPACE; end--)
+				;
+			for(; start < end && bytes[start] == SPACE; start++)
+				;
+		}
+
+		if (unescape && (state & QUOTED) != 0) {
+			start++;
+			if ((state & CONTAINS_ESCAPED_CHAR) == 0) {
+				end = unquote(bytes, start, end);
+			} else {
+				if (byteBuffer.isConstant()) {
+					// the caller's array, unescape a copy of the cell
+					bytes = copyCell(bytes, start, end);
+					end -= start;
+					start = 0;
+				}
+				end = unescape(bytes, start, end);
+			}
+		}
+
+		if (cellConsumer instanceof ByteCellConsumer) {
+			((ByteCellConsumer) cellConsumer).newCell(bytes, start, end - start);
+		} else {
+			decode(bytes, start, end - start, cellConsumer);
+		}
+	}
+
+	private byte[] copyCell(byte[] bytes, int start, int end) {
+		int length = end - start;
+		byte[] copy = this.unescapedBytes;
+		if (copy.length < length) {
+			copy = new byte[Math.max(length, copy.length * 2)];
+			this.unescapedBytes = copy;
+		}
+		System.arraycopy(bytes, start, copy, 0, length);
+		return copy;
+	}
+
+	private int unquote(final byte[] bytes, int start, int end) {
+		if (end > start && bytes[end - 1] == quoteChar) {
+			return end - 1;
+		}
+		return end;
+	}
+
+	private int unescape(final byte[] bytes, int start, int end) {
+		for(int i = start; i < end - 1; i++) {
+			if (bytes[i] == escapeChar) {
+				return unescapeFrom(bytes, end, i);
+			}
+		}
+		// no escape Char ??? fall back on unquote
+		return unquote(bytes, start, end);
+	}
+
+	private int unescapeFrom(byte[] bytes, int end, int currentIndex) {
+		int destIndex = currentIndex;
+		boolean escaped = true;
+		for(int i = currentIndex +1 ;i < end -1; i++) {
+			byte b = bytes[i];
+			if (!escaped) {
+				if (b != escapeChar) {
+					bytes[destIndex++] = b;
+				} else {
+					escaped = true;
+				}
+			} else {
+				bytes[destIndex++] = unescapeByte(b);
+				escaped = false;
+			}
+		}
+		byte b = bytes[end - 1];
+		if (b != quoteChar || escaped) {
+			bytes[destIndex++] = b;
+		}
+		return destIndex;
+	}
+
+	private byte unescapeByte(byte b) {
+		if (escapeChar == '\\') {
+			switch (b) {
+				case 'n':
+					return '\n';
+				case 'r':
+					return '\r';
+				case 't':
+					return '\t';
+				case 'b':
+					return '\b';
+				case 'f':
+					return '\f';
+				case 'v':
+					return 0x0B;
+			}
+		}
+		return b;
+	}
+
+	private void decode(byte[] bytes, int offset, int length, CellConsumer cellConsumer) {
+		// utf-8 never decodes to more chars than bytes
+		char[] lchars = this.chars;
+		if (lchars.length < length) {
+			lchars = new char[Math.max(length, lchars.length * 2)];
+			this.chars = lchars;
+		}
+
+		int i = 0;
+		for(; i < length; i++) {
+			byte b = bytes[offset + i];
+			if (b < 0) break;
+			lchars[i] = (char) b;
+		}
+
+		if (i == length) {
+			cellConsumer.newCell(lchars, 0, length);
+		} else {
+			// multi bytes char use the decoder for the rest of the cell
+			java.nio.CharBuffer out = java.nio.CharBuffer.wrap(lchars, i, lchars.length - i);
+			decoder.reset();
+			decoder.decode(ByteBuffer.wrap(bytes, offset + i, length - i), out, true);
+			decoder.flush(out);
+			cellConsumer.newCell(lchars, 0, out.position());
+		}
+	}
+
+	@Override
+	public final void finish(CellConsumer cellConsumer) {
+		if ( hasUnconsumedData()
+				|| (_currentState & LAST_CHAR_WAS_SEPARATOR) != 0) {
+			newCell(byteBuffer.cellStartMark, _currentIndex, cellConsumer, _currentState);
+			byteBuffer.cellStartMark = _currentIndex + 1;
+			_currentState = NONE;
+		}
+		cellConsumer.end();
+	}
+
+	private boolean hasUnconsumedData() {
+		return _currentIndex > byteBuffer.cellStartMark;
+	}
+
+	@Override
+	public boolean shiftAndRead(boolean keepRow) throws IOException {
+		if (byteBuffer.isConstant()) return false;
+
+		int shiftFrom = keepRow ? byteBuffer.rowStartMark : Math.min(byteBuffer.cellStartMark, byteBuffer.bufferSize);
+
+		boolean b = byteBuffer.shiftAndRead(shiftFrom);
+		_currentIndex -= shiftFrom;
+		return b;
+	}
+}
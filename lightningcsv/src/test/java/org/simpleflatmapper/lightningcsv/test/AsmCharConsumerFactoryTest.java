@@ -0,0 +1,31 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.impl.AsmCharConsumerFactory;
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ConfigurableCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.lightningcsv.parser.UnescapeCellPreProcessor;
+
+import static org.junit.Assert.assertTrue;
+
+public class AsmCharConsumerFactoryTest {
+
+    @Test
+    public void testSpecialisationStillAvailableAfterMoreThan64Formats() {
+        AsmCharConsumerFactory factory = new AsmCharConsumerFactory();
+        for(char separator = 'A'; separator < 'A' + 100; separator++) {
+            assertSpecialised(factory, separator);
+        }
+        // evicted separators get a new specialisation
+        assertSpecialised(factory, 'A');
+        assertSpecialised(factory, 'B');
+    }
+
+    private void assertSpecialised(AsmCharConsumerFactory factory, char separator) {
+        TextFormat textFormat = new TextFormat(separator, '"', '"', false);
+        AbstractCharConsumer charConsumer = factory.newCharConsumer(textFormat, new CharSequenceCharBuffer("a"), new UnescapeCellPreProcessor('"', '"'), true);
+        assertTrue(charConsumer.getClass() != ConfigurableCharConsumer.class);
+    }
+}
@@ -0,0 +1,174 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.Compression;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CompressionTest {
+
+    private static final int NB_ROWS = 20000;
+
+    @Test
+    public void testGzip() throws IOException {
+        File file = File.createTempFile("test", ".csv.gz");
+        try {
+            GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(file));
+            try {
+                out.write(content());
+            } finally {
+                out.close();
+            }
+            assertEquals(Compression.GZIP, Compression.detect(file));
+            assertContent(file);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testBgzf() throws IOException {
+        File file = File.createTempFile("test", ".csv.bgz");
+        try {
+            OutputStream out = new FileOutputStream(file);
+            try {
+                byte[] content = content();
+                // small blocks so that the rows span several blocks
+                for(int i = 0; i < content.length; i += 1000) {
+                    writeBgzfBlock(out, content, i, Math.min(1000, content.length - i));
+                }
+                // eof block
+                writeBgzfBlock(out, content, 0, 0);
+            } finally {
+                out.close();
+            }
+            assertEquals(Compression.BGZF, Compression.detect(file));
+            assertContent(file);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testPlainAndZstdDetection() throws IOException {
+        File file = File.createTempFile("test", ".csv");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(content());
+            } finally {
+                out.close();
+            }
+            assertEquals(Compression.NONE, Compression.detect(file));
+            assertContent(file);
+
+            out = new FileOutputStream(file);
+            try {
+                out.write(new byte[] { 0x28, (byte) 0xb5, 0x2f, (byte) 0xfd, 0, 0 });
+            } finally {
+                out.close();
+            }
+            assertEquals(Compression.ZSTD, Compression.detect(file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testCorruptedBgzf() throws IOException {
+        File file = File.createTempFile("test", ".csv.bgz");
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            writeBgzfBlock(bos, content(), 0, 1000);
+            byte[] bytes = bos.toByteArray();
+            bytes[bytes.length - 6] ^= 1; // crc
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(bytes);
+            } finally {
+                out.close();
+            }
+            try {
+                CsvParser.forEach(file, new ListCollector<String[]>());
+                fail();
+            } catch (IOException e) {
+                // expected
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private void assertContent(File file) throws IOException {
+        for (CsvParser.DSL dsl : new CsvParser.DSL[] { CsvParser.dsl(), CsvParser.dsl().mmap(), CsvParser.dsl().parallelReader() }) {
+            List<String[]> rows = dsl.forEach(file, new ListCollector<String[]>()).getList();
+            assertRows(rows);
+
+            CloseableCsvReader reader = dsl.reader(file);
+            try {
+                assertRows(reader.read(new ListCollector<String[]>()).getList());
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private void assertRows(List<String[]> rows) {
+        assertEquals(NB_ROWS, rows.size());
+        for(int i = 0; i < NB_ROWS; i++) {
+            assertArrayEquals(new String[] { String.valueOf(i), "value " + i, "a,\"b\"" }, rows.get(i));
+        }
+    }
+
+    private byte[] content() {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < NB_ROWS; i++) {
+            sb.append(i).append(",value ").append(i).append(",\"a,\"\"b\"\"\"\n");
+        }
+        return sb.toString().getBytes();
+    }
+
+    private void writeBgzfBlock(OutputStream out, byte[] content, int offset, int length) throws IOException {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(content, offset, length);
+        deflater.finish();
+        byte[] compressed = new byte[length + 1024];
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+        deflater.end();
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(content, offset, length);
+
+        int blockSize = 18 + compressedLength + 8;
+        out.write(new byte[] { 0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff, 6, 0, 'B', 'C', 2, 0 });
+        writeInt16(out, blockSize - 1);
+        out.write(compressed, 0, compressedLength);
+        writeInt16(out, (int) crc32.getValue());
+        writeInt16(out, (int) (crc32.getValue() >> 16));
+        writeInt16(out, length);
+        writeInt16(out, length >> 16);
+    }
+
+    private void writeInt16(OutputStream out, int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+    }
+}
@@ -0,0 +1,134 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvDialect;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CsvDialectTest {
+
+    @Test
+    public void testSeparators() {
+        assertDialect(CsvDialect.sniff("id,name,value\n1,bob,3.5\n2,\"a;b\",4\n"), ',', '"', '"', true);
+        assertDialect(CsvDialect.sniff("id;name;value\r\n1;bob,jr;3,5\r\n2;\"a;b\";4\r\n"), ';', '"', '"', true);
+        assertDialect(CsvDialect.sniff("id\tname\n1\tbob\n2\ta,b\n"), '\t', '"', '"', true);
+        assertDialect(CsvDialect.sniff("id|time\r1|12:30\r2|13:40\r"), '|', '"', '"', true);
+    }
+
+    @Test
+    public void testQuoteAndEscape() {
+        assertDialect(CsvDialect.sniff("1,'a,b',it\n2,'c,d',is\n3,'e',ok\n"), ',', '\'', '\'', false);
+        assertDialect(CsvDialect.sniff("1,\"a \\\"b\\\", c\"\n2,\"d\"\n3,\"e\"\n"), ',', '"', '\\', false);
+        assertDialect(CsvDialect.sniff("1,\"a \"\"b\"\", c\"\n2,\"d\"\n3,\"e\"\n"), ',', '"', '"', false);
+    }
+
+    @Test
+    public void testHeader() {
+        assertFalse(CsvDialect.sniff("1,2\n3,4\n5,6\n").hasHeader);
+        assertTrue(CsvDialect.sniff("a,b\n3,4\n5,6\n").hasHeader);
+        assertTrue(CsvDialect.sniff("code,value\nFR,x\nGB,yy\n").hasHeader);
+        assertFalse(CsvDialect.sniff("FR,x\nGB,yy\nDE,z\n").hasHeader);
+    }
+
+    @Test
+    public void testTruncatedLastRowIsIgnored() {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 10; i++) {
+            sb.append(i).append(";a;b\n");
+        }
+        sb.append("10;\"a");
+        assertDialect(CsvDialect.sniff(sb), ';', '"', '"', false);
+    }
+
+    @Test
+    public void testLastRowWithoutEndOfLineIsUsed() throws IOException {
+        assertTrue(CsvDialect.sniff("a,b\n1,2").hasHeader);
+        assertTrue(CsvParser.sniff(new BufferedReader(new StringReader("a,b\n1,2"))).hasHeader);
+    }
+
+    @Test
+    public void testCutSampleDropsTheLastRow() throws IOException {
+        StringBuilder sb = new StringBuilder("a;b\n1;");
+        while (sb.length() < CsvDialect.DEFAULT_SAMPLE_SIZE + 10) {
+            sb.append('x');
+        }
+        sb.append('\n');
+        // the second row is cut by the sample size, only the first row is used
+        BufferedReader reader = new BufferedReader(new StringReader(sb.toString()), CsvDialect.DEFAULT_SAMPLE_SIZE * 2);
+        assertDialect(CsvParser.sniff(reader), ';', '"', '"', false);
+        assertEquals('a', reader.read());
+
+        assertDialect(CsvDialect.sniff(sb), ';', '"', '"', true);
+    }
+
+    @Test
+    public void testSniffReader() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("a;b\n1;2\n"));
+        CsvDialect dialect = CsvParser.sniff(reader);
+        assertTrue(dialect.hasHeader);
+        List<String[]> rows = dialect.applyTo(CsvParser.dsl()).forEach(reader, new ListCollector<String[]>()).getList();
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[] {"a", "b"}, rows.get(0));
+
+        try {
+            CsvParser.sniff(new NoMarkReader("a;b"));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSniffFile() throws IOException {
+        File file = File.createTempFile("test", ".csv");
+        try {
+            FileWriter writer = new FileWriter(file);
+            try {
+                writer.write("a|'b|c'\n1|'2'\n");
+            } finally {
+                writer.close();
+            }
+            CsvDialect dialect = CsvParser.sniff(file);
+            assertTrue(dialect.hasHeader);
+            CsvParser.DSL dsl = dialect.applyTo(CsvParser.dsl());
+            assertEquals('|', dsl.separator());
+            assertEquals('\'', dsl.quote());
+            List<String[]> rows = dsl.forEach(file, new ListCollector<String[]>()).getList();
+            assertArrayEquals(new String[] {"a", "b|c"}, rows.get(0));
+            assertArrayEquals(new String[] {"1", "2"}, rows.get(1));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private void assertDialect(CsvDialect dialect, char separator, char quote, char escape, boolean hasHeader) {
+        assertEquals(dialect.toString(), separator, dialect.textFormat.separatorChar);
+        assertEquals(dialect.toString(), quote, dialect.textFormat.quoteChar);
+        assertEquals(dialect.toString(), escape, dialect.textFormat.escapeChar);
+        assertEquals(dialect.toString(), hasHeader, dialect.hasHeader);
+    }
+
+    private static class NoMarkReader extends StringReader {
+        NoMarkReader(String s) {
+            super(s);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.CsvIndex;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CsvIndexTest {
+
+    private static final String[] END_OF_LINES = { "\n", "\r\n", "\r" };
+
+    @Test
+    public void testSeek() throws IOException {
+        File file = createCsvFile(new Random(3), 500);
+        List<String[]> rows = CsvParser.dsl().forEach(file, new ListCollector<String[]>()).getList();
+
+        for (CsvParser.DSL dsl : new CsvParser.DSL[] { CsvParser.dsl().bufferSize(16), CsvParser.dsl().bufferSize(16).mmap() }) {
+            CsvIndex index = dsl.index(file, 7);
+            assertEquals(rows.size(), index.rowCount());
+
+            for (int row = 0; row < rows.size(); row += 3) {
+                CloseableCsvReader reader = dsl.seek(file, index, row);
+                try {
+                    Iterator<String[]> iterator = reader.iterator();
+                    for (int i = row; i < Math.min(row + 10, rows.size()); i++) {
+                        assertArrayEquals("row " + i, rows.get(i), iterator.next());
+                    }
+                } finally {
+                    reader.close();
+                }
+            }
+
+            CloseableCsvReader reader = dsl.seek(file, index, rows.size());
+            try {
+                assertFalse(reader.iterator().hasNext());
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    @Test
+    public void testWriteReadIndexAndSkip() throws IOException {
+        File file = createCsvFile(new Random(5), 100);
+        List<String[]> rows = CsvParser.dsl().forEach(file, new ListCollector<String[]>()).getList();
+
+        File indexFile = CsvIndex.indexFile(file);
+        indexFile.deleteOnExit();
+        CsvParser.dsl().index(file, 10).write(indexFile);
+
+        CsvIndex index = CsvIndex.read(indexFile);
+        assertTrue(index.isUpToDate(file));
+        assertEquals(10, index.rowInterval());
+        assertEquals(rows.size(), index.rowCount());
+
+        CloseableCsvReader reader = CsvParser.dsl().skip(42).reader(file, index);
+        try {
+            assertArrayEquals(rows.get(42), reader.iterator().next());
+        } finally {
+            reader.close();
+        }
+    }
+
+    private File createCsvFile(Random random, int nbRows) throws IOException {
+        File file = File.createTempFile("index", ".csv");
+        file.deleteOnExit();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), CsvParser.DEFAULT_CHARSET);
+        try {
+            for(int i = 0; i < nbRows; i++) {
+                switch (random.nextInt(5)) {
+                    case 0:
+                        writer.write("\"quoted\r\nnew line " + i + "\",b");
+                        break;
+                    case 1:
+                        // empty row
+                        break;
+                    default:
+                        writer.write(i + ",value" + random.nextInt());
+                }
+                writer.write(END_OF_LINES[random.nextInt(END_OF_LINES.length)]);
+            }
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+}
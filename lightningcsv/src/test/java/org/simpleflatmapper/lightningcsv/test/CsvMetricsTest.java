@@ -0,0 +1,96 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvMetrics;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CsvMetricsTest {
+
+    @Test
+    public void testMetricsOnReader() throws IOException {
+        String content = content();
+        CsvMetrics metrics = new CsvMetrics();
+
+        List<String[]> rows = CsvParser.bufferSize(64).metrics(metrics).forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+
+        assertEquals(201, rows.size());
+        assertMetrics(content, metrics);
+    }
+
+    @Test
+    public void testMetricsOnBytes() throws IOException {
+        String content = content();
+        CsvMetrics metrics = new CsvMetrics();
+
+        List<String[]> rows = CsvParser.bufferSize(64).metrics(metrics).reader(new ByteArrayInputStream(content.getBytes("UTF-8"))).read(new ListCollector<String[]>()).getList();
+
+        assertEquals(201, rows.size());
+        assertMetrics(content, metrics);
+    }
+
+    @Test
+    public void testMetricsOnIterator() throws IOException {
+        String content = content();
+        CsvMetrics metrics = new CsvMetrics();
+
+        int nbRows = 0;
+        for (String[] row : CsvParser.bufferSize(64).metrics(metrics).reader(new StringReader(content))) {
+            nbRows++;
+        }
+
+        assertEquals(201, nbRows);
+        assertMetrics(content, metrics);
+    }
+
+    private void assertMetrics(String content, CsvMetrics metrics) {
+        assertEquals(201, metrics.rows());
+        assertEquals(content.length(), metrics.read());
+        assertEquals(5000, metrics.maxCellLength());
+        assertTrue(metrics.bufferGrowths() > 0);
+        assertTrue(metrics.maxBufferLength() > 5000);
+        assertEquals(metrics.refills(), metrics.readNanosHistogram().count());
+        assertEquals(metrics.refills(), metrics.cellLengthHistogram().count());
+        assertTrue(metrics.cellLengthHistogram().percentile(1.0) >= 5000);
+        assertTrue(metrics.rowsPerSecond() > 0);
+    }
+
+    private String content() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append(i).append(",value").append(i).append('\n');
+        }
+        sb.append("big,");
+        for (int i = 0; i < 5000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        sb.append('\n');
+        for (int i = 0; i < 99; i++) {
+            sb.append(i).append(",value").append(i).append('\n');
+        }
+        sb.append("last,row");
+        return sb.toString();
+    }
+
+    @Test
+    public void testHistogram() {
+        CsvMetrics.Histogram histogram = new CsvMetrics.Histogram();
+        assertEquals(0, histogram.percentile(0.5));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.count());
+        assertEquals(63, histogram.percentile(0.5));
+        assertEquals(127, histogram.percentile(1.0));
+        assertEquals(1, histogram.bucketCount(1));
+        assertEquals(2, histogram.bucketCount(2));
+    }
+}
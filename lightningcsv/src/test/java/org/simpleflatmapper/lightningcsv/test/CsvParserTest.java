@@ -11,6 +11,7 @@ import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.ParallelReader;
 
 import java.io.CharArrayReader;
 import java.io.File;
@@ -372,8 +373,109 @@ public class CsvParserTest {
 		assertEquals(3, i);
 	}
 
+	@Test
+	public void testParallelStreamRows() throws
+			IOException {
+		StringBuilder sb = new StringBuilder("key\n");
+		for(int j = 0; j < 5000; j++) {
+			sb.append("row").append(j).append("\n");
+		}
+
+		List<String[]> rows = CsvParser.stream(sb.toString()).parallel().collect(Collectors.toList());
+		assertEquals(5001, rows.size());
+		for(int j = 0; j < 5000; j++) {
+			assertArrayEquals(new String[] {"row" + j}, rows.get(j + 1));
+		}
+
+		List<Row> csvRows = CsvParser.dsl().rowStream(sb.toString()).parallel().collect(Collectors.toList());
+		assertEquals(5000, csvRows.size());
+		for(int j = 0; j < 5000; j++) {
+			assertEquals("row" + j, csvRows.get(j).get("key"));
+		}
+	}
+
+	@Test
+	public void testParallelStreamRowsWithoutEndOfLine() throws IOException {
+		StringBuilder sb = new StringBuilder("key");
+		for(int j = 0; j < 5000; j++) {
+			sb.append("\nrow").append(j);
+		}
+
+		List<String[]> rows = CsvParser.stream(sb.toString()).parallel().collect(Collectors.toList());
+		assertEquals(5001, rows.size());
+		for(int j = 0; j < 5000; j++) {
+			assertArrayEquals(new String[] {"row" + j}, rows.get(j + 1));
+		}
+
+		List<Row> csvRows = CsvParser.dsl().rowStream(sb.toString()).parallel().collect(Collectors.toList());
+		assertEquals(5000, csvRows.size());
+		for(int j = 0; j < 5000; j++) {
+			assertEquals("row" + j, csvRows.get(j).get("key"));
+		}
+	}
+
 	//IFJAVA8_END
 
+	@Test
+	public void testColumnsProjection() throws IOException {
+		String content = "a,b,c,d\n"
+				+ "\"1\"\"\",\"x\ny\",\"2,\"\"\", 3\r\n"
+				+ "\"q\",,4\n"
+				+ "\n"
+				+ "5,\"6\"\r"
+				+ "7,8,9,10,11";
+		List<String[]> rows = CsvParser.dsl().forEach(content, new ListCollector<String[]>()).getList();
+
+		CsvParser.DSL[] dsls = {
+				CsvParser.dsl(),
+				CsvParser.dsl().bufferSize(4),
+				CsvParser.dsl().disableSpecialisedCharConsumer(),
+				CsvParser.dsl().trimSpaces(),
+				CsvParser.dsl().disableUnescaping()
+		};
+		for (CsvParser.DSL dsl : dsls) {
+			List<String[]> fullRows = dsl.forEach(content, new ListCollector<String[]>()).getList();
+			List<String[]> expected = new ArrayList<String[]>();
+			for (String[] row : fullRows) {
+				List<String> projected = new ArrayList<String>();
+				if (row.length > 1) projected.add(row[1]);
+				if (row.length > 3) projected.add(row[3]);
+				expected.add(projected.toArray(new String[0]));
+			}
+
+			List<String[]> charRows = dsl.columns(3, 1).forEach(content, new ListCollector<String[]>()).getList();
+			List<String[]> byteRows = new ArrayList<String[]>();
+			for (String[] row : dsl.columns(1, 3).reader(content.getBytes("UTF-8"))) {
+				byteRows.add(row);
+			}
+
+			assertEquals(expected.size(), charRows.size());
+			assertEquals(expected.size(), byteRows.size());
+			for(int i = 0; i < expected.size(); i++) {
+				assertArrayEquals(expected.get(i), charRows.get(i));
+				assertArrayEquals(expected.get(i), byteRows.get(i));
+			}
+		}
+		// the last row has no end of line and no projected cell
+		assertEquals(rows.size() - 1, CsvParser.dsl().columns(7).forEach(content, new ListCollector<String[]>()).getList().size());
+	}
+
+	@Test
+	public void testColumnsProjectionWithYamlCommentsFails() {
+		try {
+			CsvParser.dsl().withYamlComments().columns(1);
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		try {
+			CsvParser.dsl().columns(1).withYamlCommentsAsCell();
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
 	private static class AccumulateCellConsumer implements CellConsumer {
 		final List<String[]> rows = new ArrayList<String[]>();
 		final List<String> currentRow = new ArrayList<String>();
@@ -502,6 +604,38 @@ public class CsvParserTest {
 
 	}
 
+	@Test
+	public void testParallelCsvReaderFromFile() throws IOException {
+		File file = createTempCsv("1,cafe\n2,euro\n3,\"a\nb\"");
+
+		CloseableCsvReader reader = CsvParser.dsl().parallelReader().reader(file);
+		try {
+			List<String[]> rows = reader.read(new ListCollector<String[]>()).getList();
+			assertEquals(3, rows.size());
+			assertArrayEquals(new String[] {"1", "cafe"}, rows.get(0));
+			assertArrayEquals(new String[] {"2", "euro"}, rows.get(1));
+			assertArrayEquals(new String[] {"3", "a\nb"}, rows.get(2));
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Test
+	public void testParallelReaderVirtualThreads() throws IOException {
+		CsvParser.DSL dsl;
+		try {
+			dsl = CsvParser.dsl().parallelReader(ParallelReader.ThreadMode.VIRTUAL);
+		} catch (UnsupportedOperationException e) {
+			// fails when configured, not at the first read
+			assertFalse(ParallelReader.isVirtualThreadSupported());
+			return;
+		}
+		assertTrue(ParallelReader.isVirtualThreadSupported());
+		List<String[]> rows = dsl.forEach(new StringReader("a,b\nc,d"), new ListCollector<String[]>()).getList();
+		assertEquals(2, rows.size());
+		assertArrayEquals(new String[] {"c", "d"}, rows.get(1));
+	}
+
 	@Test
 	public void testCsvReaderFromString() throws IOException {
 		CsvReader reader = CsvParser.reader("value");
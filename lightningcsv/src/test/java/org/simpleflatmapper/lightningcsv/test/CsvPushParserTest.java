@@ -0,0 +1,98 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvPushParser;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CsvPushParserTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testPushCharsSameAsReader() throws IOException {
+        Random random = new Random(23);
+        String content = createContent(random);
+
+        for (CsvParser.DSL dsl : new CsvParser.DSL[] { CsvParser.dsl(), CsvParser.dsl().bufferSize(4), CsvParser.dsl().skip(3).trimSpaces() }) {
+            List<String[]> expected = dsl.forEach(content, new ListCollector<String[]>()).getList();
+
+            CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> pushParser =
+                    dsl.pushParser(StringArrayCellConsumer.newInstance(new ListCollector<String[]>()));
+            char[] chars = content.toCharArray();
+            int i = 0;
+            while (i < chars.length) {
+                int length = Math.min(random.nextInt(20), chars.length - i);
+                char[] chunk = new char[length];
+                System.arraycopy(chars, i, chunk, 0, length);
+                pushParser.push(chunk);
+                i += length;
+            }
+
+            assertRowsEquals(expected, pushParser.finish().handler().getList());
+        }
+    }
+
+    @Test
+    public void testPushBytesWithSplitChars() throws IOException {
+        Random random = new Random(29);
+        String content = createContent(random);
+        List<String[]> expected = CsvParser.dsl().forEach(content, new ListCollector<String[]>()).getList();
+
+        byte[] bytes = content.getBytes(UTF8);
+        for(int maxChunk : new int[] { 1, 2, 7, 1000 }) {
+            CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> pushParser =
+                    CsvParser.dsl().bufferSize(8).pushParser(StringArrayCellConsumer.newInstance(new ListCollector<String[]>()), UTF8);
+            int i = 0;
+            while (i < bytes.length) {
+                int length = Math.min(1 + random.nextInt(maxChunk), bytes.length - i);
+                ByteBuffer chunk = ByteBuffer.wrap(bytes, i, length);
+                pushParser.push(chunk);
+                assertEquals(0, chunk.remaining());
+                i += length;
+            }
+
+            assertRowsEquals(expected, pushParser.finish().handler().getList());
+        }
+    }
+
+    @Test
+    public void testFinishFlushesLastCell() throws IOException {
+        CsvPushParser<StringArrayCellConsumer<ListCollector<String[]>>> pushParser =
+                CsvParser.dsl().pushParser(StringArrayCellConsumer.newInstance(new ListCollector<String[]>()));
+        pushParser.push("a,b\r").push("\nc,\"d");
+        assertEquals(1, pushParser.cellConsumer().handler().getList().size());
+
+        List<String[]> rows = pushParser.push("\"\"\"").finish().handler().getList();
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[] { "a", "b" }, rows.get(0));
+        assertArrayEquals(new String[] { "c", "d\"" }, rows.get(1));
+    }
+
+    private void assertRowsEquals(List<String[]> expected, List<String[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private String createContent(Random random) {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 500; i++) {
+            sb.append(i).append(", \"caf\u00e9 \"\"").append(random.nextInt()).append("\"\"\r\n\u20ac\",");
+            sb.append(random.nextBoolean() ? "" : "\ud83d\ude00" + random.nextLong());
+            sb.append(random.nextBoolean() ? "\n" : "\r\n");
+        }
+        return sb.append("last,\u00e9").toString();
+    }
+}
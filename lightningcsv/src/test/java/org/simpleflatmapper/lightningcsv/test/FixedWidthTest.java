@@ -0,0 +1,70 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.Row;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class FixedWidthTest {
+
+    private static final String CONTENT =
+              "id  name      amount\n"
+            + "1   bob        12.50\r\n"
+            + "\n"
+            + "22  alice,\"x\"  3.00\r"
+            + "333 short\n"
+            + "4444joe        99.99 trailing";
+
+    private static final String[][] EXPECTED = {
+            { "id", "name", "amount" },
+            { "1", "bob", "12.50" },
+            { "22", "alice,\"x\"", "3.00" },
+            { "333", "short", "" },
+            { "4444", "joe", "99.99" },
+    };
+
+    @Test
+    public void testFixedWidth() throws IOException {
+        assertRows(EXPECTED, CsvParser.dsl().fixedWidth(4, 10, 6).forEach(CONTENT, new ListCollector<String[]>()).getList());
+        assertRows(EXPECTED, CsvParser.dsl().fixedWidth(4, 10, 6).bufferSize(4).forEach(new StringReader(CONTENT), new ListCollector<String[]>()).getList());
+        assertRows(EXPECTED, CsvParser.dsl().fixedWidth(4, 10, 6).forEach(new ByteArrayInputStream(CONTENT.getBytes("UTF-8")), new ListCollector<String[]>()).getList());
+    }
+
+    @Test
+    public void testFixedWidthNoTrimAndColumns() throws IOException {
+        List<String[]> rows = CsvParser.dsl().fixedWidth(4, 10, 6).disableUnescaping().columns(1).forEach(CONTENT, new ListCollector<String[]>()).getList();
+        assertEquals(5, rows.size());
+        assertArrayEquals(new String[] { "name      " }, rows.get(0));
+        assertArrayEquals(new String[] { "short" }, rows.get(3));
+    }
+
+    @Test
+    public void testFixedWidthRowIterator() throws IOException {
+        Iterator<Row> iterator = CsvParser.dsl().fixedWidth(4, 10, 6).skip(0).rowIterator(CONTENT);
+        List<String> names = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            names.add(iterator.next().get("name"));
+        }
+        assertEquals(4, names.size());
+        assertEquals("alice,\"x\"", names.get(1));
+        assertFalse(iterator.hasNext());
+    }
+
+    private void assertRows(String[][] expected, List<String[]> rows) {
+        assertEquals(expected.length, rows.size());
+        for(int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], rows.get(i));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelCsvFileParserTest {
+
+    private static final String[] END_OF_LINES = { "\n", "\r\n", "\r" };
+
+    @Test
+    public void testParallelOrderedSameAsSerial() throws IOException {
+        File file = createCsvFile(new Random(7), 30000);
+
+        List<String[]> expected = CsvParser.dsl().forEach(file, new ListCollector<String[]>()).getList();
+        List<String[]> actual = CsvParser.dsl().parallel(4).forEach(file, new ListCollector<String[]>()).getList();
+
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testParallelUnorderedSameRowsAsSerial() throws IOException {
+        File file = createCsvFile(new Random(11), 30000);
+
+        List<String> expected = toSortedStrings(CsvParser.dsl().skip(1).forEach(file, new ListCollector<String[]>()).getList());
+        List<String> actual = toSortedStrings(CsvParser.dsl().skip(1).parallelUnordered(3).forEach(file, new ListCollector<String[]>()).getList());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testParallelEmptyFile() throws IOException {
+        File file = File.createTempFile("parallel", ".csv");
+        file.deleteOnExit();
+
+        assertEquals(0, CsvParser.dsl().parallel(4).forEach(file, new ListCollector<String[]>()).getList().size());
+    }
+
+    private List<String> toSortedStrings(List<String[]> rows) {
+        List<String> strings = new ArrayList<String>();
+        for (String[] row : rows) {
+            strings.add(Arrays.toString(row));
+        }
+        Collections.sort(strings);
+        return strings;
+    }
+
+    private File createCsvFile(Random random, int nbRows) throws IOException {
+        File file = File.createTempFile("parallel", ".csv");
+        file.deleteOnExit();
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), CsvParser.DEFAULT_CHARSET);
+        try {
+            for(int i = 0; i < nbRows; i++) {
+                writer.write(String.valueOf(i));
+                writer.write(",");
+                switch (random.nextInt(4)) {
+                    case 0:
+                        writer.write("\"quoted\nnew \"\"line\"\"\r\n,\"");
+                        break;
+                    case 1:
+                        writer.write("\"\"");
+                        break;
+                    default:
+                        writer.write("value" + random.nextInt());
+                }
+                writer.write(",last");
+                writer.write(END_OF_LINES[random.nextInt(END_OF_LINES.length)]);
+            }
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+}
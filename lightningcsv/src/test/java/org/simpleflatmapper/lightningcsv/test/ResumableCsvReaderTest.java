@@ -0,0 +1,115 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvCheckpoint;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.ResumableCsvReader;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResumableCsvReaderTest {
+
+    private static final String[] END_OF_LINES = { "\n", "\r\n", "\r" };
+
+    @Test
+    public void testResumeFromEveryCheckpoint() throws IOException {
+        File file = createCsvFile(new Random(7), 300);
+        try {
+            List<String[]> rows = CsvParser.dsl().forEach(file, new ListCollector<String[]>()).getList();
+
+            ListCollector<CsvCheckpoint> checkpoints = new ListCollector<CsvCheckpoint>();
+            ListCollector<String[]> readRows = new ListCollector<String[]>();
+            ResumableCsvReader reader = CsvParser.dsl().bufferSize(64).resumableReader(file);
+            try {
+                reader.forEach(readRows, 7, checkpoints);
+            } finally {
+                reader.close();
+            }
+            assertRowsEquals(rows, 0, readRows.getList());
+
+            CsvCheckpoint last = checkpoints.getList().get(checkpoints.getList().size() - 1);
+            assertEquals(rows.size(), last.rowNumber());
+            assertEquals(file.length(), last.byteOffset());
+
+            for (CsvCheckpoint checkpoint : checkpoints.getList()) {
+                assertTrue(checkpoint == last || checkpoint.rowNumber() % 7 == 0);
+                // a checkpoint built from the stored values
+                CsvCheckpoint restored = new CsvCheckpoint(checkpoint.byteOffset(), checkpoint.rowNumber());
+                ResumableCsvReader resumed = CsvParser.dsl().bufferSize(64).resume(file, restored);
+                try {
+                    List<String[]> resumedRows = resumed.read(new ListCollector<String[]>()).getList();
+                    assertRowsEquals(rows, (int) checkpoint.rowNumber(), resumedRows);
+                    assertEquals(new CsvCheckpoint(file.length(), rows.size()), resumed.checkpoint());
+                } finally {
+                    resumed.close();
+                }
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testSkipIsCounted() throws IOException {
+        File file = createCsvFile(new Random(11), 10);
+        try {
+            ResumableCsvReader reader = CsvParser.skip(3).resumableReader(file);
+            try {
+                assertEquals(3, reader.checkpoint().rowNumber());
+            } finally {
+                reader.close();
+            }
+
+            try {
+                CsvParser.dsl().resume(file, new CsvCheckpoint(file.length() + 1, 10));
+                fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private void assertRowsEquals(List<String[]> expected, int from, List<String[]> actual) {
+        assertEquals(expected.size() - from, actual.size());
+        for(int i = 0; i < actual.size(); i++) {
+            assertArrayEquals(expected.get(from + i), actual.get(i));
+        }
+    }
+
+    private File createCsvFile(Random random, int nbRows) throws IOException {
+        File file = File.createTempFile("checkpoint", ".csv");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            for(int i = 0; i < nbRows; i++) {
+                switch (random.nextInt(5)) {
+                    case 0:
+                        writer.write("\"quoted\r\nnew line " + i + "\",b");
+                        break;
+                    case 1:
+                        // empty row
+                        break;
+                    default:
+                        writer.write(i + ",value" + random.nextInt());
+                }
+                writer.write(END_OF_LINES[random.nextInt(END_OF_LINES.length)]);
+            }
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,135 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.RowView;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RowViewTest {
+
+    @Test
+    public void testViewSameAsStringArray() throws IOException {
+        Random random = new Random(13);
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 2000; i++) {
+            sb.append(i).append(",\"quoted \"\"").append(random.nextInt()).append("\"\", with\nnew line\",");
+            sb.append(random.nextBoolean() ? "" : "value" + random.nextLong());
+            sb.append(random.nextBoolean() ? "\n" : "\r\n");
+        }
+        String content = sb.append("last").toString();
+
+        for (CsvParser.DSL dsl : new CsvParser.DSL[] { CsvParser.dsl(), CsvParser.dsl().bufferSize(8), CsvParser.dsl().parallelReader() }) {
+            List<String[]> expected = dsl.forEach(content, new ListCollector<String[]>()).getList();
+            final List<String[]> actual = new ArrayList<String[]>();
+            dsl.forEachView(new StringReader(content), new CheckedConsumer<RowView>() {
+                @Override
+                public void accept(RowView rowView) {
+                    actual.add(rowView.toArray());
+                }
+            });
+
+            assertEquals(expected.size(), actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertArrayEquals(expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testAccessors() throws IOException {
+        final List<Object[]> values = new ArrayList<Object[]>();
+        CsvParser.dsl().forEachView("12,-9223372036854775808,3.25,\"abc\",\n-7,42,1e-3,,x", new CheckedConsumer<RowView>() {
+            @Override
+            public void accept(RowView rowView) {
+                values.add(new Object[] {
+                        rowView.size(), rowView.getInt(0), rowView.getLong(1), rowView.getDouble(2),
+                        rowView.getCharSequence(3).toString(), rowView.contentEquals(3, "abc"),
+                        rowView.isEmpty(4), rowView.getCharSequence(5), rowView.getInt(5)
+                });
+            }
+        });
+
+        assertArrayEquals(new Object[] { 5, 12, Long.MIN_VALUE, 3.25, "abc", true, true, null, 0}, values.get(0));
+        assertArrayEquals(new Object[] { 5, -7, 42L, 1e-3, "", false, false, null, 0}, values.get(1));
+    }
+
+    @Test
+    public void testParseDouble() {
+        Random random = new Random(17);
+        String[] values = {
+                "0", "-0", "0.0", "1", "-1.5", ".5", "5.", "123456789012345", "1234567890123456789", "0.1", "0.30000000000000004",
+                "1e22", "1e23", "1E-22", "4.9e-324", "1.7976931348623157E308", "12345.678e-10", "+3.5", "NaN", "-Infinity", "00001.2500"
+        };
+        for (String value : values) {
+            assertParseDouble(value);
+        }
+        for(int i = 0; i < 10000; i++) {
+            assertParseDouble(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+            assertParseDouble(Long.toString(random.nextLong() % 1000000) + "." + random.nextInt(1000));
+        }
+
+        for (String invalid : new String[] { "", "-", "e5", "1e", "1.2.3", "1x" }) {
+            try {
+                RowView.parseDouble(invalid.toCharArray(), 0, invalid.length());
+                fail(invalid);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testParseLong() {
+        assertEquals(Long.MAX_VALUE, parseLong("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, parseLong("-9223372036854775808"));
+        assertEquals(17, parseLong("+17"));
+        for (String invalid : new String[] { "", "-", "9223372036854775808", "1.0", "a" }) {
+            try {
+                parseLong(invalid);
+                fail(invalid);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testIntOverflow() throws IOException {
+        CsvParser.dsl().forEachView("2147483648", new CheckedConsumer<RowView>() {
+            @Override
+            public void accept(RowView rowView) {
+                try {
+                    rowView.getInt(0);
+                    fail();
+                } catch (NumberFormatException e) {
+                    assertTrue(e.getMessage().contains("2147483648"));
+                }
+                assertFalse(rowView.isEmpty(0));
+                assertNull(rowView.getString(1));
+            }
+        });
+    }
+
+    private long parseLong(String value) {
+        return RowView.parseLong(value.toCharArray(), 0, value.length());
+    }
+
+    private void assertParseDouble(String value) {
+        char[] chars = ("[" + value + "]").toCharArray();
+        assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)), Double.doubleToLongBits(RowView.parseDouble(chars, 1, chars.length - 1)));
+    }
+}
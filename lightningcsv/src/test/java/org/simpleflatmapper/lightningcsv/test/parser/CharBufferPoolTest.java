@@ -0,0 +1,132 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.CharBufferPool;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CharBufferPoolTest {
+
+    @Test
+    public void testAcquireRelease() {
+        CharBufferPool pool = new CharBufferPool(2, 1024);
+
+        char[] buffer = pool.acquire(100);
+        assertEquals(128, buffer.length);
+        assertEquals(128, pool.bufferLength(100));
+        assertEquals(2000, pool.bufferLength(2000));
+        assertEquals(0, pool.size());
+
+        pool.release(buffer);
+        assertEquals(1, pool.size());
+        assertSame(buffer, pool.acquire(65));
+        assertEquals(0, pool.size());
+
+        // bounded per size class
+        pool.release(new char[128]);
+        pool.release(new char[128]);
+        pool.release(new char[128]);
+        assertEquals(2, pool.size());
+
+        // not pooled sizes are dropped
+        pool.release(new char[100]);
+        pool.release(new char[2048]);
+        assertEquals(2, pool.size());
+        assertEquals(2000, pool.acquire(2000).length);
+    }
+
+    @Test
+    public void testParseRecyclesGrownBuffer() throws IOException {
+        String content = content();
+        CharBufferPool pool = new CharBufferPool(4, 1 << 16);
+        CsvParser.DSL dsl = CsvParser.bufferSize(64).bufferPool(pool);
+
+        List<String[]> expected = CsvParser.bufferSize(64).forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+        List<String[]> rows = dsl.forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+        assertRowsEquals(expected, rows);
+
+        // the buffers grown to fit the large cell are back in the pool
+        int size = pool.size();
+        assertTrue(size > 1);
+        char[] grown = pool.acquire(5000);
+        assertEquals(8192, grown.length);
+        pool.release(grown);
+
+        rows = dsl.forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+        assertRowsEquals(expected, rows);
+        assertEquals(size, pool.size());
+        assertSame(grown, pool.acquire(5000));
+    }
+
+    @Test
+    public void testCloseReleasesBuffer() throws IOException {
+        File file = File.createTempFile("pool", ".csv");
+        try {
+            Writer writer = new FileWriter(file);
+            try {
+                writer.write(content());
+            } finally {
+                writer.close();
+            }
+            CharBufferPool pool = new CharBufferPool(4, 1 << 16);
+            CloseableCsvReader reader = CsvParser.bufferSize(64).bufferPool(pool).reader(file);
+            try {
+                Iterator<String[]> iterator = reader.iterator();
+                assertArrayEquals(new String[] {"0", "value0"}, iterator.next());
+                assertEquals(0, pool.size());
+            } finally {
+                reader.close();
+            }
+            assertEquals(1, pool.size());
+            // release is idempotent
+            reader.close();
+            assertEquals(1, pool.size());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testSharedPool() {
+        assertSame(CharBufferPool.shared(), CharBufferPool.shared());
+        assertNotSame(CharBufferPool.shared(), new CharBufferPool());
+    }
+
+    private static void assertRowsEquals(List<String[]> expected, List<String[]> rows) {
+        assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), rows.get(i));
+        }
+    }
+
+    private static String content() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.append(i).append(",value").append(i).append('\n');
+        }
+        sb.append("big,\"");
+        for (int i = 0; i < 5000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        sb.append("\"\n");
+        for (int i = 0; i < 50; i++) {
+            sb.append(i).append(",value").append(i).append('\n');
+        }
+        return sb.toString();
+    }
+}
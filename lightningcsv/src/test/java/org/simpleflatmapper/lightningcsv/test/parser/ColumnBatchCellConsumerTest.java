@@ -0,0 +1,110 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.ColumnBatch;
+import org.simpleflatmapper.lightningcsv.parser.ColumnBatchCellConsumer;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ColumnBatchCellConsumerTest {
+
+    private static final ColumnBatch.Type[] TYPES = { ColumnBatch.Type.INT, ColumnBatch.Type.LONG, ColumnBatch.Type.DOUBLE, ColumnBatch.Type.STRING };
+
+    @Test
+    public void testBatches() throws IOException {
+        StringBuilder sb = new StringBuilder("id,big,price,code\n");
+        for(int i = 0; i < 10; i++) {
+            sb.append(i).append(',').append(i * 10000000000L).append(',').append(i).append(".5,").append(i % 2 == 0 ? "FR" : "GB").append('\n');
+        }
+
+        final List<String> batches = new ArrayList<String>();
+        CsvParser.skip(1).parse(sb, ColumnBatchCellConsumer.newInstance(TYPES, 4, new CheckedConsumer<ColumnBatch>() {
+            @Override
+            public void accept(ColumnBatch batch) {
+                StringBuilder sb = new StringBuilder();
+                for(int row = 0; row < batch.size(); row++) {
+                    int id = batch.getInts(0)[row];
+                    assertEquals(id * 10000000000L, batch.getLongs(1)[row]);
+                    assertEquals(id + 0.5, batch.getDoubles(2)[row], 0);
+                    assertFalse(batch.isNull(0, row));
+                    sb.append(id).append(batch.getString(3, row));
+                }
+                assertEquals(2, batch.getDictionarySize(3));
+                assertSame(batch.getString(3, 0), batch.getString(3, 2));
+                batches.add(sb.toString());
+            }
+        }));
+
+        assertEquals(3, batches.size());
+        assertEquals("0FR1GB2FR3GB", batches.get(0));
+        assertEquals("4FR5GB6FR7GB", batches.get(1));
+        assertEquals("8FR9GB", batches.get(2));
+    }
+
+    @Test
+    public void testNullsAndIgnoredColumns() throws IOException {
+        final List<ColumnBatch> batches = new ArrayList<ColumnBatch>();
+        CsvParser.parse("1,,x,\n,2\n3,4,y,z", ColumnBatchCellConsumer.newInstance(new ColumnBatch.Type[] { ColumnBatch.Type.INT, ColumnBatch.Type.LONG, null, ColumnBatch.Type.STRING }, new CheckedConsumer<ColumnBatch>() {
+            @Override
+            public void accept(ColumnBatch batch) {
+                assertEquals(3, batch.size());
+
+                assertEquals(1, batch.getInts(0)[0]);
+                assertTrue(batch.isNull(1, 0));
+                assertTrue(batch.isNull(3, 0));
+                assertNull(batch.getString(3, 0));
+
+                assertTrue(batch.isNull(0, 1));
+                assertEquals(0, batch.getInts(0)[1]);
+                assertEquals(2, batch.getLongs(1)[1]);
+                assertTrue(batch.isNull(3, 1));
+                assertEquals(-1, batch.getCodes(3)[1]);
+
+                assertEquals(3, batch.getInts(0)[2]);
+                assertEquals("z", batch.getString(3, 2));
+                assertFalse(batch.isNull(3, 2));
+                assertTrue(batch.isNull(2, 2));
+
+                try {
+                    batch.getInts(1);
+                    fail();
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+                batches.add(batch);
+            }
+        }));
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testDictionaryGrows() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 1000; i++) {
+            sb.append("v").append(i % 300).append('\n');
+        }
+        final int[] nbBatches = new int[1];
+        CsvParser.parse(sb, ColumnBatchCellConsumer.newInstance(new ColumnBatch.Type[] { ColumnBatch.Type.STRING }, 600, new CheckedConsumer<ColumnBatch>() {
+            @Override
+            public void accept(ColumnBatch batch) {
+                assertEquals(300, batch.getDictionarySize(0));
+                for(int row = 0; row < batch.size(); row++) {
+                    assertEquals("v" + ((nbBatches[0] * 600 + row) % 300), batch.getString(0, row));
+                }
+                nbBatches[0]++;
+            }
+        }));
+        assertEquals(2, nbBatches[0]);
+    }
+}
@@ -0,0 +1,126 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.parser.DecimalParser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class DecimalParserTest {
+
+    private static final String[] VALUES = {
+            "0", "-0", "0.0", "-0.0", "1", "-1", "+1", "1.5", "1.", ".5", "-.5", "1e10", "1E-10", "1e+3",
+            "0.1", "0.3", "123.456", "-99.99", "0.000000000000000000000000000000001",
+            "9007199254740993", "9007199254740992.5", "123456789012345678901234567890",
+            "2.2250738585072011e-308", "2.2250738585072012e-308", "4.9e-324", "1e-400",
+            "1.7976931348623157e308", "1.7976931348623159e308", "1e309",
+            "3.4028235e38", "3.4028236e38", "1.4e-45", "1.17549435e-38", "7.038531e-26", "4.7223665e21",
+            "1.00000005960464477539062499", "1.00000005960464477539062501",
+            "9999999999999999999", "12345678901234567890", "18446744073709551615",
+            "-9223372036854775808", "9223372036854775807", "999999999999999999", "1000000000000000000",
+            "0000000000000000000001", "NaN", "-Infinity", "1.0d", "0x1p3", " 1"
+    };
+
+    private static final String[] INVALIDS = { "", ".", "-", "1e", "1e+", "abc", "1.2.3", "1-" };
+
+    @Test
+    public void testParseDouble() {
+        for (String value : VALUES) {
+            assertEquals(value, Double.doubleToRawLongBits(Double.parseDouble(value)), Double.doubleToRawLongBits(parseDouble(value)));
+        }
+    }
+
+    @Test
+    public void testParseFloat() {
+        for (String value : VALUES) {
+            assertEquals(value, Float.floatToRawIntBits(Float.parseFloat(value)), Float.floatToRawIntBits(parseFloat(value)));
+        }
+    }
+
+    @Test
+    public void testRandomValuesAreCorrectlyRounded() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200000; i++) {
+            String value;
+            switch (i % 4) {
+                case 0:
+                    value = Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL));
+                    break;
+                case 1:
+                    value = Float.toString(Float.intBitsToFloat(random.nextInt() & 0x7F7FFFFF));
+                    break;
+                case 2:
+                    value = new BigDecimal(random.nextLong()).movePointLeft(random.nextInt(30)).toPlainString();
+                    break;
+                default:
+                    // close to half way between 2 doubles
+                    double d = Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL);
+                    value = new BigDecimal(d).add(new BigDecimal(Math.ulp(d) / 2))
+                            .round(new MathContext(17 + random.nextInt(25))).toString();
+            }
+            assertEquals(value, Double.doubleToRawLongBits(Double.parseDouble(value)), Double.doubleToRawLongBits(parseDouble(value)));
+            assertEquals(value, Float.floatToRawIntBits(Float.parseFloat(value)), Float.floatToRawIntBits(parseFloat(value)));
+        }
+    }
+
+    @Test
+    public void testParseBigDecimal() {
+        String[] values = { "0", "-0", "1.50", "-1.50", "+3", ".5", "5.", "123456789012345678", "1234567890123456789",
+                "-0.000123456789012345678", "1e3", "1.5E-7" };
+        for (String value : values) {
+            BigDecimal bigDecimal = DecimalParser.parseBigDecimal(chars(value), 2, 2 + value.length());
+            assertEquals(value, new BigDecimal(value), bigDecimal);
+        }
+    }
+
+    @Test
+    public void testParseBigInteger() {
+        String[] values = { "0", "-0", "+7", "-123", "999999999999999999", "-9223372036854775808", "123456789012345678901234567890" };
+        for (String value : values) {
+            BigInteger bigInteger = DecimalParser.parseBigInteger(chars(value), 2, 2 + value.length());
+            assertEquals(value, new BigInteger(value), bigInteger);
+        }
+    }
+
+    @Test
+    public void testInvalidNumbers() {
+        for (String value : INVALIDS) {
+            try {
+                parseDouble(value);
+                fail(value);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+            try {
+                DecimalParser.parseBigDecimal(chars(value), 2, 2 + value.length());
+                fail(value);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+            try {
+                DecimalParser.parseBigInteger(chars(value), 2, 2 + value.length());
+                fail(value);
+            } catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    private static double parseDouble(String value) {
+        return DecimalParser.parseDouble(chars(value), 2, 2 + value.length());
+    }
+
+    private static float parseFloat(String value) {
+        return DecimalParser.parseFloat(chars(value), 2, 2 + value.length());
+    }
+
+    // the value in the middle of other chars, as in a buffer
+    private static char[] chars(String value) {
+        return ("1," + value + ",2").toCharArray();
+    }
+}
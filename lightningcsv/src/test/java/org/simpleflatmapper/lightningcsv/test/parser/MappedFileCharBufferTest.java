@@ -0,0 +1,102 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.MappedFileCharBuffer;
+import org.simpleflatmapper.util.CloseableIterator;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class MappedFileCharBufferTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testReadMultiBytesCharAcrossMappingWindows() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 1000; i++) {
+            sb.append(i).append(",よばれる - 呼ばれる,").append((char)('a' + i % 26)).append('\n');
+        }
+        String content = sb.toString();
+        File file = createTempFile(content, UTF8);
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        MappedFileCharBuffer charBuffer = new MappedFileCharBuffer(randomAccessFile.getChannel(), UTF8, 7, 1 << 20, 17);
+        try {
+            StringBuilder read = new StringBuilder();
+            while(charBuffer.shiftAndRead(charBuffer.bufferSize)) {
+                read.append(charBuffer.buffer, 0, charBuffer.bufferSize);
+            }
+            assertEquals(content, read.toString());
+            assertFalse(charBuffer.shiftAndRead(charBuffer.bufferSize));
+        } finally {
+            charBuffer.close();
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        File file = createTempFile("", UTF8);
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        MappedFileCharBuffer charBuffer = new MappedFileCharBuffer(randomAccessFile.getChannel(), UTF8, 16, 1 << 20);
+        try {
+            charBuffer.shiftAndRead(0);
+            assertEquals(0, charBuffer.bufferSize);
+            assertFalse(charBuffer.shiftAndRead(0));
+        } finally {
+            charBuffer.close();
+        }
+    }
+
+    @Test
+    public void testDslMmap() throws Exception {
+        File file = createTempFile("a,\"b\nb\"\nc,d", Charset.defaultCharset());
+
+        CsvParser.DSL dsl = CsvParser.dsl().bufferSize(2).mmap();
+
+        List<String[]> list = dsl.forEach(file, new ListCollector<String[]>()).getList();
+        assertEquals(2, list.size());
+        assertArrayEquals(new String[] {"a", "b\nb"}, list.get(0));
+        assertArrayEquals(new String[] {"c", "d"}, list.get(1));
+
+        CloseableIterator<String[]> iterator = dsl.skip(1).iterator(file);
+        try {
+            assertArrayEquals(new String[] {"c", "d"}, iterator.next());
+            assertFalse(iterator.hasNext());
+        } finally {
+            iterator.close();
+        }
+
+        CloseableCsvReader reader = dsl.reader(file);
+        try {
+            assertEquals("c", reader.rowIterator().next().get("a"));
+        } finally {
+            reader.close();
+        }
+    }
+
+    private File createTempFile(String content, Charset charset) throws IOException {
+        File file = File.createTempFile("mmap", ".csv");
+        file.deleteOnExit();
+        OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(file), charset);
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,82 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.StringInterner;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class StringInternerTest {
+
+    @Test
+    public void testSharesRepeatedValues() {
+        StringInterner interner = new StringInterner(new int[0]);
+        char[] chars = "FR,GB,FR,GB".toCharArray();
+
+        String fr = interner.newString(0, chars, 0, 2);
+        String gb = interner.newString(0, chars, 3, 2);
+        assertEquals("FR", fr);
+        assertEquals("GB", gb);
+        assertSame(fr, interner.newString(0, chars, 6, 2));
+        assertSame(gb, interner.newString(0, chars, 9, 2));
+
+        // each column has its own cache
+        String fr1 = interner.newString(1, chars, 0, 2);
+        assertNotSame(fr, fr1);
+        assertSame(fr1, interner.newString(1, chars, 6, 2));
+        assertSame(fr, interner.newString(0, chars, 6, 2));
+    }
+
+    @Test
+    public void testOnlySpecifiedColumnsAndShortValues() {
+        StringInterner interner = new StringInterner(new int[] { 1 }, 16, 3);
+        char[] chars = "abcd".toCharArray();
+
+        assertNotSame(interner.newString(0, chars, 0, 2), interner.newString(0, chars, 0, 2));
+        assertNotSame(interner.newString(2, chars, 0, 2), interner.newString(2, chars, 0, 2));
+        assertNotSame(interner.newString(1, chars, 0, 4), interner.newString(1, chars, 0, 4));
+        assertSame(interner.newString(1, chars, 0, 3), interner.newString(1, chars, 0, 3));
+    }
+
+    @Test
+    public void testBoundedSizeEvictsValues() {
+        StringInterner interner = new StringInterner(new int[0], 4, 32);
+        String[] values = new String[1000];
+        for(int i = 0; i < values.length; i++) {
+            char[] chars = String.valueOf(i).toCharArray();
+            values[i] = interner.newString(0, chars, 0, chars.length);
+        }
+        int stillCached = 0;
+        for(int i = 0; i < values.length; i++) {
+            char[] chars = String.valueOf(i).toCharArray();
+            String value = interner.newString(0, chars, 0, chars.length);
+            assertEquals(values[i], value);
+            if (value == values[i]) {
+                stillCached++;
+            }
+        }
+        assertEquals(true, stillCached <= 4);
+    }
+
+    @Test
+    public void testDsl() throws IOException {
+        String content = "1,FR,EUR\n2,GB,GBP\n3,FR,EUR\n4,FR,\"EUR\"";
+        List<String[]> rows = CsvParser.dsl().internStrings(1).forEach(content, new ListCollector<String[]>()).getList();
+        assertEquals(4, rows.size());
+        assertArrayEquals(new String[] {"4", "FR", "EUR"}, rows.get(3));
+        assertSame(rows.get(0)[1], rows.get(2)[1]);
+        assertSame(rows.get(0)[1], rows.get(3)[1]);
+        assertNotSame(rows.get(0)[2], rows.get(2)[2]);
+
+        rows = CsvParser.dsl().internStrings().bufferSize(4).forEach(content, new ListCollector<String[]>()).getList();
+        assertSame(rows.get(0)[2], rows.get(3)[2]);
+        assertEquals("EUR", rows.get(3)[2]);
+    }
+}
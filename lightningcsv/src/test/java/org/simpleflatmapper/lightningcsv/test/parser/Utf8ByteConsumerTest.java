@@ -0,0 +1,146 @@
+package org.simpleflatmapper.lightningcsv.test.parser;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.ByteCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ConstantByteArrayBuffer;
+import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.lightningcsv.parser.Utf8ByteConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class Utf8ByteConsumerTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final String[] TOKENS = { "a", "bc", " ", "\"", "\"\"", ",", "\n", "\r\n", "\r", "\\", "よ", "呼ばれる", "é", "😀" };
+
+    @Test
+    public void testSameAsCharParsingOnRandomContent() throws IOException {
+        Random random = new Random(31);
+        CsvParser.DSL[] dsls = {
+                CsvParser.dsl(),
+                CsvParser.dsl().trimSpaces(),
+                CsvParser.dsl().escape('\\'),
+                CsvParser.dsl().disableUnescaping(),
+                CsvParser.dsl().separator(';').quote('\''),
+        };
+
+        for(int i = 0; i < 500; i++) {
+            StringBuilder sb = new StringBuilder();
+            int n = random.nextInt(40);
+            for(int j = 0; j < n; j++) {
+                sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            String content = sb.toString();
+
+            for(CsvParser.DSL dsl : dsls) {
+                CsvParser.DSL smallBuffer = dsl.bufferSize(4);
+                List<String[]> expected = smallBuffer.forEach(new StringReader(content), new ListCollector<String[]>()).getList();
+                List<String[]> actual = smallBuffer.forEach(new ByteArrayInputStream(content.getBytes(UTF8)), new ListCollector<String[]>()).getList();
+                assertSameRows(content, expected, actual);
+
+                Iterator<String[]> bytesIterator = dsl.reader(content.getBytes(UTF8)).iterator();
+                List<String[]> iterated = new ArrayList<String[]>();
+                while (bytesIterator.hasNext()) {
+                    iterated.add(bytesIterator.next());
+                }
+                assertSameRows(content, expected, iterated);
+            }
+        }
+    }
+
+    @Test
+    public void testLongUnquotedCells() throws IOException {
+        Random random = new Random(17);
+        String[] endOfLines = { "\n", "\r\n", "\r" };
+        StringBuilder sb = new StringBuilder();
+        for(int row = 0; row < 200; row++) {
+            int nbCells = 1 + random.nextInt(4);
+            for(int cell = 0; cell < nbCells; cell++) {
+                if (cell > 0) sb.append(',');
+                int length = random.nextInt(40);
+                for(int k = 0; k < length; k++) {
+                    sb.append(random.nextInt(10) == 0 ? '呼' : (char)('a' + random.nextInt(26)));
+                }
+            }
+            sb.append(endOfLines[random.nextInt(endOfLines.length)]);
+        }
+        String content = sb.toString();
+
+        for(int bufferSize : new int[] { 3, 11, 64, 8192 }) {
+            CsvParser.DSL dsl = CsvParser.dsl().bufferSize(bufferSize);
+            List<String[]> expected = dsl.forEach(content, new ListCollector<String[]>()).getList();
+            List<String[]> actual = dsl.forEach(new ByteArrayInputStream(content.getBytes(UTF8)), new ListCollector<String[]>()).getList();
+            assertSameRows(content, expected, actual);
+        }
+    }
+
+    @Test
+    public void testByteCellConsumerReceivesRawBytes() throws IOException {
+        final List<String> cells = new ArrayList<String>();
+        byte[] content = "\"よ\"\"ば\",れる\n".getBytes(UTF8);
+        CsvParser.dsl().parse(content, new ByteCellConsumer() {
+            @Override
+            public void newCell(byte[] bytes, int offset, int length) {
+                cells.add(new String(bytes, offset, length, UTF8));
+            }
+
+            @Override
+            public void newCell(char[] chars, int offset, int length) {
+                fail();
+            }
+
+            @Override
+            public boolean endOfRow() {
+                cells.add("EOR");
+                return false;
+            }
+
+            @Override
+            public void end() {
+            }
+        });
+        assertEquals(3, cells.size());
+        assertEquals("よ\"ば", cells.get(0));
+        assertEquals("れる", cells.get(1));
+        assertEquals("EOR", cells.get(2));
+    }
+
+    @Test
+    public void testEscapedQuotesDoNotModifyTheContent() throws IOException {
+        byte[] content = "a,\"x\"\"y\"\n\"b\"\"\",c\n".getBytes(UTF8);
+        byte[] copy = content.clone();
+
+        List<String[]> rows = CsvParser.dsl().reader(content).read(new ListCollector<String[]>()).getList();
+
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[] {"a", "x\"y"}, rows.get(0));
+        assertArrayEquals(new String[] {"b\"", "c"}, rows.get(1));
+        assertArrayEquals(copy, content);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFailOnNonAsciiSeparator() {
+        new Utf8ByteConsumer(new ConstantByteArrayBuffer(new byte[0]), new TextFormat('é', '"', '"', false), false, true);
+    }
+
+    private void assertSameRows(String content, List<String[]> expected, List<String[]> actual) {
+        assertEquals(content, expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(content, expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.parser.ColumnBatch;
+import org.simpleflatmapper.lightningcsv.parser.ColumnBatchCellConsumer;
+import org.simpleflatmapper.map.MapperBuildingException;
+import org.simpleflatmapper.map.mapper.ColumnDefinition;
+import org.simpleflatmapper.map.mapper.ColumnDefinitionProvider;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.Instantiator;
+import org.simpleflatmapper.reflect.InstantiatorDefinition;
+import org.simpleflatmapper.reflect.Parameter;
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.meta.ClassMeta;
+import org.simpleflatmapper.reflect.meta.DefaultPropertyNameMatcher;
+import org.simpleflatmapper.reflect.meta.PropertyMeta;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Consumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Map the csv content to columnar holders, each holder receives a batch of rows.
+ * <p>
+ * The holder has an array property per column: int[], long[] and double[] columns are parsed in place without
+ * creating objects, String[] columns are dictionary encoded in the batch so each distinct value of the batch is created
+ * once. The properties are matched to the headers as the CsvMapper does, the column definitions can rename or ignore a
+ * column. An int property named size receives the number of rows of the batch, the arrays have that length.
+ * Null cells are 0 in the primitive arrays.
+ * <p>
+ * <code>
+ *     public class Trades { public int size; public long[] id; public String[] symbol; public double[] price; }<br>
+ *     CsvParser.mapToColumns(Trades.class).forEach(file, handler);
+ * </code>
+ * @param <T> the type of the holder
+ */
+public final class CsvColumnBatchMapper<T> {
+
+	private final ClassMeta<T> classMeta;
+	private final ColumnDefinitionProvider<CsvColumnKey> columnDefinitionProvider;
+	private final int batchSize;
+	private final Instantiator<Object, T> instantiator;
+	private final List<PropertyMeta<T, ?>> properties = new ArrayList<PropertyMeta<T, ?>>();
+	private final Setter<? super T, ? super Integer> sizeSetter;
+
+	@SuppressWarnings("unchecked")
+	public CsvColumnBatchMapper(ClassMeta<T> classMeta, ColumnDefinitionProvider<CsvColumnKey> columnDefinitionProvider, int batchSize) {
+		this.classMeta = classMeta;
+		this.columnDefinitionProvider = columnDefinitionProvider;
+		this.batchSize = batchSize;
+
+		if (!hasNoArgumentInstantiator(classMeta)) {
+			throw new MapperBuildingException("Columnar holder " + classMeta.getType() + " needs a no argument constructor");
+		}
+		classMeta.forEachProperties(new Consumer<PropertyMeta<T, ?>>() {
+			@Override
+			public void accept(PropertyMeta<T, ?> propertyMeta) {
+				if (!propertyMeta.isConstructorProperty()) {
+					properties.add(propertyMeta);
+				}
+			}
+		});
+
+		Setter<? super T, ? super Integer> sizeSetter = null;
+		for (PropertyMeta<T, ?> property : properties) {
+			Type type = property.getPropertyType();
+			if ("size".equals(property.getName()) && (type == int.class || type == Integer.class)) {
+				sizeSetter = (Setter<? super T, ? super Integer>) property.getSetter();
+				properties.remove(property);
+				break;
+			}
+		}
+		this.sizeSetter = sizeSetter;
+
+		this.instantiator = classMeta.getReflectionService().getInstantiatorFactory()
+				.getInstantiator(classMeta.getType(), Object.class, classMeta.getInstantiatorDefinitions(), new HashMap<Parameter, Getter<? super Object, ?>>(), true, true);
+	}
+
+	private static boolean hasNoArgumentInstantiator(ClassMeta<?> classMeta) {
+		for (InstantiatorDefinition instantiatorDefinition : classMeta.getInstantiatorDefinitions()) {
+			if (instantiatorDefinition.getParameters().length == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * read the header row and map the following rows to holders of at most batchSize rows.
+	 * @param csvReader the reader
+	 * @param handler the holder handler
+	 * @param <H> the type of the handler
+	 * @return the handler
+	 * @throws IOException if an io error occurs
+	 * @throws MapperBuildingException if a header matches a property of a type that is not supported
+	 */
+	public <H extends CheckedConsumer<? super T>> H forEach(CsvReader csvReader, final H handler) throws IOException {
+		List<String[]> headers = csvReader.read(new ListCollector<String[]>(), 1).getList();
+		if (headers.isEmpty()) {
+			return handler;
+		}
+
+		final Schema<T> schema = schema(headers.get(0));
+		csvReader.parseAll(ColumnBatchCellConsumer.newInstance(schema.types, batchSize, new CheckedConsumer<ColumnBatch>() {
+			@Override
+			public void accept(ColumnBatch batch) throws Exception {
+				handler.accept(newHolder(schema, batch));
+			}
+		}));
+		return handler;
+	}
+
+	private T newHolder(Schema<T> schema, ColumnBatch batch) throws Exception {
+		T holder = instantiator.newInstance(null);
+		int size = batch.size();
+		if (sizeSetter != null) {
+			sizeSetter.set(holder, size);
+		}
+		for (int i = 0; i < schema.setters.length; i++) {
+			Setter<? super T, Object> setter = schema.setters[i];
+			if (setter == null) {
+				continue;
+			}
+			switch (schema.types[i]) {
+				case INT:
+					setter.set(holder, Arrays.copyOf(batch.getInts(i), size));
+					break;
+				case LONG:
+					setter.set(holder, Arrays.copyOf(batch.getLongs(i), size));
+					break;
+				case DOUBLE:
+					setter.set(holder, Arrays.copyOf(batch.getDoubles(i), size));
+					break;
+				case STRING:
+					String[] values = new String[size];
+					int[] codes = batch.getCodes(i);
+					String[] dictionary = batch.getDictionary(i);
+					for (int row = 0; row < size; row++) {
+						int code = codes[row];
+						values[row] = code == -1 ? null : dictionary[code];
+					}
+					setter.set(holder, values);
+					break;
+			}
+		}
+		return holder;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Schema<T> schema(String[] headers) {
+		ColumnBatch.Type[] types = new ColumnBatch.Type[headers.length];
+		@SuppressWarnings("rawtypes")
+		Setter<? super T, Object>[] setters = new Setter[headers.length];
+		for (int i = 0; i < headers.length; i++) {
+			CsvColumnKey key = new CsvColumnKey(headers[i], i);
+			ColumnDefinition<CsvColumnKey, ?> columnDefinition = columnDefinitionProvider.getColumnDefinition(key);
+			if (columnDefinition.ignore()) {
+				continue;
+			}
+			key = columnDefinition.rename(key);
+			PropertyMeta<T, ?> property = findProperty(key);
+			if (property == null) {
+				continue;
+			}
+			ColumnBatch.Type type = toColumnType(property.getPropertyType());
+			if (type == null) {
+				throw new MapperBuildingException("Column " + key + " matches property " + property.getName() + " of unsupported type " + property.getPropertyType() + ", expected int[], long[], double[] or String[]");
+			}
+			types[i] = type;
+			setters[i] = (Setter<? super T, Object>) property.getSetter();
+		}
+		return new Schema<T>(types, setters);
+	}
+
+	private PropertyMeta<T, ?> findProperty(CsvColumnKey key) {
+		DefaultPropertyNameMatcher matcher = new DefaultPropertyNameMatcher(key.getName(), 0, false, false);
+		for (PropertyMeta<T, ?> property : properties) {
+			if (matcher.matches(property.getName())) {
+				return property;
+			}
+		}
+		return null;
+	}
+
+	private static ColumnBatch.Type toColumnType(Type type) {
+		if (type == int[].class) {
+			return ColumnBatch.Type.INT;
+		} else if (type == long[].class) {
+			return ColumnBatch.Type.LONG;
+		} else if (type == double[].class) {
+			return ColumnBatch.Type.DOUBLE;
+		} else if (type == String[].class) {
+			return ColumnBatch.Type.STRING;
+		}
+		return null;
+	}
+
+	private static final class Schema<T> {
+		private final ColumnBatch.Type[] types;
+		private final Setter<? super T, Object>[] setters;
+
+		private Schema(ColumnBatch.Type[] types, Setter<? super T, Object>[] setters) {
+			this.types = types;
+			this.setters = setters;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.csv;
 
 import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.map.InstanceReusingMapper;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
@@ -50,7 +51,7 @@ import java.util.stream.Stream;
  * @see CsvParser
  * @see CsvMapperFactory
  */
-public interface CsvMapper<T> extends SetRowMapper<CsvRow, CsvRowSet, T, IOException> {
+public interface CsvMapper<T> extends SetRowMapper<CsvRow, CsvRowSet, T, IOException>, InstanceReusingMapper<CsvRowSet, T, IOException> {
 
 	/**
 	 * Will map each row of the content of reader to an object of type T and will pass that object to the handle via the {@link CheckedConsumer}.handler(T t) call back.
@@ -129,6 +130,36 @@ public interface CsvMapper<T> extends SetRowMapper<CsvRow, CsvRowSet, T, IOExcep
 	 */
 	<H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle, int limit) throws IOException, MappingException;
 
+	/**
+	 * Will map each row of the content of reader on reuseInstance and will pass it to the handle via the {@link CheckedConsumer}.handler(T t) call back.
+	 * The same instance is passed for each row, the handle must copy the values it needs to keep.
+	 *
+	 * @param reader the reader
+	 * @param handle the callback newInstance
+	 * @param reuseInstance the instance to map each row on
+	 * @param <H> the row handler type
+	 * @return the callback newInstance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 * @see org.simpleflatmapper.map.mapper.AbstractMapperFactory#reuseInstance()
+	 */
+	<H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, T reuseInstance) throws IOException, MappingException;
+
+	/**
+	 * Will map each row of the content of reader on reuseInstance and will pass it to the handle via the {@link CheckedConsumer}.handler(T t) call back.
+	 * The same instance is passed for each row, the handle must copy the values it needs to keep.
+	 *
+	 * @param reader the reader
+	 * @param handle the callback newInstance
+	 * @param reuseInstance the instance to map each row on
+	 * @param <H> the row handler type
+	 * @return the callback newInstance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 * @see org.simpleflatmapper.map.mapper.AbstractMapperFactory#reuseInstance()
+	 */
+	<H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle, T reuseInstance) throws IOException, MappingException;
+
 	/**
 	 * Will return an iterator on the reader that will return a mapped object for each row.
 	 *
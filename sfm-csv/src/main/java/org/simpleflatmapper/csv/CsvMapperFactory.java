@@ -318,6 +318,18 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 			return handle;
 		}
 
+		@Override
+		public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, T reuseInstance) throws IOException, MappingException {
+			forEach(toCsvRowSet(reader, 0, -1), handle, reuseInstance);
+			return handle;
+		}
+
+		@Override
+		public <H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle, T reuseInstance) throws IOException, MappingException {
+			forEach(toCsvRowSet(reader, 0, -1), handle, reuseInstance);
+			return handle;
+		}
+
 		@Override
 		public Iterator<T> iterator(Reader reader) throws IOException {
 			return iterator(toCsvRowSet(reader, 0 , -1));
@@ -1,12 +1,17 @@
 package org.simpleflatmapper.csv;
 
 import org.simpleflatmapper.csv.impl.CsvColumnDefinitionProviderImpl;
+import org.simpleflatmapper.csv.impl.ParallelCsvMapper;
+import org.simpleflatmapper.lightningcsv.CsvDialect;
+import org.simpleflatmapper.lightningcsv.CsvMetricsListener;
 import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
 import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.lightningcsv.CsvParser.OnReaderFactory;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.CharBufferPool;
+import org.simpleflatmapper.lightningcsv.parser.ColumnBatchCellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.TextFormat;
 import org.simpleflatmapper.lightningcsv.parser.YamlCellPreProcessor;
@@ -23,6 +28,7 @@ import org.simpleflatmapper.tuple.Tuple6;
 import org.simpleflatmapper.tuple.Tuple7;
 import org.simpleflatmapper.tuple.Tuple8;
 import org.simpleflatmapper.tuple.Tuples;
+import org.simpleflatmapper.util.ParallelReader;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.util.CloseableIterator;
@@ -143,6 +149,30 @@ public final class CsvParser {
 		return dsl().limit(limit);
 	}
 
+	/**
+	 * infer the separator, quote, escape and header row from the first chars of the file.
+	 * Use {@link CsvDialect#applyTo} to configure a DSL with it, {@link CsvDialect#hasHeader} tells if the first row is a header.
+	 * @param file the file
+	 * @return the dialect of the file
+	 * @throws IOException if an io error occurs
+	 * @see CsvDialect
+	 */
+	public static CsvDialect sniff(File file) throws IOException {
+		return CsvDialect.sniff(file);
+	}
+
+	/**
+	 * infer the separator, quote, escape and header row from the first chars of the reader, the reader is reset to its current position.
+	 * Use {@link CsvDialect#applyTo} to configure a DSL with it, {@link CsvDialect#hasHeader} tells if the first row is a header.
+	 * @param reader the reader, needs to support mark
+	 * @return the dialect of the content
+	 * @throws IOException if an io error occurs
+	 * @see CsvDialect
+	 */
+	public static CsvDialect sniff(Reader reader) throws IOException {
+		return CsvDialect.sniff(reader);
+	}
+
 	public static <T> MapToDSL<T> mapTo(Type type) {
 		return dsl().mapTo(type);
 	}
@@ -183,6 +213,17 @@ public final class CsvParser {
         return  dsl().mapTo(class1, class2, class3, class4, class5, class6, class7, class8);
     }
 
+	/**
+	 * map the rows to columnar holders of {@link MapToColumnsDSL#DEFAULT_BATCH_SIZE} rows.
+	 * @param type the holder type
+	 * @param <T> the holder type
+	 * @return the DSL
+	 * @see CsvColumnBatchMapper
+	 */
+	public static <T> MapToColumnsDSL<T> mapToColumns(Class<T> type) {
+		return dsl().mapToColumns(type);
+	}
+
     public static <T> MapWithDSL<T> mapWith(CsvMapper<T> mapper) {
 		return dsl().mapWith(mapper);
 	}
@@ -319,8 +360,8 @@ public final class CsvParser {
 		public AbstractDSL() {
 		}
 
-		public AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		public AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		public final <T> MapToDSL<T> mapTo(Type target) {
@@ -367,6 +408,10 @@ public final class CsvParser {
 			return new MapWithDSL<T>(this, mapper);
 		}
 
+		public final <T> MapToColumnsDSL<T> mapToColumns(Class<T> target) {
+			return new MapToColumnsDSL<T>(this, ReflectionService.newInstance().getClassMeta(target), new CsvColumnDefinitionProviderImpl(), MapToColumnsDSL.DEFAULT_BATCH_SIZE);
+		}
+
 	}
     /**
      * DSL for csv parsing.
@@ -377,14 +422,14 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
         }
 
 		/**
@@ -401,7 +446,7 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		/**
@@ -418,16 +463,16 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 	}
@@ -435,8 +480,8 @@ public final class CsvParser {
 
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -502,8 +547,8 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean mmap, int parallelism, boolean parallelOrdered, int[] columns, int[] fixedWidths, ParallelReader.ThreadMode parallelThreadMode, int[] internedColumns, CsvMetricsListener metricsListener, CharBufferPool bufferPool) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, mmap, parallelism, parallelOrdered, columns, fixedWidths, parallelThreadMode, internedColumns, metricsListener, bufferPool);
 		}
 
 	}
@@ -693,6 +738,77 @@ public final class CsvParser {
         }
     }
 
+	/**
+	 * DSL for csv mapping to columnar holders.
+	 * @see CsvColumnBatchMapper
+	 */
+	public static final class MapToColumnsDSL<T> {
+		public static final int DEFAULT_BATCH_SIZE = ColumnBatchCellConsumer.DEFAULT_BATCH_SIZE;
+
+		private final org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl;
+		private final ClassMeta<T> classMeta;
+		private final CsvColumnDefinitionProviderImpl columnDefinitionProvider;
+		private final int batchSize;
+		private final CsvColumnBatchMapper<T> mapper;
+
+		private MapToColumnsDSL(org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl, ClassMeta<T> classMeta, CsvColumnDefinitionProviderImpl columnDefinitionProvider, int batchSize) {
+			this.dsl = dsl;
+			this.classMeta = classMeta;
+			this.columnDefinitionProvider = columnDefinitionProvider;
+			this.batchSize = batchSize;
+			this.mapper = new CsvColumnBatchMapper<T>(classMeta, columnDefinitionProvider, batchSize);
+		}
+
+		/**
+		 * @param batchSize the max number of rows per holder
+		 * @return a new DSL with the batch size
+		 */
+		public MapToColumnsDSL<T> batchSize(int batchSize) {
+			return new MapToColumnsDSL<T>(dsl, classMeta, columnDefinitionProvider, batchSize);
+		}
+
+		public MapToColumnsDSL<T> columnDefinition(String column, ColumnDefinition<CsvColumnKey, ?> columnDefinition) {
+			CsvColumnDefinitionProviderImpl newProvider = (CsvColumnDefinitionProviderImpl) columnDefinitionProvider.copy();
+			newProvider.addColumnDefinition(column, columnDefinition);
+			return new MapToColumnsDSL<T>(dsl, classMeta, newProvider, batchSize);
+		}
+
+		public MapToColumnsDSL<T> alias(String column, String property) {
+			return columnDefinition(column, CsvColumnDefinition.renameDefinition(property));
+		}
+
+		public CsvColumnBatchMapper<T> mapper() {
+			return mapper;
+		}
+
+		public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H consumer) throws IOException {
+			return mapper.forEach(dsl.reader(reader), consumer);
+		}
+
+		public <H extends CheckedConsumer<? super T>> H forEach(CharSequence content, H consumer) throws IOException {
+			return mapper.forEach(dsl.reader(content), consumer);
+		}
+
+		public <H extends CheckedConsumer<? super T>> H forEach(String content, H consumer) throws IOException {
+			return mapper.forEach(dsl.reader(content), consumer);
+		}
+
+		public <H extends CheckedConsumer<? super T>> H forEach(File file, final H consumer) throws IOException {
+			OnReaderFactory<H, org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?>> factory =
+					new OnReaderFactory<H, org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?>>() {
+						@Override
+						public H apply(Reader reader, org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl) throws IOException {
+							try {
+								return forEach(reader, consumer);
+							} finally {
+								try { reader.close(); } catch (IOException e) { }
+							}
+						}
+					};
+			return onReader(file, dsl, factory);
+		}
+	}
+
     /**
      * DSL for csv mapping to a provided jdbcMapper.
      * @see CsvParser
@@ -701,27 +817,63 @@ public final class CsvParser {
     public static class MapWithDSL<T> {
 		private final org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl;
 		private final CsvMapper<T> mapper;
+		private final ParallelCsvMapper<T> parallelMapper;
 
 		public MapWithDSL(org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL dsl, CsvMapper<T> mapper) {
+			this(dsl, mapper, null);
+		}
+
+		private MapWithDSL(org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL<?> dsl, CsvMapper<T> mapper, ParallelCsvMapper<T> parallelMapper) {
 			if (mapper == null) throw new NullPointerException();
 			this.dsl = dsl;
 			this.mapper = mapper;
+			this.parallelMapper = parallelMapper;
 		}
 
         protected final org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL getDsl() {
             return dsl;
         }
 
+		/**
+		 * map the rows on the specified number of threads, the objects being delivered in the order of the rows.
+		 * <p>
+		 * The rows are parsed on the calling thread and copied in batches that are mapped concurrently, at most nbThreads batches are in flight.
+		 * The consumer is called on the calling thread and its errors still go to the ConsumerErrorHandler.
+		 * Only affects forEach, iterator and stream, falls back to serial mapping for the joins and the discriminators.
+		 * </p>
+		 * @param nbThreads the number of batches mapped concurrently
+		 * @return a new MapWithDSL
+		 */
+		public final MapWithDSL<T> parallelMapping(int nbThreads) {
+			return new MapWithDSL<T>(dsl, mapper, new ParallelCsvMapper<T>(mapper, nbThreads, true));
+		}
+
+		/**
+		 * same as {@link #parallelMapping(int)} but the objects of a batch are delivered as soon as it is mapped, the order is only guaranteed within a batch.
+		 * @param nbThreads the number of batches mapped concurrently
+		 * @return a new MapWithDSL
+		 */
+		public final MapWithDSL<T> parallelMappingUnordered(int nbThreads) {
+			return new MapWithDSL<T>(dsl, mapper, new ParallelCsvMapper<T>(mapper, nbThreads, false));
+		}
+
 		public final Iterator<T> iterator(Reader reader) throws IOException {
-			return mapper.iterator(dsl.reader(reader));
+			return iterator(dsl.reader(reader));
 		}
 
 		public final Iterator<T> iterator(CharSequence content) throws IOException {
-			return mapper.iterator(dsl.reader(content));
+			return iterator(dsl.reader(content));
 		}
 
 		public final Iterator<T> iterator(String content) throws IOException {
-			return mapper.iterator(dsl.reader(content));
+			return iterator(dsl.reader(content));
+		}
+
+		private Iterator<T> iterator(CsvReader csvReader) throws IOException {
+			if (parallelMapper != null) {
+				return parallelMapper.iterator(csvReader);
+			}
+			return mapper.iterator(csvReader);
 		}
 
 		public final CloseableIterator<T> iterator(File file) throws IOException {
@@ -757,7 +909,9 @@ public final class CsvParser {
 		}
 
 		private <H extends CheckedConsumer<T>> H forEach(H consumer, CsvReader csvReader) throws IOException {
-			if (dsl.limit() == -1) {
+			if (parallelMapper != null) {
+				parallelMapper.forEach(csvReader, consumer, dsl.limit());
+			} else if (dsl.limit() == -1) {
                 mapper.forEach(csvReader, consumer);
             } else {
                 mapper.forEach(csvReader, consumer, dsl.limit());
@@ -767,15 +921,22 @@ public final class CsvParser {
 
 		//IFJAVA8_START
 		public final Stream<T> stream(Reader reader) throws IOException {
-			return mapper.stream(dsl.reader(reader));
+			return stream(dsl.reader(reader));
 		}
 
 		public final Stream<T> stream(CharSequence content) throws IOException {
-			return mapper.stream(dsl.reader(content));
+			return stream(dsl.reader(content));
 		}
 
 		public final Stream<T> stream(String content) throws IOException {
-			return mapper.stream(dsl.reader(content));
+			return stream(dsl.reader(content));
+		}
+
+		private Stream<T> stream(CsvReader csvReader) throws IOException {
+			if (parallelMapper != null) {
+				return parallelMapper.stream(csvReader);
+			}
+			return mapper.stream(csvReader);
 		}
 		//IFJAVA8_END
 		/**
@@ -1,7 +1,10 @@
 package org.simpleflatmapper.csv;
 
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.DecimalParser;
+import org.simpleflatmapper.lightningcsv.parser.StringInterner;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -15,15 +18,27 @@ public final class CsvRow implements CellConsumer {
     private final int nbColumns;
     
     private final CharBuffer charBuffer;
+    private final StringInterner stringInterner;
 
     protected int[] fieldsBoundaries;
     protected int currentIndex;
     protected int rowStartMark;
 
     public CsvRow(CsvColumnKey[] keys, int maxIndex, CharBuffer charBuffer) {
+        this(keys, maxIndex, charBuffer, null);
+    }
+
+    /**
+     * @param keys the keys
+     * @param maxIndex the max column index
+     * @param charBuffer the buffer
+     * @param stringInterner the interner used by getString, null to create a new String on each call
+     */
+    public CsvRow(CsvColumnKey[] keys, int maxIndex, CharBuffer charBuffer, StringInterner stringInterner) {
         nbColumns = maxIndex + 1;
         this.keys = keys;
         this.charBuffer = charBuffer;
+        this.stringInterner = stringInterner;
         fieldsBoundaries = new int[nbColumns * 2];
     }
     
@@ -76,9 +91,19 @@ public final class CsvRow implements CellConsumer {
         if (length == 0) return null;
 
         int rowOffset = fieldsBoundaries[i * 2];
+        if (stringInterner != null) {
+            return stringInterner.newString(i, charBuffer.buffer, rowStartMark + rowOffset, length);
+        }
         return new String(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
     
+    // not interned, for the values that are parsed
+    private String newString(int i) {
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return new String(charBuffer.buffer, rowStartMark + rowOffset, length);
+    }
+
     public int length(int i) {
         return fieldsBoundaries[i * 2 + 1];
     }
@@ -89,15 +114,15 @@ public final class CsvRow implements CellConsumer {
 
     public byte getByte(int i) {
         if (isEmpty(i)) return 0;
-        return Byte.parseByte(getString(i));
+        return Byte.parseByte(newString(i));
     }
     public char getChar(int i) {
         if (isEmpty(i)) return 0;
-        return (char) Integer.parseInt(getString(i));
+        return (char) Integer.parseInt(newString(i));
     }
     public short getShort(int i) {
         if (isEmpty(i)) return 0;
-        return Short.parseShort(getString(i));
+        return Short.parseShort(newString(i));
     }
     public int getInt(int i) {
         int rowOffset = fieldsBoundaries[i * 2];
@@ -111,11 +136,15 @@ public final class CsvRow implements CellConsumer {
     }
     public float getFloat(int i) {
         if (isEmpty(i)) return 0;
-        return Float.parseFloat(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return DecimalParser.parseFloat(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public double getDouble(int i) {
         if (isEmpty(i)) return 0;
-        return Double.parseDouble(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return DecimalParser.parseDouble(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public boolean getBoolean(int i) {
         if (isEmpty(i)) return false;
@@ -197,17 +226,85 @@ public final class CsvRow implements CellConsumer {
     
     public BigDecimal getBigDecimal(int i) {
         if (isEmpty(i)) return null;
-        return new BigDecimal(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return DecimalParser.parseBigDecimal(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
 
     public BigInteger getBigInteger(int i) {
         if (isEmpty(i)) return null;
-        return new BigInteger(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return DecimalParser.parseBigInteger(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
+    }
+
+    /**
+     * @return the date of the cell as the int yyyyMMdd, or {@link FixedDateFormat#INVALID} if it does not match the format
+     */
+    public int getFixedDate(int i, FixedDateFormat format) {
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return format.parseDate(charBuffer.buffer, rowStartMark + rowOffset, length);
+    }
+
+    /**
+     * @return the milliseconds of the day of the cell, or {@link FixedDateFormat#INVALID} if it does not match the format
+     */
+    public int getFixedMillisOfDay(int i, FixedDateFormat format) {
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return format.parseMillisOfDay(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
 
     public UUID getUUID(int i) {
         if (isEmpty(i)) return null;
-        return UUID.fromString(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        UUID uuid = parseUUID(charBuffer.buffer, rowStartMark + rowOffset, length);
+        if (uuid != null) {
+            return uuid;
+        }
+        return UUID.fromString(newString(i));
+    }
+
+    /**
+     * @return the uuid in the canonical 8-4-4-4-12 hex form, null if the chars are not in that form
+     */
+    public static UUID parseUUID(char[] chars, int offset, int length) {
+        if (length != 36
+                || chars[offset + 8] != '-' || chars[offset + 13] != '-'
+                || chars[offset + 18] != '-' || chars[offset + 23] != '-') {
+            return null;
+        }
+        long h1 = parseHex(chars, offset, 8);
+        long h2 = parseHex(chars, offset + 9, 4);
+        long h3 = parseHex(chars, offset + 14, 4);
+        long h4 = parseHex(chars, offset + 19, 4);
+        long h5 = parseHex(chars, offset + 24, 12);
+        if ((h1 | h2 | h3 | h4 | h5) < 0) {
+            return null;
+        }
+        return new UUID(h1 << 32 | h2 << 16 | h3, h4 << 48 | h5);
+    }
+
+    // -1 if not hex
+    private static long parseHex(char[] chars, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
     }
 
     public int getNbColumns() {
@@ -218,6 +315,19 @@ public final class CsvRow implements CellConsumer {
         return currentIndex > 0;
     }
 
+    /**
+     * push the cells of the row to the cell consumer followed by an end of row, to copy the row out of the buffer.
+     * @param cellConsumer the consumer
+     */
+    public void copyCells(CellConsumer cellConsumer) {
+        int[] fieldsBoundaries = this.fieldsBoundaries;
+        char[] buffer = charBuffer.buffer;
+        for(int i = 0; i < currentIndex; i += 2) {
+            cellConsumer.newCell(buffer, rowStartMark + fieldsBoundaries[i], fieldsBoundaries[i + 1]);
+        }
+        cellConsumer.endOfRow();
+    }
+
     public boolean containsOnly(char c) {
         for(int column = 0; column < nbColumns; column ++) {
             int start = fieldsBoundaries[column * 2];
@@ -31,7 +31,7 @@ public final class CsvRowSet implements Enumerable<CsvRow> {
     public CsvRowSet(CsvReader csvReader, int limit, CsvColumnKey[] keys) {
         this.csvReader = csvReader;
         this.charBuffer = csvReader.charBuffer();
-        this.currentRow = new CsvRow(keys, maxIndex(keys), charBuffer);
+        this.currentRow = new CsvRow(keys, maxIndex(keys), charBuffer, csvReader.newStringInterner());
         this.cellConsumer = csvReader.wrapConsumer(currentRow);
         this.limit = limit;
         this.keys = keys;
@@ -40,7 +40,7 @@ public final class CsvRowSet implements Enumerable<CsvRow> {
     public CsvColumnKey[] getKeys() throws IOException {
         if (keys == null) {
             this.keys = fetchKeys();
-            currentRow = new CsvRow(keys, maxIndex(keys), charBuffer);
+            currentRow = new CsvRow(keys, maxIndex(keys), charBuffer, csvReader.newStringInterner());
             cellConsumer = csvReader.wrapConsumer(currentRow);
         }
         return keys;
@@ -0,0 +1,63 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Date getter for the {@link FixedDateFormat}, the values that do not match the format, the dates before the gregorian
+ * calendar and the local times close to a time zone transition are parsed with the SimpleDateFormat of the context.
+ */
+public class CsvDateGetter implements ContextualGetter<CsvRow, Date> {
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final long TRANSITION_MARGIN = 6L * 60 * 60 * 1000;
+    private static final int FIRST_GREGORIAN_DATE = 15830101;
+
+    private final int index;
+    private final FixedDateFormat format;
+    private final TimeZone timeZone;
+    private final int simpleDateFormatIndex;
+
+    /**
+     * @param index the column index
+     * @param format the fixed format
+     * @param timeZone the time zone of the local date time
+     * @param simpleDateFormatIndex the index of the SimpleDateFormat of the format in the context
+     */
+    public CsvDateGetter(int index, FixedDateFormat format, TimeZone timeZone, int simpleDateFormatIndex) {
+        this.index = index;
+        this.format = format;
+        this.timeZone = timeZone;
+        this.simpleDateFormatIndex = simpleDateFormatIndex;
+    }
+
+    @Override
+    public Date get(CsvRow target, Context context) throws Exception {
+        if (target.length(index) == 0) return null;
+
+        if (format.isEpochMillis()) {
+            return new Date(target.getLong(index));
+        }
+
+        int date = target.getFixedDate(index, format);
+        if (date >= FIRST_GREGORIAN_DATE) {
+            int millisOfDay = target.getFixedMillisOfDay(index, format);
+            if (millisOfDay != FixedDateFormat.INVALID) {
+                long localTime = FixedDateFormat.toEpochDay(date) * MILLIS_PER_DAY + millisOfDay;
+                int offset = timeZone.getOffset(localTime - timeZone.getRawOffset());
+                long time = localTime - offset;
+                if (timeZone.getOffset(time - TRANSITION_MARGIN) == offset
+                        && timeZone.getOffset(time + TRANSITION_MARGIN) == offset) {
+                    return new Date(time);
+                }
+            }
+        }
+
+        SimpleDateFormat simpleDateFormat = context.context(simpleDateFormatIndex);
+        return simpleDateFormat.parse(target.getCharSequence(index).toString());
+    }
+}
@@ -0,0 +1,21 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.impl.cellreader.EnumCellValueReader;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+
+public class CsvEnumGetter<E extends Enum<E>> implements ContextualGetter<CsvRow, E> {
+    private final int index;
+    private final EnumCellValueReader<E> reader;
+
+    public CsvEnumGetter(int index, EnumCellValueReader<E> reader) {
+        this.index = index;
+        this.reader = reader;
+    }
+
+    @Override
+    public E get(CsvRow target, Context context) {
+        return target.read(reader, index);
+    }
+}
@@ -0,0 +1,212 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.util.date.DateFormatSupplier;
+import org.simpleflatmapper.util.date.DefaultDateFormatSupplier;
+
+/**
+ * The date patterns with fixed positions that the csv getters parse directly from the row buffer.
+ * <ul>
+ *     <li>yyyy-MM-dd</li>
+ *     <li>yyyyMMdd</li>
+ *     <li>yyyy-MM-dd HH:mm:ss and yyyy-MM-dd'T'HH:mm:ss, with or without .SSS</li>
+ *     <li>{@link #EPOCH_MILLIS}, the number of milliseconds since the epoch</li>
+ * </ul>
+ * The values that do not exactly match the pattern - or that are not valid - are left to the formatter.
+ */
+public final class FixedDateFormat {
+
+    /**
+     * the pattern of the epoch millis columns, {@code new DateFormatProperty(FixedDateFormat.EPOCH_MILLIS)}.
+     * Only supported on the Date, LocalDate, LocalDateTime and Instant properties of a CsvMapper.
+     */
+    public static final String EPOCH_MILLIS = "epochMillis";
+
+    public static final int INVALID = -1;
+
+    private static final FixedDateFormat[] FORMATS = {
+            new FixedDateFormat("yyyy-MM-dd", false, true, (char) 0, false),
+            new FixedDateFormat("yyyyMMdd", false, false, (char) 0, false),
+            new FixedDateFormat("yyyy-MM-dd HH:mm:ss", false, true, ' ', false),
+            new FixedDateFormat("yyyy-MM-dd'T'HH:mm:ss", false, true, 'T', false),
+            new FixedDateFormat("yyyy-MM-dd HH:mm:ss.SSS", false, true, ' ', true),
+            new FixedDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS", false, true, 'T', true),
+            new FixedDateFormat(EPOCH_MILLIS, true, false, (char) 0, false)
+    };
+
+    private final String pattern;
+    private final boolean epochMillis;
+    private final boolean dashes;
+    private final char timeSeparator;
+    private final boolean millis;
+    private final int length;
+
+    private FixedDateFormat(String pattern, boolean epochMillis, boolean dashes, char timeSeparator, boolean millis) {
+        this.pattern = pattern;
+        this.epochMillis = epochMillis;
+        this.dashes = dashes;
+        this.timeSeparator = timeSeparator;
+        this.millis = millis;
+        this.length = (dashes ? 10 : 8) + (timeSeparator != 0 ? 9 : 0) + (millis ? 4 : 0);
+    }
+
+    /**
+     * @param pattern the date pattern
+     * @return the fixed format of the pattern, null if the pattern is not one of the fixed patterns
+     */
+    public static FixedDateFormat of(String pattern) {
+        for (FixedDateFormat format : FORMATS) {
+            if (format.pattern.equals(pattern)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * the single date format of the properties - or the default one - if it is a fixed pattern.
+     * @param properties the column properties
+     * @return the fixed format, null if there are several formats or if it is not a fixed pattern
+     */
+    public static FixedDateFormat of(Object... properties) {
+        String pattern = null;
+        String defaultPattern = null;
+        for (Object property : properties) {
+            if (property instanceof DefaultDateFormatSupplier) {
+                defaultPattern = ((DefaultDateFormatSupplier) property).get();
+            } else if (property instanceof DateFormatSupplier) {
+                if (pattern != null) {
+                    return null;
+                }
+                pattern = ((DateFormatSupplier) property).get();
+            }
+        }
+        return of(pattern != null ? pattern : defaultPattern);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isEpochMillis() {
+        return epochMillis;
+    }
+
+    public boolean hasTime() {
+        return timeSeparator != 0 || epochMillis;
+    }
+
+    /**
+     * @return the date as the int yyyyMMdd, or {@link #INVALID} if the value does not match the pattern or is not a valid date
+     */
+    public int parseDate(char[] chars, int offset, int length) {
+        if (length != this.length || epochMillis) {
+            return INVALID;
+        }
+        int year = digits(chars, offset, 4);
+        int i = offset + 4;
+        if (dashes && chars[i++] != '-') {
+            return INVALID;
+        }
+        int month = digits(chars, i, 2);
+        i += 2;
+        if (dashes && chars[i++] != '-') {
+            return INVALID;
+        }
+        int day = digits(chars, i, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+            return INVALID;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * @return the milliseconds of the day, 0 if the pattern has no time, or {@link #INVALID} if the value does not match the pattern or is not a valid time
+     */
+    public int parseMillisOfDay(char[] chars, int offset, int length) {
+        if (length != this.length || epochMillis) {
+            return INVALID;
+        }
+        if (timeSeparator == 0) {
+            return 0;
+        }
+        int i = offset + 10;
+        if (chars[i] != timeSeparator || chars[i + 3] != ':' || chars[i + 6] != ':') {
+            return INVALID;
+        }
+        int hour = digits(chars, i + 1, 2);
+        int minute = digits(chars, i + 4, 2);
+        int second = digits(chars, i + 7, 2);
+        int milli = 0;
+        if (millis) {
+            if (chars[i + 9] != '.') {
+                return INVALID;
+            }
+            milli = digits(chars, i + 10, 3);
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || milli < 0) {
+            return INVALID;
+        }
+        return ((hour * 60 + minute) * 60 + second) * 1000 + milli;
+    }
+
+    public static int year(int date) {
+        return date / 10000;
+    }
+
+    public static int month(int date) {
+        return date / 100 % 100;
+    }
+
+    public static int day(int date) {
+        return date % 100;
+    }
+
+    /**
+     * @param date the date as the int yyyyMMdd, in the proleptic gregorian calendar
+     * @return the number of days since 1970-01-01
+     */
+    public static long toEpochDay(int date) {
+        long year = year(date);
+        int month = month(date);
+        // from the 1st of march, the leap day is the last of the year
+        if (month <= 2) {
+            year--;
+        }
+        long era = (year >= 0 ? year : year - 399) / 400;
+        long yearOfEra = year - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day(date) - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int digits(char[] chars, int offset, int nb) {
+        int value = 0;
+        for (int i = offset; i < offset + nb; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "FixedDateFormat{'" + pattern + "'}";
+    }
+}
@@ -0,0 +1,76 @@
+package org.simpleflatmapper.csv.getter.time;
+
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
+import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+import org.simpleflatmapper.map.getter.ContextualGetterFactory;
+import org.simpleflatmapper.util.Supplier;
+import org.simpleflatmapper.util.SupplierHelper;
+import org.simpleflatmapper.util.TypeHelper;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+/**
+ * LocalDate, LocalDateTime and Instant getters for the {@link FixedDateFormat}, returns null - to use the converters -
+ * when the column has a DateTimeFormatter, several formats or a pattern that is not fixed.
+ */
+public class CsvFixedFormatJavaTimeGetterFactory implements ContextualGetterFactory<CsvRow, CsvColumnKey> {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <P> ContextualGetter<CsvRow, P> newGetter(Type target, CsvColumnKey key, MappingContextFactoryBuilder<?, CsvColumnKey> mappingContextFactoryBuilder, Object... properties) {
+        for (Object property : properties) {
+            if (property instanceof DateTimeFormatter || SupplierHelper.isSupplierOf(property, DateTimeFormatter.class)) {
+                return null;
+            }
+        }
+
+        FixedDateFormat format = FixedDateFormat.of(properties);
+        if (format == null) {
+            return null;
+        }
+
+        Class<?> clazz = TypeHelper.toClass(target);
+        ZoneId zoneId = getZoneId(properties);
+        DateTimeFormatter formatter = format.isEpochMillis() ? null : DateTimeFormatter.ofPattern(format.getPattern()).withZone(zoneId);
+
+        if (LocalDate.class.equals(clazz)) {
+            return (ContextualGetter<CsvRow, P>) new CsvLocalDateGetter(key.getIndex(), format, formatter, zoneId);
+        }
+        if (!format.hasTime()) {
+            // the formatter fails on a date only pattern
+            return null;
+        }
+        if (LocalDateTime.class.equals(clazz)) {
+            return (ContextualGetter<CsvRow, P>) new CsvLocalDateTimeGetter(key.getIndex(), format, formatter, zoneId);
+        }
+        if (Instant.class.equals(clazz)) {
+            return (ContextualGetter<CsvRow, P>) new CsvInstantGetter(key.getIndex(), format, formatter, zoneId.getRules());
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ZoneId getZoneId(Object[] properties) {
+        for (Object property : properties) {
+            if (property instanceof ZoneId) {
+                return (ZoneId) property;
+            } else if (property instanceof TimeZone) {
+                return ((TimeZone) property).toZoneId();
+            } else if (SupplierHelper.isSupplierOf(property, ZoneId.class)) {
+                return ((Supplier<ZoneId>) property).get();
+            } else if (SupplierHelper.isSupplierOf(property, TimeZone.class)) {
+                return ((Supplier<TimeZone>) property).get().toZoneId();
+            }
+        }
+        return ZoneId.systemDefault();
+    }
+}
@@ -0,0 +1,41 @@
+package org.simpleflatmapper.csv.getter.time;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+
+public class CsvInstantGetter implements ContextualGetter<CsvRow, Instant> {
+    private final int index;
+    private final FixedDateFormat format;
+    private final DateTimeFormatter formatter;
+    private final ZoneRules zoneRules;
+
+    public CsvInstantGetter(int index, FixedDateFormat format, DateTimeFormatter formatter, ZoneRules zoneRules) {
+        this.index = index;
+        this.format = format;
+        this.formatter = formatter;
+        this.zoneRules = zoneRules;
+    }
+
+    @Override
+    public Instant get(CsvRow target, Context context) {
+        if (target.length(index) == 0) return null;
+
+        if (format.isEpochMillis()) {
+            return Instant.ofEpochMilli(target.getLong(index));
+        }
+
+        LocalDateTime localDateTime = CsvLocalDateTimeGetter.getLocalDateTime(target, index, format);
+        if (localDateTime != null) {
+            // in a gap the offset before the transition, same instant as the formatter
+            return localDateTime.toInstant(zoneRules.getOffset(localDateTime));
+        }
+        return formatter.parse(target.getCharSequence(index), Instant::from);
+    }
+}
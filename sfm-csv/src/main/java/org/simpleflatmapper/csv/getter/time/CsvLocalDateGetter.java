@@ -0,0 +1,40 @@
+package org.simpleflatmapper.csv.getter.time;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class CsvLocalDateGetter implements ContextualGetter<CsvRow, LocalDate> {
+    private final int index;
+    private final FixedDateFormat format;
+    private final DateTimeFormatter formatter;
+    private final ZoneId zoneId;
+
+    public CsvLocalDateGetter(int index, FixedDateFormat format, DateTimeFormatter formatter, ZoneId zoneId) {
+        this.index = index;
+        this.format = format;
+        this.formatter = formatter;
+        this.zoneId = zoneId;
+    }
+
+    @Override
+    public LocalDate get(CsvRow target, Context context) {
+        if (target.length(index) == 0) return null;
+
+        if (format.isEpochMillis()) {
+            return Instant.ofEpochMilli(target.getLong(index)).atZone(zoneId).toLocalDate();
+        }
+
+        int date = target.getFixedDate(index, format);
+        if (date != FixedDateFormat.INVALID && target.getFixedMillisOfDay(index, format) != FixedDateFormat.INVALID) {
+            return LocalDate.of(FixedDateFormat.year(date), FixedDateFormat.month(date), FixedDateFormat.day(date));
+        }
+        return LocalDate.parse(target.getCharSequence(index), formatter);
+    }
+}
@@ -0,0 +1,60 @@
+package org.simpleflatmapper.csv.getter.time;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class CsvLocalDateTimeGetter implements ContextualGetter<CsvRow, LocalDateTime> {
+    private static final int MILLIS_PER_SECOND = 1000;
+    private static final int NANOS_PER_MILLI = 1000000;
+
+    private final int index;
+    private final FixedDateFormat format;
+    private final DateTimeFormatter formatter;
+    private final ZoneId zoneId;
+
+    public CsvLocalDateTimeGetter(int index, FixedDateFormat format, DateTimeFormatter formatter, ZoneId zoneId) {
+        this.index = index;
+        this.format = format;
+        this.formatter = formatter;
+        this.zoneId = zoneId;
+    }
+
+    @Override
+    public LocalDateTime get(CsvRow target, Context context) {
+        if (target.length(index) == 0) return null;
+
+        if (format.isEpochMillis()) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(target.getLong(index)), zoneId);
+        }
+
+        LocalDateTime localDateTime = getLocalDateTime(target, index, format);
+        if (localDateTime != null) {
+            return localDateTime;
+        }
+        return LocalDateTime.parse(target.getCharSequence(index), formatter);
+    }
+
+    /**
+     * @return the local date time of the cell, null if it does not match the format
+     */
+    static LocalDateTime getLocalDateTime(CsvRow target, int index, FixedDateFormat format) {
+        int date = target.getFixedDate(index, format);
+        if (date == FixedDateFormat.INVALID) {
+            return null;
+        }
+        int millisOfDay = target.getFixedMillisOfDay(index, format);
+        if (millisOfDay == FixedDateFormat.INVALID) {
+            return null;
+        }
+        int secondOfDay = millisOfDay / MILLIS_PER_SECOND;
+        return LocalDateTime.of(FixedDateFormat.year(date), FixedDateFormat.month(date), FixedDateFormat.day(date),
+                secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, millisOfDay % MILLIS_PER_SECOND * NANOS_PER_MILLI);
+    }
+}
@@ -6,6 +6,8 @@ import org.simpleflatmapper.csv.CsvParser;
 import org.simpleflatmapper.csv.CsvRow;
 import org.simpleflatmapper.csv.CsvRowSet;
 import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.map.InstanceReusingMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
@@ -59,6 +61,18 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return handle;
     }
 
+    @Override
+    public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, T reuseInstance) throws IOException, MappingException {
+        forEach(toCsvRowSet(reader, 0, -1), handle, reuseInstance);
+        return handle;
+    }
+
+    @Override
+    public <H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle, T reuseInstance) throws IOException, MappingException {
+        forEach(toCsvRowSet(reader, 0, -1), handle, reuseInstance);
+        return handle;
+    }
+
     @Override
     public Iterator<T> iterator(Reader reader) throws IOException {
         return iterator(toCsvRowSet(reader, 0 , -1));
@@ -99,6 +113,16 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return handler;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <H extends CheckedConsumer<? super T>> H forEach(CsvRowSet source, H handler, T reuseInstance) throws IOException, MappingException {
+        if (!(setRowMapper instanceof InstanceReusingMapper)) {
+            throw new MapperBuildingException("Cannot reuse instance, mapper " + setRowMapper + " cannot map on an existing instance");
+        }
+        ((InstanceReusingMapper<CsvRowSet, T, IOException>) setRowMapper).forEach(source, handler, reuseInstance);
+        return handler;
+    }
+
     @Override
     public Iterator<T> iterator(CsvRowSet source) throws IOException, MappingException {
         return setRowMapper.iterator(source);
@@ -126,6 +150,14 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return setRowMapper.map(source, context);
     }
 
+    SetRowMapper<CsvRow, CsvRowSet, T, IOException> getSetRowMapper() {
+        return setRowMapper;
+    }
+
+    CsvColumnKey[] getKeys() {
+        return keys;
+    }
+
     private CsvRowSet toCsvRowSet(Reader reader, int skip, int limit) throws IOException {
         return toCsvRowSet(CsvParser.reader(reader), skip, limit);
     }
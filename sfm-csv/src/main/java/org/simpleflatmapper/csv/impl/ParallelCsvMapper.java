@@ -0,0 +1,383 @@
+package org.simpleflatmapper.csv.impl;
+
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.CsvRowSet;
+import org.simpleflatmapper.lightningcsv.CsvReader;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.StringInterner;
+import org.simpleflatmapper.map.ConsumerErrorHandler;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.MappingException;
+import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.context.MappingContextFactory;
+import org.simpleflatmapper.map.mapper.MapperKey;
+import org.simpleflatmapper.map.mapper.StaticSetRowMapper;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.EnumerableIterator;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+//IFJAVA8_START
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.simpleflatmapper.util.EnumerableSpliterator;
+//IFJAVA8_END
+
+/**
+ * Map the rows of a csv on multiple threads.
+ * <p>
+ * The calling thread parses the rows and copies their cells in batches, each batch is mapped by a task on the executor
+ * with its own CsvRow and MappingContext. At most parallelism batches are in flight, the mapped objects are returned in
+ * the order of the rows or, if unordered, in the order the batches are mapped.
+ * The consumer is called on the calling thread and its errors go to the ConsumerErrorHandler of the mapper, a mapping
+ * error is thrown after the objects of the rows before it.
+ * <p>
+ * The joins and the discriminators aggregate the rows, they are mapped on the calling thread.
+ */
+public final class ParallelCsvMapper<T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 512;
+
+    private final CsvMapper<T> mapper;
+    private final int parallelism;
+    private final boolean ordered;
+    private final Executor executor;
+    private final int batchSize;
+
+    public ParallelCsvMapper(CsvMapper<T> mapper, int parallelism, boolean ordered) {
+        this(mapper, parallelism, ordered, ParallelReader.getDefaultExecutor(), DEFAULT_BATCH_SIZE);
+    }
+
+    public ParallelCsvMapper(CsvMapper<T> mapper, int parallelism, boolean ordered, Executor executor, int batchSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism " + parallelism);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+        this.mapper = mapper;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    public <H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H consumer, int limit) throws IOException, MappingException {
+        CsvRowSet rowSet = newCsvRowSet(reader, limit);
+        if (rowSet == null) {
+            if (limit == -1) {
+                return mapper.forEach(reader, consumer);
+            } else {
+                return mapper.forEach(reader, consumer, limit);
+            }
+        }
+
+        StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> staticMapper = staticMapper(rowSet);
+        if (staticMapper == null) {
+            return mapper.forEach(rowSet, consumer);
+        }
+
+        ConsumerErrorHandler errorHandler = staticMapper.getErrorHandler();
+        ParallelEnumerable<T> enumerable = new ParallelEnumerable<T>(rowSet, reader, staticMapper, parallelism, ordered, executor, batchSize);
+        try {
+            while (enumerable.next()) {
+                T t = enumerable.currentValue();
+                try {
+                    consumer.accept(t);
+                } catch (Throwable e) {
+                    errorHandler.handlerError(e, t);
+                }
+            }
+        } finally {
+            enumerable.cancel();
+        }
+        return consumer;
+    }
+
+    public Iterator<T> iterator(CsvReader reader) throws IOException, MappingException {
+        CsvRowSet rowSet = newCsvRowSet(reader, -1);
+        if (rowSet == null) {
+            return mapper.iterator(reader);
+        }
+        Enumerable<T> enumerable = enumerate(rowSet, reader);
+        if (enumerable == null) {
+            return mapper.iterator(rowSet);
+        }
+        return new EnumerableIterator<T>(enumerable);
+    }
+
+    //IFJAVA8_START
+    public Stream<T> stream(CsvReader reader) throws IOException, MappingException {
+        CsvRowSet rowSet = newCsvRowSet(reader, -1);
+        if (rowSet == null) {
+            return mapper.stream(reader);
+        }
+        ParallelEnumerable<T> enumerable = enumerate(rowSet, reader);
+        if (enumerable == null) {
+            return mapper.stream(rowSet);
+        }
+        return StreamSupport.stream(new EnumerableSpliterator<T>(enumerable), false).onClose(enumerable::cancel);
+    }
+    //IFJAVA8_END
+
+    private ParallelEnumerable<T> enumerate(CsvRowSet rowSet, CsvReader reader) throws IOException {
+        StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> staticMapper = staticMapper(rowSet);
+        if (staticMapper == null) {
+            return null;
+        }
+        return new ParallelEnumerable<T>(rowSet, reader, staticMapper, parallelism, ordered, executor, batchSize);
+    }
+
+    // null if the row set of the mapper is not known
+    private CsvRowSet newCsvRowSet(CsvReader reader, int limit) {
+        if (mapper instanceof CsvMapperImpl) {
+            return new CsvRowSet(reader, limit, ((CsvMapperImpl<T>) mapper).getKeys());
+        } else if (mapper instanceof CsvMapperFactory.DynamicCsvSetRowMapper) {
+            return new CsvRowSet(reader, limit);
+        }
+        return null;
+    }
+
+    // null if the rows can not be mapped independently
+    @SuppressWarnings("unchecked")
+    private StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> staticMapper(CsvRowSet rowSet) throws IOException {
+        SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper = mapper;
+        if (setRowMapper instanceof CsvMapperFactory.DynamicCsvSetRowMapper) {
+            setRowMapper = ((CsvMapperFactory.DynamicCsvSetRowMapper<T>) setRowMapper).getMapper(new MapperKey<CsvColumnKey>(rowSet.getKeys()));
+        }
+        if (setRowMapper instanceof CsvMapperImpl) {
+            setRowMapper = ((CsvMapperImpl<T>) setRowMapper).getSetRowMapper();
+        }
+        if (setRowMapper instanceof StaticSetRowMapper) {
+            return (StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException>) setRowMapper;
+        }
+        return null;
+    }
+
+    private static final class ParallelEnumerable<T> implements Enumerable<T> {
+        private final CsvRowSet rowSet;
+        private final CsvReader reader;
+        private final StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper;
+        private final MappingContextFactory<? super CsvRow> mappingContextFactory;
+        private final CsvColumnKey[] keys;
+        private final int maxIndex;
+        private final int parallelism;
+        private final Executor executor;
+        private final CompletionService<RowBatch<T>> completionService;
+        private final int batchSize;
+
+        private final ArrayDeque<Future<RowBatch<T>>> inFlight;
+        private boolean sourceFinished;
+        private Throwable sourceError;
+
+        private RowBatch<T> currentBatch;
+        private int currentIndex;
+        private T currentValue;
+
+        private ParallelEnumerable(CsvRowSet rowSet, CsvReader reader, StaticSetRowMapper<CsvRow, CsvRowSet, T, IOException> mapper,
+                                   int parallelism, boolean ordered, Executor executor, int batchSize) {
+            this.rowSet = rowSet;
+            this.reader = reader;
+            this.mapper = mapper;
+            this.mappingContextFactory = mapper.getMappingContextFactory();
+            CsvRow row = rowSet.currentValue();
+            this.keys = row.getKeys();
+            this.maxIndex = row.getNbColumns() - 1;
+            this.parallelism = parallelism;
+            this.executor = executor;
+            this.completionService = ordered ? null : new ExecutorCompletionService<RowBatch<T>>(executor);
+            this.batchSize = batchSize;
+            this.inFlight = new ArrayDeque<Future<RowBatch<T>>>(parallelism);
+        }
+
+        @Override
+        public boolean next() {
+            while (currentBatch == null || currentIndex >= currentBatch.nbMapped) {
+                if (currentBatch != null && currentBatch.error != null) {
+                    return ErrorHelper.rethrow(currentBatch.error);
+                }
+                submitBatches();
+                if (inFlight.isEmpty()) {
+                    currentBatch = null;
+                    currentValue = null;
+                    if (sourceError != null) {
+                        return ErrorHelper.rethrow(sourceError);
+                    }
+                    return false;
+                }
+                currentBatch = take();
+                currentIndex = 0;
+            }
+            currentValue = currentBatch.results[currentIndex++];
+            return true;
+        }
+
+        @Override
+        public T currentValue() {
+            return currentValue;
+        }
+
+        private void submitBatches() {
+            while (!sourceFinished && inFlight.size() < parallelism) {
+                RowBatch<T> batch = new RowBatch<T>(this, reader.newStringInterner());
+                try {
+                    while (batch.nbRows < batchSize && rowSet.next()) {
+                        rowSet.currentValue().copyCells(batch);
+                    }
+                    sourceFinished = batch.nbRows < batchSize;
+                } catch (Throwable e) {
+                    // thrown once the rows before it are mapped
+                    sourceError = e;
+                    sourceFinished = true;
+                }
+                if (batch.nbRows > 0) {
+                    inFlight.add(submit(batch));
+                }
+            }
+        }
+
+        private Future<RowBatch<T>> submit(RowBatch<T> batch) {
+            if (completionService != null) {
+                return completionService.submit(batch);
+            }
+            FutureTask<RowBatch<T>> futureTask = new FutureTask<RowBatch<T>>(batch);
+            executor.execute(futureTask);
+            return futureTask;
+        }
+
+        private RowBatch<T> take() {
+            try {
+                Future<RowBatch<T>> future;
+                if (completionService != null) {
+                    future = completionService.take();
+                    inFlight.remove(future);
+                } else {
+                    future = inFlight.poll();
+                }
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorHelper.rethrow(new InterruptedIOException());
+            } catch (ExecutionException e) {
+                return ErrorHelper.rethrow(e.getCause());
+            }
+        }
+
+        private void cancel() {
+            Future<RowBatch<T>> future;
+            while ((future = inFlight.poll()) != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * The cells of the rows copied in a single char[], the offset and length of the cells of all the rows, and the
+     * number of cells of each row.
+     */
+    private static final class RowBatch<T> implements CellConsumer, Callable<RowBatch<T>> {
+        private final ParallelEnumerable<T> enumerable;
+        private final StringInterner stringInterner;
+
+        private char[] chars = new char[1024];
+        private int nbChars;
+        private int[] cells = new int[64];
+        private int nbCells;
+        private int[] rowEnds = new int[16];
+        private int nbRows;
+
+        private T[] results;
+        private int nbMapped;
+        private Throwable error;
+
+        private RowBatch(ParallelEnumerable<T> enumerable, StringInterner stringInterner) {
+            this.enumerable = enumerable;
+            this.stringInterner = stringInterner;
+        }
+
+        @Override
+        public void newCell(char[] chars, int offset, int length) {
+            if (nbChars + length > this.chars.length) {
+                this.chars = Arrays.copyOf(this.chars, Math.max(this.chars.length * 2, nbChars + length));
+            }
+            System.arraycopy(chars, offset, this.chars, nbChars, length);
+            if (nbCells + 2 > cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            cells[nbCells++] = nbChars;
+            cells[nbCells++] = length;
+            nbChars += length;
+        }
+
+        @Override
+        public boolean endOfRow() {
+            if (nbRows == rowEnds.length) {
+                rowEnds = Arrays.copyOf(rowEnds, rowEnds.length * 2);
+            }
+            rowEnds[nbRows++] = nbCells;
+            return true;
+        }
+
+        @Override
+        public void end() {
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public RowBatch<T> call() {
+            results = (T[]) new Object[nbRows];
+            CsvRow row = new CsvRow(enumerable.keys, enumerable.maxIndex, new BatchCharBuffer(chars, nbChars), stringInterner);
+            MappingContext<? super CsvRow> mappingContext = enumerable.mappingContextFactory.newContext();
+            int cell = 0;
+            for(int i = 0; i < nbRows; i++) {
+                row.reset();
+                for(; cell < rowEnds[i]; cell += 2) {
+                    row.newCell(chars, cells[cell], cells[cell + 1]);
+                }
+                row.endOfRow();
+                try {
+                    results[i] = enumerable.mapper.map(row, mappingContext);
+                } catch (Throwable e) {
+                    error = e;
+                    break;
+                }
+                nbMapped++;
+            }
+            return this;
+        }
+    }
+
+    private static final class BatchCharBuffer extends CharBuffer {
+        private BatchCharBuffer(char[] buffer, int bufferSize) {
+            super(buffer, bufferSize);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+
+        @Override
+        public boolean shiftAndRead(int shiftFrom) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
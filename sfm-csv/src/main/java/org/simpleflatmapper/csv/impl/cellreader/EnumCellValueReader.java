@@ -0,0 +1,163 @@
+package org.simpleflatmapper.csv.impl.cellreader;
+
+import org.simpleflatmapper.csv.CellValueReader;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.ParsingContext;
+
+import java.lang.reflect.Array;
+
+/**
+ * Read the enum constant from the chars of the cell without creating a String.
+ * <p>
+ * The names are in an open addressing table, the multiplier of the hash is chosen so that each name is in its own slot
+ * - a perfect hash - when one is found for a table of up to 16 times the number of constants, the lookup is then one
+ * hash and one comparison. Otherwise the names collide in the smallest table and the lookup probes the next slots.
+ * The cells starting with a digit are ordinals, as in the converter; with ordinalFormat all the cells are ordinals.
+ */
+public final class EnumCellValueReader<E extends Enum<E>> implements CellValueReader<E> {
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private static final int NB_MULTIPLIERS = 256;
+    private static final int MAX_SIZE_FACTOR = 16;
+
+    private final Class<E> enumClass;
+    private final E[] values;
+    private final boolean ordinalFormat;
+    private final boolean caseInsensitive;
+
+    private final char[][] names;
+    private final E[] constants;
+    private final int multiplier;
+    private final int shift;
+    private final int mask;
+    private final boolean perfect;
+
+    public EnumCellValueReader(Class<E> enumClass, boolean ordinalFormat, boolean caseInsensitive) {
+        this.enumClass = enumClass;
+        this.values = enumClass.getEnumConstants();
+        this.ordinalFormat = ordinalFormat;
+        this.caseInsensitive = caseInsensitive;
+
+        int[] hashes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            char[] name = values[i].name().toCharArray();
+            hashes[i] = hash(name, 0, name.length, caseInsensitive);
+            for (int j = 0; j < i; j++) {
+                if (caseInsensitive && values[j].name().equalsIgnoreCase(values[i].name())) {
+                    throw new IllegalArgumentException("Enum constants " + values[j] + " and " + values[i] + " of " + enumClass + " are the same ignoring case");
+                }
+            }
+        }
+
+        int minBits = 32 - Integer.numberOfLeadingZeros(Math.max(1, values.length * 2 - 1));
+        int bits = minBits;
+        int multiplier = findPerfectMultiplier(hashes, bits);
+        while (multiplier == 0 && (1 << bits) < values.length * MAX_SIZE_FACTOR) {
+            bits++;
+            multiplier = findPerfectMultiplier(hashes, bits);
+        }
+        this.perfect = multiplier != 0;
+        if (!perfect) {
+            // no perfect hash, linear probing on the smallest table
+            bits = minBits;
+            multiplier = GOLDEN_RATIO;
+        }
+
+        this.multiplier = multiplier;
+        this.shift = 32 - bits;
+        this.mask = (1 << bits) - 1;
+        this.names = new char[1 << bits][];
+        @SuppressWarnings("unchecked")
+        E[] constants = (E[]) Array.newInstance(enumClass, 1 << bits);
+        this.constants = constants;
+        for (int i = 0; i < values.length; i++) {
+            int slot = slot(hashes[i]);
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = values[i].name().toCharArray();
+            constants[slot] = values[i];
+        }
+    }
+
+    private static int findPerfectMultiplier(int[] hashes, int bits) {
+        int size = 1 << bits;
+        boolean[] used = new boolean[size];
+        for (int k = 0; k < NB_MULTIPLIERS; k++) {
+            int multiplier = GOLDEN_RATIO + 2 * k;
+            boolean perfect = true;
+            for (int hash : hashes) {
+                int slot = (hash * multiplier) >>> (32 - bits);
+                if (used[slot]) {
+                    perfect = false;
+                    break;
+                }
+                used[slot] = true;
+            }
+            if (perfect) {
+                return multiplier;
+            }
+            for (int i = 0; i < size; i++) {
+                used[i] = false;
+            }
+        }
+        return 0;
+    }
+
+    private int slot(int hash) {
+        return (hash * multiplier) >>> shift;
+    }
+
+    private static int hash(char[] chars, int offset, int length, boolean caseInsensitive) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            h = 31 * h + (caseInsensitive ? Character.toLowerCase(Character.toUpperCase(c)) : c);
+        }
+        return h;
+    }
+
+    @Override
+    public E read(char[] chars, int offset, int length, ParsingContext parsingContext) {
+        if (length == 0) return null;
+
+        char c = chars[offset];
+        if (ordinalFormat || (c >= '0' && c <= '9')) {
+            int ordinal = CsvRow.parseInt(chars, offset, offset + length);
+            if (ordinal < 0 || ordinal >= values.length) {
+                throw new IllegalArgumentException("Invalid ordinal value " + new String(chars, offset, length) + " for " + enumClass);
+            }
+            return values[ordinal];
+        }
+
+        int slot = slot(hash(chars, offset, length, caseInsensitive));
+        char[] name;
+        while ((name = names[slot]) != null) {
+            if (matches(name, chars, offset, length)) {
+                return constants[slot];
+            }
+            if (perfect) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        throw new IllegalArgumentException("No enum constant " + enumClass.getCanonicalName() + "." + new String(chars, offset, length));
+    }
+
+    private boolean matches(char[] name, char[] chars, int offset, int length) {
+        if (name.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c1 = name[i];
+            char c2 = chars[offset + i];
+            if (c1 != c2
+                    && (!caseInsensitive
+                        || Character.toLowerCase(Character.toUpperCase(c1)) != Character.toLowerCase(Character.toUpperCase(c2)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
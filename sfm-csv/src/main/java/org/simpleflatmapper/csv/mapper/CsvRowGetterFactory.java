@@ -18,24 +18,38 @@ import org.simpleflatmapper.csv.getter.CsvBoxedShortGetter;
 import org.simpleflatmapper.csv.getter.CsvByteGetter;
 import org.simpleflatmapper.csv.getter.CsvCharGetter;
 import org.simpleflatmapper.csv.getter.CsvCharSequenceGetter;
+import org.simpleflatmapper.csv.getter.CsvDateGetter;
 import org.simpleflatmapper.csv.getter.CsvDoubleGetter;
+import org.simpleflatmapper.csv.getter.CsvEnumGetter;
 import org.simpleflatmapper.csv.getter.CsvFloatGetter;
 import org.simpleflatmapper.csv.getter.CsvIntegerGetter;
 import org.simpleflatmapper.csv.getter.CsvLongGetter;
 import org.simpleflatmapper.csv.getter.CsvShortGetter;
 import org.simpleflatmapper.csv.getter.CsvStringGetter;
+import org.simpleflatmapper.csv.getter.CsvUUIDGetter;
 import org.simpleflatmapper.csv.getter.CustomReaderGetter;
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
+import org.simpleflatmapper.csv.impl.cellreader.EnumCellValueReader;
 import org.simpleflatmapper.csv.property.CustomReaderFactoryProperty;
 import org.simpleflatmapper.csv.property.CustomReaderProperty;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
 import org.simpleflatmapper.map.getter.*;
+import org.simpleflatmapper.map.property.EnumCaseInsensitiveProperty;
+import org.simpleflatmapper.map.property.EnumOrdinalFormatProperty;
+import org.simpleflatmapper.map.property.TimeZoneProperty;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.TypeHelper;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
 
 public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvColumnKey> {
     
@@ -205,6 +219,51 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
                 return (ContextualGetter<CsvRow, P>) new CsvBigIntegerGetter(index);
             }
         });
+
+        getterFactory.put(UUID.class, new ContextualGetterFactory<CsvRow, CsvColumnKey>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <P> ContextualGetter<CsvRow, P> newGetter(final Type target, CsvColumnKey key, MappingContextFactoryBuilder<?, CsvColumnKey> mappingContextFactoryBuilder, Object... properties) {
+                int index = key.getIndex();
+                return (ContextualGetter<CsvRow, P>) new CsvUUIDGetter(index);
+            }
+        });
+
+        // dates, the fixed patterns are parsed from the buffer, the others use the converters
+        getterFactory.put(Date.class, new ContextualGetterFactory<CsvRow, CsvColumnKey>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <P> ContextualGetter<CsvRow, P> newGetter(final Type target, CsvColumnKey key, MappingContextFactoryBuilder<?, CsvColumnKey> mappingContextFactoryBuilder, Object... properties) {
+                FixedDateFormat format = FixedDateFormat.of(properties);
+                if (format == null) {
+                    return null;
+                }
+                int index = key.getIndex();
+                if (format.isEpochMillis()) {
+                    return (ContextualGetter<CsvRow, P>) new CsvDateGetter(index, format, null, -1);
+                }
+                final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format.getPattern());
+                if (!GregorianCalendar.class.equals(simpleDateFormat.getCalendar().getClass())) {
+                    return null;
+                }
+                TimeZone timeZone = getTimeZone(properties);
+                simpleDateFormat.setTimeZone(timeZone);
+                int simpleDateFormatIndex = mappingContextFactoryBuilder.addSupplier(new Supplier<SimpleDateFormat>() {
+                    @Override
+                    public SimpleDateFormat get() {
+                        return (SimpleDateFormat) simpleDateFormat.clone();
+                    }
+                });
+                return (ContextualGetter<CsvRow, P>) new CsvDateGetter(index, format, timeZone, simpleDateFormatIndex);
+            }
+        });
+
+        //IFJAVA8_START
+        ContextualGetterFactory<CsvRow, CsvColumnKey> javaTimeGetterFactory = new org.simpleflatmapper.csv.getter.time.CsvFixedFormatJavaTimeGetterFactory();
+        getterFactory.put(java.time.LocalDate.class, javaTimeGetterFactory);
+        getterFactory.put(java.time.LocalDateTime.class, javaTimeGetterFactory);
+        getterFactory.put(java.time.Instant.class, javaTimeGetterFactory);
+        //IFJAVA8_END
     }
     
     @Override
@@ -243,10 +302,35 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
         if (getterFactory != null) {
             return getterFactory.newGetter(target, key, mappingContextFactoryBuilder, properties);
         }
-        
+
+        if (TypeHelper.isEnum(target)) {
+            return newEnumGetter(clazz, key, properties);
+        }
 
         return null;
     }
 
+    @SuppressWarnings("unchecked")
+    private static <P, E extends Enum<E>> ContextualGetter<CsvRow, P> newEnumGetter(Class<?> enumClass, CsvColumnKey key, Object[] properties) {
+        boolean ordinalFormat = false;
+        boolean caseInsensitive = false;
+        for(Object o : properties) {
+            if (o instanceof EnumOrdinalFormatProperty) {
+                ordinalFormat = true;
+            } else if (o instanceof EnumCaseInsensitiveProperty) {
+                caseInsensitive = true;
+            }
+        }
+        EnumCellValueReader<E> reader = new EnumCellValueReader<E>((Class<E>) enumClass, ordinalFormat, caseInsensitive);
+        return (ContextualGetter<CsvRow, P>) new CsvEnumGetter<E>(key.getIndex(), reader);
+    }
 
+    private static TimeZone getTimeZone(Object[] properties) {
+        for(Object o : properties) {
+            if (o instanceof TimeZoneProperty) {
+                return ((TimeZoneProperty) o).get();
+            }
+        }
+        return TimeZone.getDefault();
+    }
 }
@@ -12,6 +12,8 @@ import org.simpleflatmapper.map.FieldMapperErrorHandler;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.Result;
 import org.simpleflatmapper.map.property.ConverterProperty;
+import org.simpleflatmapper.map.property.EnumCaseInsensitiveProperty;
+import org.simpleflatmapper.map.property.EnumOrdinalFormatProperty;
 import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.csv.impl.CsvMapperImpl;
 import org.simpleflatmapper.test.jdbc.DbHelper;
@@ -28,6 +30,7 @@ import java.text.ParseException;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 //IFJAVA8_START
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -364,4 +367,25 @@ public class CsvMapperImplTest {
 		public BigInteger bi;
 		public BigDecimal bd;
 	}
+
+	@Test
+	public void testEnumAndUUID() throws IOException {
+		EnumUUID o = CsvParser.mapWith(CsvMapperFactory.newInstance()
+				.addColumnProperty("typeName", new EnumCaseInsensitiveProperty())
+				.addColumnProperty("typeOrdinal", new EnumOrdinalFormatProperty())
+				.newMapper(EnumUUID.class))
+				.iterator("typeName,typeOrdinal,id,id2\nTYPE3,1,123e4567-e89b-12d3-A456-426614174000,1-2-3-4-5").next();
+
+		assertEquals(DbObject.Type.type3, o.typeName);
+		assertEquals(DbObject.Type.type2, o.typeOrdinal);
+		assertEquals(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), o.id);
+		assertEquals(UUID.fromString("1-2-3-4-5"), o.id2);
+	}
+
+	public static class EnumUUID {
+		public DbObject.Type typeName;
+		public DbObject.Type typeOrdinal;
+		public UUID id;
+		public UUID id2;
+	}
 }
@@ -0,0 +1,147 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.map.MapperBuildingException;
+import org.simpleflatmapper.test.beans.DbFinalObject;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CsvMapperReuseInstanceTest {
+
+    private static final String CONTENT = "id,name,email\n1,name1,email1\n2,name2,email2\n3,name3,email3";
+
+    @Test
+    public void testStaticMapperRefillsTheSameInstance() throws Exception {
+        CsvMapper<DbObject> mapper =
+                CsvMapperFactory
+                        .newInstance()
+                        .reuseInstance()
+                        .newBuilder(DbObject.class)
+                        .addMapping("id")
+                        .addMapping("name")
+                        .addMapping("email")
+                        .mapper();
+
+        DbObject instance = new DbObject();
+        RowCollector collector = mapper.forEach(CsvParser.skip(1).reader(new StringReader(CONTENT)), new RowCollector(), instance);
+
+        validate(collector, instance);
+    }
+
+    @Test
+    public void testDynamicMapperRefillsTheSameInstance() throws Exception {
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().reuseInstance().newMapper(DbObject.class);
+
+        DbObject instance = new DbObject();
+        RowCollector collector = mapper.forEach(new StringReader(CONTENT), new RowCollector(), instance);
+
+        validate(collector, instance);
+    }
+
+    @Test
+    public void testConstructorInjectedPropertiesFailTheBuild() throws Exception {
+        try {
+            CsvMapperFactory
+                    .newInstance()
+                    .reuseInstance()
+                    .newBuilder(DbFinalObject.class)
+                    .addMapping("id")
+                    .addMapping("name")
+                    .mapper();
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("constructor"));
+            assertTrue(e.getMessage(), e.getMessage().contains("name"));
+        }
+    }
+
+    @Test
+    public void testConstructorInjectedPropertiesFailBeforeMapping() throws Exception {
+        CsvMapper<DbFinalObject> mapper = CsvMapperFactory.newInstance().newMapper(DbFinalObject.class);
+
+        try {
+            mapper.forEach(new StringReader(CONTENT), new CheckedConsumer<DbFinalObject>() {
+                @Override
+                public void accept(DbFinalObject dbFinalObject) throws Exception {
+                    fail();
+                }
+            }, new DbFinalObject(0, null, null, null, null, null));
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("constructor"));
+        }
+    }
+
+    @Test
+    public void testJoinFailsTheBuild() throws Exception {
+        try {
+            CsvMapperFactory
+                    .newInstance()
+                    .reuseInstance()
+                    .addKeys("id", "objects_id")
+                    .newBuilder(DbObjectWithList.class)
+                    .addMapping("id")
+                    .addMapping("objects_id")
+                    .mapper();
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("join"));
+        }
+    }
+
+    private void validate(RowCollector collector, DbObject instance) {
+        assertEquals(3, collector.ids.size());
+        for (int i = 0; i < 3; i++) {
+            assertSame(instance, collector.instances.get(i));
+            assertEquals(i + 1, collector.ids.get(i).longValue());
+            assertEquals("name" + (i + 1), collector.names.get(i));
+        }
+        assertEquals("email3", instance.getEmail());
+    }
+
+    private static class RowCollector implements CheckedConsumer<DbObject> {
+        private final List<DbObject> instances = new ArrayList<DbObject>();
+        private final List<Long> ids = new ArrayList<Long>();
+        private final List<String> names = new ArrayList<String>();
+
+        @Override
+        public void accept(DbObject dbObject) throws Exception {
+            instances.add(dbObject);
+            ids.add(dbObject.getId());
+            names.add(dbObject.getName());
+        }
+    }
+
+    public static class DbObjectWithList {
+        private long id;
+        private List<DbObject> objects;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public List<DbObject> getObjects() {
+            return objects;
+        }
+
+        public void setObjects(List<DbObject> objects) {
+            this.objects = objects;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.simpleflatmapper.csv.CsvMapperFactory;
 import org.simpleflatmapper.csv.CsvParser;
 import org.simpleflatmapper.csv.CsvRow;
 import org.simpleflatmapper.csv.ParsingContext;
+import org.simpleflatmapper.lightningcsv.CsvDialect;
 import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
 import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.lightningcsv.Row;
@@ -34,6 +35,7 @@ import org.simpleflatmapper.util.ListCollector;
 import org.simpleflatmapper.util.Predicate;
 
 import javax.persistence.Column;
+import java.io.BufferedReader;
 import java.io.CharArrayReader;
 import java.io.File;
 import java.io.FileWriter;
@@ -1500,6 +1502,59 @@ public class CsvParserTest {
 		assertEquals(" blah", list.get(0).zulu );
 	}
 	
+	@Test
+	public void testMapToInternStrings() throws IOException {
+		List<Country> list = CsvParser.dsl().internStrings(1).mapTo(Country.class)
+				.forEach("id,code\n1,FR\n2,GB\n3,FR\n", new ListCollector<Country>()).getList();
+
+		assertEquals(3, list.size());
+		assertEquals("FR", list.get(2).code);
+		assertSame(list.get(0).code, list.get(2).code);
+	}
+
+	@Test
+	public void testSniffMapTo() throws IOException {
+		BufferedReader reader = new BufferedReader(new StringReader("id;code\n1;FR\n2;GB\n"));
+		CsvDialect dialect = CsvParser.sniff(reader);
+		assertTrue(dialect.hasHeader);
+		List<Country> list = dialect.applyTo(CsvParser.dsl()).mapTo(Country.class).forEach(reader, new ListCollector<Country>()).getList();
+
+		assertEquals(2, list.size());
+		assertEquals(2, list.get(1).id);
+		assertEquals("GB", list.get(1).code);
+	}
+
+	@Test
+	public void testMapToColumns() throws IOException {
+		StringBuilder sb = new StringBuilder("id,symbol,price,quantity,other\n");
+		for(int i = 0; i < 10; i++) {
+			sb.append(i).append(",S").append(i % 3).append(',').append(i).append(".25,").append(i * 2).append(",x\n");
+		}
+		List<Trades> list = CsvParser.mapToColumns(Trades.class).batchSize(4).alias("quantity", "qty").forEach(sb, new ListCollector<Trades>()).getList();
+
+		assertEquals(3, list.size());
+		assertEquals(4, list.get(0).size);
+		assertArrayEquals(new long[] {0, 1, 2, 3}, list.get(0).id);
+		assertArrayEquals(new String[] {"S0", "S1", "S2", "S0"}, list.get(0).symbol);
+		assertSame(list.get(0).symbol[0], list.get(0).symbol[3]);
+		assertArrayEquals(new int[] {8, 10, 12, 14}, list.get(1).qty);
+		assertEquals(2, list.get(2).size);
+		assertArrayEquals(new double[] {8.25, 9.25}, list.get(2).price, 0);
+	}
+
+	public static class Trades {
+		public int size;
+		public long[] id;
+		public String[] symbol;
+		public double[] price;
+		public int[] qty;
+	}
+
+	public static class Country {
+		public int id;
+		public String code;
+	}
+
 	public static class C578 {
 		public final Date startDate;
 		public final String foo;
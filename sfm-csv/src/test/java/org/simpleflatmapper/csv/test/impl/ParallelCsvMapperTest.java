@@ -0,0 +1,184 @@
+package org.simpleflatmapper.csv.test.impl;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.csv.impl.ParallelCsvMapper;
+import org.simpleflatmapper.map.ConsumerErrorHandler;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//IFJAVA8_START
+import java.util.stream.Collectors;
+//IFJAVA8_END
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ParallelCsvMapperTest {
+
+    private static final int NB_ROWS = 5000;
+
+    @Test
+    public void testParallelMappingKeepsTheOrderOfTheRows() throws Exception {
+        String content = content(NB_ROWS, -1);
+        List<DbObject> expected = CsvParser.mapTo(DbObject.class).forEach(content, new ListCollector<DbObject>()).getList();
+
+        List<DbObject> list = CsvParser.mapTo(DbObject.class).parallelMapping(4).forEach(content, new ListCollector<DbObject>()).getList();
+        assertEquals(expected, list);
+
+        CsvParser.StaticMapToDSL<DbObject> staticMapToDSL = CsvParser.mapTo(DbObject.class).overrideHeaders("id", "name", "email");
+        list = staticMapToDSL.parallelMapping(4).forEach(content, new ListCollector<DbObject>()).getList();
+        assertEquals(staticMapToDSL.forEach(content, new ListCollector<DbObject>()).getList(), list);
+
+        list = new ArrayList<DbObject>();
+        Iterator<DbObject> iterator = CsvParser.mapTo(DbObject.class).parallelMapping(3).iterator(content);
+        while (iterator.hasNext()) {
+            list.add(iterator.next());
+        }
+        assertEquals(expected, list);
+
+        //IFJAVA8_START
+        list = CsvParser.mapTo(DbObject.class).parallelMapping(4).stream(content).collect(Collectors.toList());
+        assertEquals(expected, list);
+        //IFJAVA8_END
+    }
+
+    @Test
+    public void testParallelMappingUnordered() throws Exception {
+        String content = content(NB_ROWS, -1);
+        List<DbObject> expected = CsvParser.mapTo(DbObject.class).forEach(content, new ListCollector<DbObject>()).getList();
+
+        List<DbObject> list = CsvParser.mapTo(DbObject.class).parallelMappingUnordered(4).forEach(content, new ListCollector<DbObject>()).getList();
+        Collections.sort(list, new Comparator<DbObject>() {
+            @Override
+            public int compare(DbObject o1, DbObject o2) {
+                return o1.getId() < o2.getId() ? -1 : o1.getId() == o2.getId() ? 0 : 1;
+            }
+        });
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testParallelMappingLimit() throws Exception {
+        List<DbObject> list = CsvParser.limit(10).mapTo(DbObject.class).parallelMapping(4).forEach(content(NB_ROWS, -1), new ListCollector<DbObject>()).getList();
+        assertEquals(10, list.size());
+        assertEquals(9, list.get(9).getId());
+    }
+
+    @Test
+    public void testConsumerErrorsGoToTheConsumerErrorHandler() throws Exception {
+        final List<Object> errorValues = new ArrayList<Object>();
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().consumerErrorHandler(new ConsumerErrorHandler() {
+            @Override
+            public void handlerError(Throwable error, Object target) {
+                errorValues.add(target);
+            }
+        }).newMapper(DbObject.class);
+
+        final List<DbObject> list = new ArrayList<DbObject>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new ParallelCsvMapper<DbObject>(mapper, 2, true, executor, 7).forEach(CsvParser.reader(content(100, -1)), new CheckedConsumer<DbObject>() {
+                @Override
+                public void accept(DbObject dbObject) throws Exception {
+                    if (dbObject.getId() % 10 == 3) {
+                        throw new IllegalStateException();
+                    }
+                    list.add(dbObject);
+                }
+            }, -1);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(90, list.size());
+        assertEquals(10, errorValues.size());
+        assertEquals(13L, ((DbObject) errorValues.get(1)).getId());
+    }
+
+    @Test
+    public void testMappingErrorIsThrownAfterThePreviousRows() throws Exception {
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newMapper(DbObject.class);
+
+        ListCollector<DbObject> collector = new ListCollector<DbObject>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new ParallelCsvMapper<DbObject>(mapper, 4, true, executor, 7).forEach(CsvParser.reader(content(NB_ROWS, 1000)), collector, -1);
+            fail();
+        } catch (Exception e) {
+            // expected
+        } finally {
+            executor.shutdown();
+        }
+
+        List<DbObject> list = collector.getList();
+        assertEquals(1000, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testJoinFallsBackToSerialMapping() throws Exception {
+        String content = "id,name,objects_id,objects_name\n1,n1,11,o11\n1,n1,12,o12\n2,n2,21,o21";
+        List<DbObjectWithList> list = CsvParser.mapTo(DbObjectWithList.class).addKeys("id", "objects_id").parallelMapping(4)
+                .forEach(new StringReader(content), new ListCollector<DbObjectWithList>()).getList();
+
+        assertEquals(2, list.size());
+        assertEquals(2, list.get(0).getObjects().size());
+        assertEquals(1, list.get(1).getObjects().size());
+        assertEquals(12, list.get(0).getObjects().get(1).getId());
+    }
+
+    private static String content(int nbRows, int invalidRow) {
+        StringBuilder sb = new StringBuilder("id,name,email,creationTime,typeName\n");
+        for (int i = 0; i < nbRows; i++) {
+            sb.append(i == invalidRow ? "x" : String.valueOf(i)).append(",name").append(i).append(",email").append(i)
+                    .append(",2014-01-").append(10 + i % 20).append(" 12:00:").append(10 + i % 50).append(",type").append(1 + i % 4)
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    public static class DbObjectWithList {
+        private long id;
+        private String name;
+        private List<DbObject> objects;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<DbObject> getObjects() {
+            return objects;
+        }
+
+        public void setObjects(List<DbObject> objects) {
+            this.objects = objects;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.simpleflatmapper.csv.test.impl.cellreader;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.impl.cellreader.EnumCellValueReader;
+
+import java.lang.annotation.ElementType;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class EnumCellValueReaderTest {
+
+	public enum Ambiguous { value, VALUE }
+
+	@Test
+	public void testReadNames() {
+		testReadAllNames(TimeUnit.class);
+		testReadAllNames(ElementType.class);
+		testReadAllNames(RoundingMode.class);
+		testReadAllNames(Thread.State.class);
+	}
+
+	private <E extends Enum<E>> void testReadAllNames(Class<E> enumClass) {
+		EnumCellValueReader<E> reader = new EnumCellValueReader<E>(enumClass, false, false);
+		EnumCellValueReader<E> caseInsensitiveReader = new EnumCellValueReader<E>(enumClass, false, true);
+		for (E e : enumClass.getEnumConstants()) {
+			assertEquals(e, read(reader, e.name()));
+			assertEquals(e, read(caseInsensitiveReader, e.name().toLowerCase()));
+			invalid(reader, e.name().toLowerCase());
+			invalid(reader, e.name() + "X");
+		}
+	}
+
+	@Test
+	public void testReadOrdinals() {
+		EnumCellValueReader<TimeUnit> reader = new EnumCellValueReader<TimeUnit>(TimeUnit.class, false, false);
+		assertNull(read(reader, ""));
+		assertEquals(TimeUnit.NANOSECONDS, read(reader, "0"));
+		assertEquals(TimeUnit.DAYS, read(reader, "6"));
+		invalid(reader, "7");
+		invalid(reader, "-1");
+
+		EnumCellValueReader<TimeUnit> ordinalReader = new EnumCellValueReader<TimeUnit>(TimeUnit.class, true, false);
+		assertEquals(TimeUnit.SECONDS, read(ordinalReader, "3"));
+		assertEquals(TimeUnit.SECONDS, read(ordinalReader, "+3"));
+		invalid(ordinalReader, "SECONDS");
+	}
+
+	@Test
+	public void testAmbiguousCaseInsensitive() {
+		assertEquals(Ambiguous.VALUE, read(new EnumCellValueReader<Ambiguous>(Ambiguous.class, false, false), "VALUE"));
+		try {
+			new EnumCellValueReader<Ambiguous>(Ambiguous.class, false, true);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private <E extends Enum<E>> E read(EnumCellValueReader<E> reader, String str) {
+		char[] chars = ("a," + str + ",b").toCharArray();
+		return reader.read(chars, 2, str.length(), null);
+	}
+
+	private void invalid(EnumCellValueReader<?> reader, String str) {
+		try {
+			read(reader, str);
+			fail(str);
+		} catch (IllegalArgumentException e) {
+			// expected, NumberFormatException included
+		}
+	}
+}
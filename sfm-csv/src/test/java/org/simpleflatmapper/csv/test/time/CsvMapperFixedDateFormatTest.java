@@ -0,0 +1,147 @@
+package org.simpleflatmapper.csv.test.time;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.getter.FixedDateFormat;
+import org.simpleflatmapper.map.property.DateFormatProperty;
+import org.simpleflatmapper.map.property.TimeZoneProperty;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.Predicate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class CsvMapperFixedDateFormatTest {
+
+    private static final Predicate<CsvColumnKey> TRUE = new Predicate<CsvColumnKey>() {
+        @Override
+        public boolean test(CsvColumnKey csvColumnKey) {
+            return true;
+        }
+    };
+
+    private static final TimeZone PARIS = TimeZone.getTimeZone("Europe/Paris");
+
+    public static class Event {
+        public Date date;
+        public LocalDate localDate;
+        public LocalDateTime localDateTime;
+        public Instant instant;
+    }
+
+    @Test
+    public void testFixedPatterns() throws Exception {
+        String[][] patternValues = {
+                { "yyyy-MM-dd", "2019-10-16", "2016-02-29", "1970-01-01" },
+                { "yyyyMMdd", "20191016", "20160229", "19700101" },
+                { "yyyy-MM-dd HH:mm:ss", "2019-10-16 14:02:47", "2019-03-31 02:30:00", "2019-10-27 02:30:00" },
+                { "yyyy-MM-dd'T'HH:mm:ss", "2019-10-16T14:02:47", "2019-03-31T02:30:00", "2019-10-27T02:30:00" },
+                { "yyyy-MM-dd HH:mm:ss.SSS", "2019-10-16 14:02:47.123", "2000-01-01 00:00:00.000", "1999-12-31 23:59:59.999" },
+                { "yyyy-MM-dd'T'HH:mm:ss.SSS", "2019-10-16T14:02:47.123", "2000-01-01T00:00:00.000", "1999-12-31T23:59:59.999" },
+        };
+
+        for (String[] values : patternValues) {
+            String pattern = values[0];
+            boolean hasTime = pattern.contains("HH");
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
+            simpleDateFormat.setTimeZone(PARIS);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern).withZone(PARIS.toZoneId());
+
+            CsvMapper<Event> mapper = CsvMapperFactory.newInstance()
+                    .addColumnProperty(TRUE, new DateFormatProperty(pattern), new TimeZoneProperty(PARIS))
+                    .newMapper(Event.class);
+
+            for (int i = 1; i < values.length; i++) {
+                String value = values[i];
+                String header = hasTime ? "date,localDate,localDateTime,instant" : "date,localDate";
+                String row = hasTime ? value + "," + value + "," + value + "," + value : value + "," + value;
+
+                Event event = mapper.iterator(new StringReader(header + "\n" + row)).next();
+
+                assertEquals(value, simpleDateFormat.parse(value), event.date);
+                assertEquals(value, LocalDate.parse(value, formatter), event.localDate);
+                if (hasTime) {
+                    assertEquals(value, LocalDateTime.parse(value, formatter), event.localDateTime);
+                    assertEquals(value, formatter.parse(value, Instant::from), event.instant);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testValuesNotMatchingThePatternUseTheFormatter() throws Exception {
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        simpleDateFormat.setTimeZone(PARIS);
+
+        CsvMapper<Event> mapper = CsvMapperFactory.newInstance()
+                .addColumnProperty(TRUE, new DateFormatProperty("yyyy-MM-dd"), new TimeZoneProperty(PARIS))
+                .newMapper(Event.class);
+
+        // lenient SimpleDateFormat
+        for (String value : new String[] { "2019-1-5", "2019-02-30", "1500-06-01", "2019-10-16 extra" }) {
+            Event event = mapper.iterator(new StringReader("date\n" + value)).next();
+            assertEquals(value, simpleDateFormat.parse(value), event.date);
+        }
+
+        // SMART resolver of the DateTimeFormatter
+        Event event = mapper.iterator(new StringReader("localDate\n2019-02-30")).next();
+        assertEquals(LocalDate.of(2019, 2, 28), event.localDate);
+
+        try {
+            mapper.iterator(new StringReader("localDate\n2019-1-5")).next();
+            fail();
+        } catch (Exception e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testEpochMillis() throws IOException {
+        CsvMapper<Event> mapper = CsvMapperFactory.newInstance()
+                .addColumnProperty(TRUE, new DateFormatProperty(FixedDateFormat.EPOCH_MILLIS), new TimeZoneProperty(PARIS))
+                .newMapper(Event.class);
+
+        List<Event> events = mapper.forEach(new StringReader("date,localDate,localDateTime,instant\n1571227367123,1571227367123,1571227367123,1571227367123\n,,,"),
+                new ListCollector<Event>()).getList();
+
+        Event event = events.get(0);
+        assertEquals(new Date(1571227367123L), event.date);
+        assertEquals(LocalDate.of(2019, 10, 16), event.localDate);
+        assertEquals(LocalDateTime.of(2019, 10, 16, 14, 2, 47, 123000000), event.localDateTime);
+        assertEquals(Instant.ofEpochMilli(1571227367123L), event.instant);
+
+        event = events.get(1);
+        assertNull(event.date);
+        assertNull(event.localDate);
+        assertNull(event.localDateTime);
+        assertNull(event.instant);
+    }
+
+    @Test
+    public void testArbitraryPatternUsesTheFormatter() throws Exception {
+        CsvMapper<Event> mapper = CsvMapperFactory.newInstance()
+                .addColumnProperty(TRUE, new DateFormatProperty("dd/MM/yyyy HH:mm"), new TimeZoneProperty(PARIS))
+                .newMapper(Event.class);
+
+        Event event = mapper.iterator(new StringReader("date,localDateTime\n16/10/2019 14:02,16/10/2019 14:02")).next();
+
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        simpleDateFormat.setTimeZone(PARIS);
+        assertEquals(simpleDateFormat.parse("16/10/2019 14:02"), event.date);
+        assertEquals(LocalDateTime.of(2019, 10, 16, 14, 2), event.localDateTime);
+    }
+}
@@ -3,6 +3,7 @@ package org.simpleflatmapper.jdbc;
 
 import org.simpleflatmapper.jdbc.impl.ResultSetEnumerable;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.DiscriminatorMapper;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
@@ -83,6 +84,9 @@ public class DiscriminatorJdbcBuilder<T> {
      * @return a new jdbcMapper based on the current state
      */
     public JdbcMapper<T> mapper() {
+        if (jdbcMapperFactory.mapperConfig().reuseInstance()) {
+            throw new MapperBuildingException("Cannot reuse instance with discriminators, the type of the instance depends on the row");
+        }
 
         List<DiscriminatorMapper.PredicatedMapper<ResultSet, ResultSet, T, SQLException>> mappers =
                 new ArrayList<DiscriminatorMapper.PredicatedMapper<ResultSet, ResultSet, T, SQLException>>();
@@ -249,6 +253,9 @@ public class DiscriminatorJdbcBuilder<T> {
          * @return return a DiscriminatorMapper based on the current state of the builder
          */
         public JdbcMapper<T> mapper() {
+        if (jdbcMapperFactory.mapperConfig().reuseInstance()) {
+            throw new MapperBuildingException("Cannot reuse instance with discriminators, the type of the instance depends on the row");
+        }
             return DiscriminatorJdbcBuilder.this.mapper();
         }
 
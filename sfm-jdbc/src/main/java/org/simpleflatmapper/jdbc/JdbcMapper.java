@@ -1,5 +1,6 @@
 package org.simpleflatmapper.jdbc;
 
+import org.simpleflatmapper.map.InstanceReusingMapper;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.MappingContextFactoryFromRows;
@@ -31,7 +32,8 @@ import java.util.stream.Stream;
  * @param <T> the type that the jdbcMapper is mapping to
  * @see JdbcMapperFactory
  */
-public interface JdbcMapper<T> extends SetRowMapper<ResultSet, ResultSet, T, SQLException>, MappingContextFactoryFromRows<ResultSet, ResultSet, SQLException> 
+public interface JdbcMapper<T> extends SetRowMapper<ResultSet, ResultSet, T, SQLException>, MappingContextFactoryFromRows<ResultSet, ResultSet, SQLException>,
+		InstanceReusingMapper<ResultSet, T, SQLException>
 		{
 
 	/**
@@ -63,6 +65,22 @@ public interface JdbcMapper<T> extends SetRowMapper<ResultSet, ResultSet, T, SQL
 	<H extends CheckedConsumer<? super T>> H forEach(final ResultSet rs, final H handler)
 			throws SQLException, MappingException;
 
+	/**
+	 * Loop over the resultSet, map each row on reuseInstance and call back the handler with it.
+	 * No new instance of T is created, the handler must copy the values it needs to keep.
+	 * Use {@link JdbcMapperFactory#reuseInstance()} to check when the mapper is built that no property is injected through the constructor.
+	 *
+	 * @param rs the resultSet
+	 * @param handler the handler that will get the callback
+	 * @param reuseInstance the instance to map each row on
+	 * @param <H> the row handler type
+	 * @return the handler passed in
+	 * @throws SQLException if sql error occurs
+	 * @throws MappingException if an error occurs during the mapping
+	 */
+	<H extends CheckedConsumer<? super T>> H forEach(final ResultSet rs, final H handler, final T reuseInstance)
+			throws SQLException, MappingException;
+
 	/**
 	 *
 	 * @param rs the result set
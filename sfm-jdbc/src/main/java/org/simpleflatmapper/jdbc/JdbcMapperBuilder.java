@@ -1,6 +1,8 @@
 package org.simpleflatmapper.jdbc;
 
 import org.simpleflatmapper.jdbc.impl.JdbcKeySourceGetter;
+import org.simpleflatmapper.map.InstanceReusingMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.SourceFieldMapper;
@@ -251,6 +253,15 @@ public final class JdbcMapperBuilder<T> extends MapperBuilder<ResultSet, ResultS
             return setRowMapper.forEach(source, handler);
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public <H extends CheckedConsumer<? super T>> H forEach(ResultSet source, H handler, T reuseInstance) throws SQLException, MappingException {
+            if (!(setRowMapper instanceof InstanceReusingMapper)) {
+                throw new MapperBuildingException("Cannot reuse instance, mapper " + setRowMapper + " cannot map on an existing instance");
+            }
+            return ((InstanceReusingMapper<ResultSet, T, SQLException>) setRowMapper).forEach(source, handler, reuseInstance);
+        }
+
         @Override
         public Iterator<T> iterator(ResultSet source) throws SQLException, MappingException {
             return setRowMapper.iterator(source);
@@ -0,0 +1,130 @@
+package org.simpleflatmapper.jdbc.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.map.MapperBuildingException;
+import org.simpleflatmapper.test.beans.DbFinalObject;
+import org.simpleflatmapper.test.beans.DbListObject;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JdbcMapperReuseInstanceTest {
+
+    @Test
+    public void testRefillsTheSameInstance() throws Exception {
+        JdbcMapper<DbObject> mapper =
+                JdbcMapperFactory
+                        .newInstance()
+                        .reuseInstance()
+                        .newBuilder(DbObject.class)
+                        .addMapping("id")
+                        .addMapping("name")
+                        .mapper();
+
+        final DbObject instance = new DbObject();
+        final List<String> names = new ArrayList<String>();
+        mapper.forEach(new MockDbObjectResultSet(3), new CheckedConsumer<DbObject>() {
+            @Override
+            public void accept(DbObject dbObject) throws Exception {
+                assertSame(instance, dbObject);
+                assertEquals(names.size() + 1, dbObject.getId());
+                names.add(dbObject.getName());
+            }
+        }, instance);
+
+        assertEquals(3, names.size());
+        assertEquals("name1", names.get(0));
+        assertEquals("name3", names.get(2));
+    }
+
+    @Test
+    public void testConstructorInjectedPropertiesFailTheBuild() throws Exception {
+        try {
+            JdbcMapperFactory
+                    .newInstance()
+                    .reuseInstance()
+                    .newBuilder(DbFinalObject.class)
+                    .addMapping("id")
+                    .addMapping("name")
+                    .mapper();
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("constructor"));
+        }
+    }
+
+    @Test
+    public void testConstructorInjectedPropertiesFailBeforeMapping() throws Exception {
+        JdbcMapper<DbFinalObject> mapper =
+                JdbcMapperFactory
+                        .newInstance()
+                        .newBuilder(DbFinalObject.class)
+                        .addMapping("id")
+                        .addMapping("name")
+                        .mapper();
+
+        MockDbObjectResultSet rs = new MockDbObjectResultSet(3);
+        try {
+            mapper.forEach(rs, new CheckedConsumer<DbFinalObject>() {
+                @Override
+                public void accept(DbFinalObject dbFinalObject) throws Exception {
+                    fail();
+                }
+            }, new DbFinalObject(0, null, null, null, null, null));
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("constructor"));
+        }
+        assertEquals(0, rs.i);
+    }
+
+    @Test
+    public void testJoinFailsTheBuild() throws Exception {
+        try {
+            JdbcMapperFactory
+                    .newInstance()
+                    .reuseInstance()
+                    .addKeys("id", "objects_id")
+                    .newBuilder(DbListObject.class)
+                    .addMapping("id")
+                    .addMapping("objects_id")
+                    .mapper();
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("join"));
+        }
+    }
+
+    @Test
+    public void testJoinFailsBeforeMapping() throws Exception {
+        JdbcMapper<DbListObject> mapper =
+                JdbcMapperFactory
+                        .newInstance()
+                        .addKeys("id", "objects_id")
+                        .newBuilder(DbListObject.class)
+                        .addMapping("id")
+                        .addMapping("objects_id")
+                        .mapper();
+
+        try {
+            mapper.forEach(new MockDbObjectResultSet(3), new CheckedConsumer<DbListObject>() {
+                @Override
+                public void accept(DbListObject dbListObject) throws Exception {
+                    fail();
+                }
+            }, new DbListObject());
+            fail();
+        } catch (MapperBuildingException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("join"));
+        }
+    }
+}
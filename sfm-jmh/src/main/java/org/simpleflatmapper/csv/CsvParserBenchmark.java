@@ -7,6 +7,7 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 
 @State(Scope.Benchmark)
 public class CsvParserBenchmark {
@@ -63,6 +64,19 @@ public class CsvParserBenchmark {
     public String csvPipeQuote = "\"val\"|\"val2  sdssddsds\"|\"lllll llll\"|\"sdkokokokokads<>Sddsdsds\"|\"adsdsadsad\"|\"1\"|\"3\"|\"4\"";
     public String csvQuote2 = "\"val \"\" \",\"val2  \"\"sdssddsds\",\"lllll llll\",\"sdkokokokokads<>Sddsdsds\",\"adsdsadsad\",\"1\",\"3\",\"4\"";
 
+    public String csvLongCells = longCells();
+    public byte[] csvLongCellsBytes = csvLongCells.getBytes(Charset.forName("UTF-8"));
+
+    private static String longCells() {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 4; i++) {
+            if (i > 0) sb.append(',');
+            for(int j = 0; j < 20; j++) {
+                sb.append("description ");
+            }
+        }
+        return sb.toString();
+    }
 
     public static final CsvParser.DSL dsl = CsvParser.dsl();
     public static final CsvParser.DSL dslPipe = CsvParser.dsl().separator('|');
@@ -93,6 +107,16 @@ public class CsvParserBenchmark {
         dslPipe.parse(csvPipeQuote, new MyCellConsumer(blackhole));
     }
 
+    @Benchmark
+    public void parseLongCells(Blackhole blackhole) throws IOException {
+        dsl.parse(csvLongCells, new MyCellConsumer(blackhole));
+    }
+
+    @Benchmark
+    public void parseLongCellsBytes(Blackhole blackhole) throws IOException {
+        dsl.parse(csvLongCellsBytes, new MyCellConsumer(blackhole));
+    }
+
     public void parseQuote2(Blackhole blackhole) throws IOException {
         dsl.parse(csvQuote2, new MyCellConsumer(blackhole));
     }
@@ -6,6 +6,9 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.MappedFileCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ReaderCharBuffer;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -96,6 +99,28 @@ public class ReaderBenchmark {
         }
     }
 
+    @Benchmark
+    public void testReaderCharBuffer(Blackhole blackhole) throws IOException {
+        try (FileChannel open = FileChannel.open(file.toPath())) {
+            try (Reader reader = Channels.newReader(open, "UTF-8")) {
+                consume(new ReaderCharBuffer(Math.min(4096, nbChars), Integer.MAX_VALUE, reader), blackhole);
+            }
+        }
+    }
+
+    @Benchmark
+    public void testMappedFileCharBuffer(Blackhole blackhole) throws IOException {
+        try (MappedFileCharBuffer charBuffer = new MappedFileCharBuffer(FileChannel.open(file.toPath()), Charset.forName("UTF-8"), Math.min(4096, nbChars), Integer.MAX_VALUE)) {
+            consume(charBuffer, blackhole);
+        }
+    }
+
+    private void consume(CharBuffer charBuffer, Blackhole blackhole) throws IOException {
+        while(charBuffer.shiftAndRead(charBuffer.bufferSize)) {
+            blackhole.consume(charBuffer.buffer);
+        }
+    }
+
     private void consume(Reader reader, Blackhole blackhole) throws IOException {
         char[] buffer = new char[Math.min(4096, nbChars)];
         
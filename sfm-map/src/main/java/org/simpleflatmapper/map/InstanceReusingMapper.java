@@ -0,0 +1,35 @@
+package org.simpleflatmapper.map;
+
+import org.simpleflatmapper.util.CheckedConsumer;
+
+/**
+ * Mapper that can fill the same instance for each row instead of creating a new one.
+ * <p>
+ * Whether all the mapped properties can be set on an existing instance is checked when the mapper is built. With
+ * {@link org.simpleflatmapper.map.mapper.AbstractMapperFactory#reuseInstance()} the build fails if they cannot, otherwise
+ * forEach fails before reading the source.
+ *
+ * @param <SET> Enumerable Source type
+ * @param <T> Target type
+ * @param <E> Source exception type
+ */
+public interface InstanceReusingMapper<SET, T, E extends Exception> {
+
+    /**
+     * Loop over the source, map each row on the reuseInstance and call back the handler with it.
+     * <p>
+     * The instance is not created by the mapper, only the mapped properties are set, the handler must not keep a reference to it.
+     *
+     * @param source the source
+     * @param handler the handler that will get the callback
+     * @param reuseInstance the instance filled for each row
+     * @param <H> the row handler type
+     * @return the handler passed in
+     * @throws E if source error occurs
+     * @throws MappingException if an error occurs during the mapping
+     * @throws MapperBuildingException if a property is injected through the constructor, the target is created through a builder,
+     * the rows are joined or discriminated
+     */
+    <H extends CheckedConsumer<? super T>> H forEach(final SET source, final H handler, final T reuseInstance)
+            throws E, MappingException;
+}
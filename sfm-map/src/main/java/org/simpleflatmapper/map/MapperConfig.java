@@ -34,7 +34,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
                 RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, 
-                false, Collections.<Discriminator<S, ?>>emptyList(), null, false);
+                false, Collections.<Discriminator<S, ?>>emptyList(), null, false, false);
     }
 
     public static <K extends FieldKey<K>, S> MapperConfig<K, S> config(ColumnDefinitionProvider<K> columnDefinitionProvider) {
@@ -45,7 +45,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 false,
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
-                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, ?>>emptyList(), null, false);
+                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, ?>>emptyList(), null, false, false);
     }
 
     private final ColumnDefinitionProvider<K> columnDefinitions;
@@ -61,6 +61,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
     private final Predicate<? super S> rowFilter;
     
     private final boolean unorderedJoin;
+    private final boolean reuseInstance;
 
     private MapperConfig(
             ColumnDefinitionProvider<K> columnDefinitions,
@@ -71,7 +72,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
             FieldMapperErrorHandler<? super K> fieldMapperErrorHandler,
             ConsumerErrorHandler consumerErrorHandler,
             int maxMethodSize, boolean assumeInjectionModifiesValues,
-            List<Discriminator<S, ?>> discriminators, Predicate<? super S> rowFilter, boolean unorderedJoin) {
+            List<Discriminator<S, ?>> discriminators, Predicate<? super S> rowFilter, boolean unorderedJoin, boolean reuseInstance) {
         this.columnDefinitions = columnDefinitions;
         this.propertyNameMatcherFactory = propertyNameMatcherFactory;
         this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
@@ -84,6 +85,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
         this.discriminators = discriminators;
         this.rowFilter = rowFilter;
         this.unorderedJoin = unorderedJoin;
+        this.reuseInstance = reuseInstance;
     }
 
     public ColumnDefinitionProvider<K> columnDefinitions() {
@@ -120,7 +122,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> propertyNameMatcherFactory(PropertyNameMatcherFactory propertyNameMatcherFactory) {
@@ -131,7 +133,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> mapperBuilderErrorHandler(MapperBuilderErrorHandler mapperBuilderErrorHandler) {
@@ -142,7 +144,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> failOnAsm(boolean failOnAsm) {
@@ -153,7 +155,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
 
@@ -166,7 +168,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> asmMapperNbFieldsLimit(int asmMapperNbFieldsLimit) {
@@ -177,7 +179,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> fieldMapperErrorHandler(FieldMapperErrorHandler<? super K> fieldMapperErrorHandler) {
@@ -188,7 +190,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> consumerErrorHandler(ConsumerErrorHandler consumerErrorHandler) {
@@ -200,7 +202,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public MapperConfig<K, S> rowFilter(Predicate<? super S> rowFilter) {
@@ -212,7 +214,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
     
     public MapperConfig<K, S> unorderedJoin(boolean unorderedJoin) {
@@ -224,13 +226,29 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
     
     public boolean unorderedJoin() {
         return unorderedJoin;
     }
 
+    public MapperConfig<K, S> reuseInstance(boolean reuseInstance) {
+        return new MapperConfig<K, S>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                consumerErrorHandler,
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
+    }
+
+    public boolean reuseInstance() {
+        return reuseInstance;
+    }
+
     public ConsumerErrorHandler consumerErrorHandler() {
         return consumerErrorHandler;
     }
@@ -266,7 +284,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public <T> MapperConfig<K, S> discriminator(Class<T> rootClass, DiscriminatorCase<S, T>... cases) {
@@ -285,7 +303,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 consumerErrorHandler,
                 maxMethodSize,
                 assumeInjectionModifiesValues,
-                discriminators, rowFilter, unorderedJoin);
+                discriminators, rowFilter, unorderedJoin, reuseInstance);
     }
 
     public <S, T> Discriminator<S, T> getDiscriminator(ClassMeta<T> classMeta) {
@@ -317,7 +335,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 maxMethodSize,
                 assumeInjectionModifiesValues,
                 discriminators, 
-                rowFilter, unorderedJoin);
+                rowFilter, unorderedJoin, reuseInstance);
     }
 
     public DiscriminatorCase<S, ?> getDiscriminatorCase(Type type) {
@@ -2,13 +2,16 @@ package org.simpleflatmapper.map.mapper;
 
 
 import org.simpleflatmapper.map.ContextualSourceMapper;
+import org.simpleflatmapper.map.InstanceReusingMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
+import org.simpleflatmapper.util.CheckedConsumer;
 
-public abstract class AbstractEnumerableDelegateMapper<ROW, SET, T, E extends Exception> extends AbstractEnumerableMapper<SET, T, E> implements SetRowMapper<ROW, SET, T, E> {
+public abstract class AbstractEnumerableDelegateMapper<ROW, SET, T, E extends Exception> extends AbstractEnumerableMapper<SET, T, E> implements SetRowMapper<ROW, SET, T, E>, InstanceReusingMapper<SET, T, E> {
     
     public AbstractEnumerableDelegateMapper(ConsumerErrorHandler errorHandler) {
         super(errorHandler);
@@ -23,5 +26,14 @@ public abstract class AbstractEnumerableDelegateMapper<ROW, SET, T, E extends Ex
         return getMapper(source).map(source, context);
     }
 
+    @Override
+    public final <H extends CheckedConsumer<? super T>> H forEach(SET source, H handler, T reuseInstance) throws E, MappingException {
+        throw new MapperBuildingException(instanceReuseError());
+    }
+
+    protected String instanceReuseError() {
+        return InstanceReuseErrors.JOIN;
+    }
+
     protected abstract ContextualSourceMapper<ROW, T> getMapper(ROW source);
 }
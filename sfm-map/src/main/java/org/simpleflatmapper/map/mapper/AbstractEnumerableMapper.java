@@ -45,6 +45,10 @@ public abstract class AbstractEnumerableMapper<SET, T, E extends Exception> impl
         }
     }
 
+    public final ConsumerErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
     @Override
 	public final Iterator<T> iterator(SET source) throws MappingException, E {
 		return new EnumerableIterator<T>(enumerate(source));
@@ -52,6 +52,7 @@ public abstract class AbstractMapperFactory<
 	
 	private Predicate<? super S> rowFilter = null;
 	private boolean unorderedJoin;
+	private boolean reuseInstance;
 
 	protected ContextualGetterFactory<? super S, K> getterFactory;
 
@@ -74,6 +75,7 @@ public abstract class AbstractMapperFactory<
 		this.assumeInjectionModifiesValues = config.assumeInjectionModifiesValues;
 		this.rowFilter = config.rowFilter;
 		this.unorderedJoin = config.unorderedJoin;
+		this.reuseInstance = config.reuseInstance;
 		this.getterFactory = config.getterFactory;
 	}
 
@@ -113,6 +115,20 @@ public abstract class AbstractMapperFactory<
 		return (MF) this;
 	}
 
+	/**
+	 * Check when the mapper is built that each row can be mapped on an existing instance,
+	 * as done by {@link org.simpleflatmapper.map.InstanceReusingMapper#forEach(Object, org.simpleflatmapper.util.CheckedConsumer, Object)}.
+	 * The build fails if a property is injected through the constructor, if the target is built by a builder,
+	 * if the rows are joined or if discriminators are defined.
+	 * Without it the mappers that cannot map on an existing instance report it when forEach is called with one.
+	 *
+	 * @return the current factory
+	 */
+	public final MF reuseInstance() {
+		this.reuseInstance = true;
+		return (MF) this;
+	}
+
     /**
      * Change the mapperBuilderErrorHandler to an IgnoreMapperBuilderErrorHandler.
      * @return the current factory
@@ -186,7 +202,8 @@ public abstract class AbstractMapperFactory<
 				.assumeInjectionModifiesValues(assumeInjectionModifiesValues)
 				.discriminators(discriminators)
 				.rowFilter(rowFilter)
-				.unorderedJoin(unorderedJoin);
+				.unorderedJoin(unorderedJoin)
+				.reuseInstance(reuseInstance);
 	}
 
 	public AbstractColumnDefinitionProvider<K> enrichColumnDefinitions(AbstractColumnDefinitionProvider<K> columnDefinitions) {
@@ -12,10 +12,21 @@ import static org.simpleflatmapper.util.Asserts.requireNonNull;
 public class ContextualSourceFieldMapperImpl<S, T> implements ContextualSourceFieldMapper<S, T> {
     private final MappingContextFactory<? super S> mappingContextFactory;
     private final SourceFieldMapper<S, T> delegate;
+    private final String instanceReuseError;
 
     public ContextualSourceFieldMapperImpl(MappingContextFactory<? super S> mappingContextFactory, SourceFieldMapper<S, T> delegate) {
+        this(mappingContextFactory, delegate, null);
+    }
+
+    /**
+     * @param mappingContextFactory the mapping context factory
+     * @param delegate the mapper
+     * @param instanceReuseError why mapTo does not map all the properties on an existing instance, null if it does
+     */
+    public ContextualSourceFieldMapperImpl(MappingContextFactory<? super S> mappingContextFactory, SourceFieldMapper<S, T> delegate, String instanceReuseError) {
         this.mappingContextFactory = requireNonNull("mappingContextFactory", mappingContextFactory);
         this.delegate = requireNonNull("delegate", delegate);
+        this.instanceReuseError = instanceReuseError;
     }
 
     public SourceFieldMapper<S, T> getDelegate() {
@@ -54,4 +65,8 @@ public class ContextualSourceFieldMapperImpl<S, T> implements ContextualSourceFi
     public MappingContextFactory<? super S> getMappingContextFactory() {
         return mappingContextFactory;
     }
+
+    public String getInstanceReuseError() {
+        return instanceReuseError;
+    }
 }
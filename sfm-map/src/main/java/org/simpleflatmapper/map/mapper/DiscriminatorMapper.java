@@ -39,6 +39,11 @@ public class DiscriminatorMapper<ROW, ROWS, T, EX extends Exception> extends Abs
     }
 
 
+    @Override
+    protected String instanceReuseError() {
+        return InstanceReuseErrors.DISCRIMINATOR;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public DiscriminatorEnumerable<ROW, T> enumerate(ROWS rows) throws EX {
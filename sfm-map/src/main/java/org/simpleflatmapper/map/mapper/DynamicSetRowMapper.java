@@ -1,6 +1,8 @@
 package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.map.InstanceReusingMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
@@ -17,7 +19,7 @@ import java.util.stream.Stream;
 //IFJAVA8_END
 
 
-public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends FieldKey<K>> implements SetRowMapper<ROW, SET, T, E> {
+public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends FieldKey<K>> implements SetRowMapper<ROW, SET, T, E>, InstanceReusingMapper<SET, T, E> {
 
 
     private final MapperCache<K, SetRowMapper<ROW, SET, T, E>> mapperCache;
@@ -83,6 +85,16 @@ public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends Fie
 		return getMapperFromSet(set).forEach(set, handler);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public final <H extends CheckedConsumer<? super T>> H forEach(SET set, H handler, T reuseInstance) throws E, MappingException {
+		SetRowMapper<ROW, SET, T, E> mapper = getMapperFromSet(set);
+		if (!(mapper instanceof InstanceReusingMapper)) {
+			throw new MapperBuildingException("Cannot reuse instance, mapper " + mapper + " cannot map on an existing instance");
+		}
+		return ((InstanceReusingMapper<SET, T, E>) mapper).forEach(set, handler, reuseInstance);
+	}
+
 	@Override
 	public String toString() {
 		return "DynamicMapper{mapperFactory=" + mapperFactory
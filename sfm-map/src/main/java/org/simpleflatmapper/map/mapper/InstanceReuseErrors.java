@@ -0,0 +1,18 @@
+package org.simpleflatmapper.map.mapper;
+
+/**
+ * Reasons why a mapper cannot refill an existing instance, reported when the mapper is built with
+ * {@link AbstractMapperFactory#reuseInstance()} or else by {@link org.simpleflatmapper.map.InstanceReusingMapper#forEach(Object, org.simpleflatmapper.util.CheckedConsumer, Object)}.
+ */
+final class InstanceReuseErrors {
+    static final String DISCRIMINATOR = "Cannot reuse instance with discriminators, the type of the instance depends on the row";
+    static final String TRANSFORM = "Cannot reuse instance, the target is created through a builder or is immutable";
+    static final String JOIN = "Cannot reuse instance on a join, the rows are aggregated on the root objects";
+
+    private InstanceReuseErrors() {
+    }
+
+    static String constructorProperties(Object properties) {
+        return "Cannot reuse instance, the following properties are injected through the constructor " + properties;
+    }
+}
@@ -5,6 +5,7 @@ import org.simpleflatmapper.map.ContextualSourceFieldMapper;
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.FieldMapper;
 import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.context.KeySourceGetter;
 import org.simpleflatmapper.map.context.MappingContextFactory;
@@ -12,6 +13,8 @@ import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
 import org.simpleflatmapper.map.impl.DiscriminatorReflectionService;
 import org.simpleflatmapper.map.property.IgnoreRowIfNullProperty;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
+import org.simpleflatmapper.reflect.meta.PropertyMeta;
+import org.simpleflatmapper.reflect.meta.SubPropertyMeta;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.ErrorHelper;
 import org.simpleflatmapper.util.ForEachCallBack;
@@ -101,6 +104,15 @@ public class SetRowMapperBuilderImpl<M extends SetRowMapper<ROW, SET, T, E>, ROW
     public final M mapper() {
         ContextualSourceFieldMapperImpl<ROW, T> mapper = sourceFieldMapper();
 
+        String instanceReuseError = instanceReuseError(mapper);
+        if (instanceReuseError != null) {
+            if (mapperConfig.reuseInstance()) {
+                throw new MapperBuildingException(instanceReuseError);
+            }
+            // the static mapper reports it if asked to map on an existing instance
+            mapper = new ContextualSourceFieldMapperImpl<ROW, T>(mapper.getMappingContextFactory(), mapper.getDelegate(), instanceReuseError);
+        }
+
         if (mapper.getDelegate() instanceof TransformSourceFieldMapper) {
             TransformSourceFieldMapper transformSourceFieldMapper = (TransformSourceFieldMapper) mapper.getDelegate();
             ContextualSourceFieldMapper<ROW, T> unwrappedMapper = new ContextualSourceFieldMapperImpl<ROW, T>(mapper.getMappingContextFactory(), transformSourceFieldMapper.delegate);
@@ -134,6 +146,41 @@ public class SetRowMapperBuilderImpl<M extends SetRowMapper<ROW, SET, T, E>, ROW
         
     }
 
+    /**
+     * @return why the rows cannot be mapped on an existing instance, null if they can.
+     */
+    private String instanceReuseError(ContextualSourceFieldMapperImpl<ROW, T> mapper) {
+        if (!mapperConfig.getDiscriminators().isEmpty()) {
+            return InstanceReuseErrors.DISCRIMINATOR;
+        }
+        if (mapper.getDelegate() instanceof TransformSourceFieldMapper) {
+            return InstanceReuseErrors.TRANSFORM;
+        }
+        if (constantSourceMapperBuilder.isRootAggregate()) {
+            return InstanceReuseErrors.JOIN;
+        }
+
+        final List<String> constructorProperties = constantSourceMapperBuilder.forEachProperties(new ForEachCallBack<PropertyMapping<T, ?, K>>() {
+            List<String> constructorProperties = new ArrayList<String>();
+
+            @Override
+            public void handle(PropertyMapping<T, ?, K> propertyMapping) {
+                PropertyMeta<?, ?> propertyMeta = propertyMapping.getPropertyMeta();
+                while (propertyMeta.isSubProperty()) {
+                    propertyMeta = ((SubPropertyMeta<?, ?, ?>) propertyMeta).getOwnerProperty();
+                }
+                if (propertyMeta.isConstructorProperty() || propertyMeta.isSelf()) {
+                    constructorProperties.add(propertyMapping.getColumnKey().getName() + " -> " + propertyMapping.getPropertyMeta().getPath());
+                }
+            }
+        }).constructorProperties;
+
+        if (!constructorProperties.isEmpty()) {
+            return InstanceReuseErrors.constructorProperties(constructorProperties);
+        }
+        return null;
+    }
+
     private UnaryFactory<SET, Enumerable<ROW>> enumerableFactory() {
         final Predicate<ROW> filter = getRowPredicate();
         if (filter != null) {
@@ -1,6 +1,9 @@
 package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.ContextualSourceMapper;
+import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.InstanceReusingMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
@@ -8,14 +11,17 @@ import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.map.impl.StaticMapperEnumerable;
+import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
 import org.simpleflatmapper.util.UnaryFactory;
 
-public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends AbstractEnumerableMapper<SET, T, E> implements SetRowMapper<ROW, SET, T, E> {
+public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends AbstractEnumerableMapper<SET, T, E> implements SetRowMapper<ROW, SET, T, E>, InstanceReusingMapper<SET, T, E> {
 
 	private final ContextualSourceMapper<ROW, T> mapper;
 	private final MappingContextFactory<? super ROW> mappingContextFactory;
 	private final UnaryFactory<SET, Enumerable<ROW>> enumerableFactory;
+	private final String instanceReuseError;
 
 	public StaticSetRowMapper(final ContextualSourceMapper<ROW, T> mapper,
 							  final ConsumerErrorHandler errorHandler,
@@ -25,6 +31,16 @@ public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends Abstra
 		this.mapper = mapper;
 		this.mappingContextFactory = mappingContextFactory;
 		this.enumerableFactory = enumerableFactory;
+		this.instanceReuseError = instanceReuseError(mapper);
+	}
+
+	private static String instanceReuseError(ContextualSourceMapper<?, ?> mapper) {
+		if (mapper instanceof ContextualSourceFieldMapperImpl) {
+			return ((ContextualSourceFieldMapperImpl<?, ?>) mapper).getInstanceReuseError();
+		} else if (!(mapper instanceof FieldMapper)) {
+			return "Cannot reuse instance, mapper " + mapper + " cannot map on an existing instance";
+		}
+		return null;
 	}
 
 	@Override
@@ -47,7 +63,31 @@ public class StaticSetRowMapper<ROW, SET, T, E extends Exception> extends Abstra
 		return new StaticMapperEnumerable<ROW, T>(mapper, mappingContextFactory.newContext(), enumerableFactory.newInstance(source));
 	}
 
-	protected MappingContextFactory<? super ROW> getMappingContextFactory() {
+	@SuppressWarnings("unchecked")
+	@Override
+	public final <H extends CheckedConsumer<? super T>> H forEach(SET source, H handler, T reuseInstance) throws E, MappingException {
+		if (instanceReuseError != null) {
+			throw new MapperBuildingException(instanceReuseError);
+		}
+		final FieldMapper<ROW, T> fieldMapper = (FieldMapper<ROW, T>) mapper;
+		final MappingContext<? super ROW> mappingContext = mappingContextFactory.newContext();
+		final Enumerable<ROW> rows = enumerableFactory.newInstance(source);
+		while (rows.next()) {
+			try {
+				fieldMapper.mapTo(rows.currentValue(), reuseInstance, mappingContext);
+			} catch (Exception e) {
+				ErrorHelper.rethrow(e);
+			}
+			try {
+				handler.accept(reuseInstance);
+			} catch (Throwable e) {
+				errorHandler.handlerError(e, reuseInstance);
+			}
+		}
+		return handler;
+	}
+
+	public MappingContextFactory<? super ROW> getMappingContextFactory() {
 		return mappingContextFactory;
 	}
 }
@@ -1,5 +1,7 @@
 package org.simpleflatmapper.map.mapper;
 
+import org.simpleflatmapper.map.InstanceReusingMapper;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
@@ -15,7 +17,7 @@ import java.util.Iterator;
 import java.util.stream.Stream;
 //IFJAVA8_END
 
-public final class TransformSetRowMapper<ROW, SET, I, O, E extends Exception> implements SetRowMapper<ROW, SET, O, E> {
+public final class TransformSetRowMapper<ROW, SET, I, O, E extends Exception> implements SetRowMapper<ROW, SET, O, E>, InstanceReusingMapper<SET, O, E> {
 
 	private final SetRowMapper<ROW, SET, I, E> delegate;
 	private final Function<? super I, ? extends O> transformer;
@@ -31,6 +33,11 @@ public final class TransformSetRowMapper<ROW, SET, I, O, E extends Exception> im
 		return handler;
 	}
 
+	@Override
+	public <H extends CheckedConsumer<? super O>> H forEach(SET source, H handler, O reuseInstance) throws E, MappingException {
+		throw new MapperBuildingException(InstanceReuseErrors.TRANSFORM);
+	}
+
 	@Override
 	public Iterator<O> iterator(SET source) throws E, MappingException {
 		return new TransformIterator<I, O>(delegate.iterator(source), transformer);
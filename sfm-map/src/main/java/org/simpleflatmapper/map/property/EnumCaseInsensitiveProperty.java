@@ -0,0 +1,12 @@
+package org.simpleflatmapper.map.property;
+
+/**
+ * match the enum constant names ignoring the case, supported by the csv mapper.
+ */
+public class EnumCaseInsensitiveProperty {
+
+    @Override
+    public String toString() {
+        return "EnumCaseInsensitive";
+    }
+}
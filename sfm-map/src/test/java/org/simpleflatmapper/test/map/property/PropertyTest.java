@@ -64,6 +64,11 @@ public class PropertyTest {
         Assert.assertEquals("EnumOrdinalFormat", new EnumOrdinalFormatProperty().toString());
     }
 
+    @Test
+    public void testEnumCaseInsensitiveProperty() {
+        Assert.assertEquals("EnumCaseInsensitive", new EnumCaseInsensitiveProperty().toString());
+    }
+
     @Test
     public void testFieldMapperProperty() {
         FieldMapper<Object, Object> fieldMapper = new FieldMapper<Object, Object>() {
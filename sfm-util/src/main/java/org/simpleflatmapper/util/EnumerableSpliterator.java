@@ -1,13 +1,18 @@
 package org.simpleflatmapper.util;
 
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
-public class EnumerableSpliterator<T> implements Spliterator<T> {
+/**
+ * Spliterator on an Enumerable, trySplit hands off batches of values in an array as per {@link Spliterators.AbstractSpliterator}.
+ */
+public class EnumerableSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
 
     private final Enumerable<T> enumerable;
 
     public EnumerableSpliterator(Enumerable<T> enumerable) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
         this.enumerable = enumerable;
     }
 
@@ -29,19 +34,4 @@ public class EnumerableSpliterator<T> implements Spliterator<T> {
             action.accept(lEnumerable.currentValue());
         }
     }
-
-    @Override
-    public Spliterator<T> trySplit() {
-        return null;
-    }
-
-    @Override
-    public long estimateSize() {
-        return Long.MAX_VALUE;
-    }
-
-    @Override
-    public int characteristics() {
-        return ORDERED;
-    }
 }
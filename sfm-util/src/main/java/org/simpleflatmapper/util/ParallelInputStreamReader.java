@@ -0,0 +1,376 @@
+package org.simpleflatmapper.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.Executor;
+
+/**
+ * Reader that fetches the bytes of an InputStream in another thread, like {@link ParallelReader} but the ring buffer
+ * holds the raw bytes instead of chars.
+ * <p>
+ * The bytes are decoded in bulk straight into the char array passed to read, the ring uses half the memory of a char ring
+ * for single byte content and the chars are not copied twice.
+ * The producer adapts the size of its reads, doubling it when the stream fills the requested size and halving it when
+ * the stream returns small chunks.
+ */
+public class ParallelInputStreamReader extends Reader {
+
+    private static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_RING_BUFFER_SIZE = 1024 * 1024 * 4; // 4MB
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final RingBufferInputStream ringBuffer;
+    private final CharsetDecoder decoder;
+
+    private final char[] singleCharBuffer = new char[2];
+    private int pendingChar = -1;
+    private boolean flushed;
+
+    /**
+     * Create a new ParallelInputStreamReader that will fetch the bytes from that input stream in another thread.
+     * @param inputStream the input stream
+     * @param charset the charset of the content
+     * @see ParallelReader#ParallelReader(Reader)
+     */
+    public ParallelInputStreamReader(InputStream inputStream, Charset charset) {
+        this(inputStream, charset, ParallelReader.getDefaultExecutor());
+    }
+
+    public ParallelInputStreamReader(InputStream inputStream, Charset charset, ParallelReader.ThreadMode threadMode) {
+        this(inputStream, charset, threadMode.executor(), DEFAULT_RING_BUFFER_SIZE, DEFAULT_READ_BUFFER_SIZE, threadMode.waitingStrategy());
+    }
+
+    public ParallelInputStreamReader(InputStream inputStream, Charset charset, Executor executorService) {
+        this(inputStream, charset, executorService, DEFAULT_RING_BUFFER_SIZE);
+    }
+
+    public ParallelInputStreamReader(InputStream inputStream, Charset charset, Executor executorService, int bufferSize) {
+        this(inputStream, charset, executorService, bufferSize, DEFAULT_READ_BUFFER_SIZE);
+    }
+
+    public ParallelInputStreamReader(InputStream inputStream, Charset charset, Executor executorService, int bufferSize, int readBufferSize) {
+        this(inputStream, charset, executorService, bufferSize, readBufferSize, ParallelReader.DEFAULT_WAITING_STRATEGY);
+    }
+
+    /**
+     * Create a new ParallelInputStreamReader.
+     * @param inputStream the input stream
+     * @param charset the charset of the content
+     * @param executorService the executor to fetch from
+     * @param bufferSize the size of the ring buffer in bytes
+     * @param readBufferSize the initial size of the reads from the input stream
+     * @param waitingStrategy the waiting strategy when the ring buffer is full or empty
+     */
+    public ParallelInputStreamReader(InputStream inputStream, Charset charset, Executor executorService, int bufferSize, int readBufferSize, ParallelReader.WaitingStrategy waitingStrategy) {
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.ringBuffer = new RingBufferInputStream(inputStream, executorService, bufferSize, readBufferSize, waitingStrategy);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (pendingChar != -1) {
+            int c = pendingChar;
+            pendingChar = -1;
+            return c;
+        }
+        // room for a surrogate pair
+        int l = read(singleCharBuffer, 0, 2);
+        if (l == -1) {
+            return -1;
+        }
+        if (l == 2) {
+            pendingChar = singleCharBuffer[1];
+        }
+        return singleCharBuffer[0];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (pendingChar != -1 || len == 1) {
+            int c = read();
+            if (c == -1) {
+                return -1;
+            }
+            cbuf[off] = (char) c;
+            return 1;
+        }
+        if (flushed) {
+            return -1;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        int written = ringBuffer.decode(decoder, out);
+        if (written == -1) {
+            decoder.decode(EMPTY, out, true);
+            decoder.flush(out);
+            flushed = true;
+            written = out.position() - off;
+            return written > 0 ? written : -1;
+        }
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ringBuffer.close();
+    }
+}
+
+
+class BytePad0 {
+    long p1,p2,p3,p4,p5,p6,p7;
+}
+class ByteTail extends BytePad0 {
+    volatile long tail = 0;
+}
+class BytePad1 extends ByteTail { long p1,p2,p3,p4,p5,p6,p7; }
+class ByteRing extends BytePad1 { byte[] buffer; }
+class BytePad2 extends ByteRing { long p1,p2,p3,p4,p5,p6,p7; }
+class ByteHead extends BytePad2 {
+    volatile long head = 0;
+}
+class BytePad3 extends ByteHead { long p1,p2,p3,p4,p5,p6,p7; }
+class ByteRun extends BytePad3 {
+    volatile boolean run = true;
+}
+class BytePad4 extends ByteRun { long p1,p2,p3,p4,p5,p6,p7; }
+
+final class RingBufferInputStream extends BytePad4 {
+
+    public static final int L1_CACHE_LINE_SIZE = 64;
+    private static final int MIN_READ_SIZE = 512;
+    // enough for the bytes of a char split by the end of the ring
+    private static final int SPLIT_CHAR_MAX_BYTES = 16;
+
+    private final InputStream inputStream;
+    private final DataProducer dataProducer;
+
+    private final long bufferMask;
+
+    private final int capacity;
+    private final int tailPadding;
+    private long tailCache;
+    private final ParallelReader.WaitingStrategy waitingStrategy;
+    private final WaitingStrategies.SignalingWaitingStrategy signalingStrategy;
+
+    private final ByteBuffer bufferView;
+    private final ByteBuffer splitChar = ByteBuffer.allocate(SPLIT_CHAR_MAX_BYTES);
+
+    public RingBufferInputStream(InputStream inputStream, Executor executorService, int ringBufferSize, int readSize, ParallelReader.WaitingStrategy waitingStrategy) {
+        capacity =  1 << 32 - Integer.numberOfLeadingZeros(ringBufferSize - 1);
+        tailPadding = capacity <= 1024 ? 0 : L1_CACHE_LINE_SIZE;
+        this.inputStream = inputStream;
+        buffer = new byte[capacity + L1_CACHE_LINE_SIZE * 2]; // cache line padding on both
+        bufferView = ByteBuffer.wrap(buffer);
+        bufferMask = capacity - 1;
+        this.waitingStrategy = waitingStrategy;
+        this.signalingStrategy = waitingStrategy instanceof WaitingStrategies.SignalingWaitingStrategy ? (WaitingStrategies.SignalingWaitingStrategy) waitingStrategy : null;
+        int maxReadSize = Math.max(capacity / 8, 1);
+        dataProducer = new DataProducer(waitingStrategy, Math.max(Math.min(maxReadSize, readSize), 1), maxReadSize);
+        executorService.execute(dataProducer);
+    }
+
+    /**
+     * decode the available bytes into out, waiting for the producer if there is not enough bytes to decode a char.
+     * @return the number of chars written or -1 if all the bytes have been consumed and the stream is closed
+     */
+    public int decode(CharsetDecoder decoder, CharBuffer out) throws IOException {
+        final int start = out.position();
+        long minTail = head + 1;
+        for(;;) {
+            final long currentHead = head;
+            final long currentTail = awaitTail(minTail);
+            final boolean endOfInput = currentTail < minTail;
+
+            head = currentHead + decode(decoder, out, currentHead, currentTail, endOfInput);
+            signal();
+
+            int written = out.position() - start;
+            if (written > 0) {
+                return written;
+            }
+            if (endOfInput) {
+                return -1;
+            }
+            // an incomplete char, wait for more bytes
+            minTail = currentTail + 1;
+        }
+    }
+
+    private long awaitTail(long minTail) throws IOException {
+        long currentTail = tailCache;
+        if (currentTail >= minTail) {
+            return currentTail;
+        }
+        currentTail = tail;
+        int i = 0;
+        while (currentTail < minTail) {
+            if (!run) {
+                if (dataProducer.exception != null) {
+                    throw dataProducer.exception;
+                }
+                currentTail = tail;
+                break;
+            }
+            i = waitingStrategy.idle(i);
+            currentTail = tail;
+        }
+        tailCache = currentTail;
+        return currentTail;
+    }
+
+    private int decode(CharsetDecoder decoder, CharBuffer out, long from, long to, boolean endOfInput) {
+        final ByteBuffer in = this.bufferView;
+        long position = from;
+        while (position < to && out.hasRemaining()) {
+            int index = (int) (position & bufferMask);
+            int contiguous = (int) Math.min(to - position, capacity - index);
+            boolean lastBlock = position + contiguous == to;
+
+            in.limit(in.capacity());
+            in.position(index + L1_CACHE_LINE_SIZE);
+            in.limit(index + L1_CACHE_LINE_SIZE + contiguous);
+
+            CoderResult coderResult = decoder.decode(in, out, endOfInput && lastBlock);
+            int consumed = in.position() - (index + L1_CACHE_LINE_SIZE);
+            position += consumed;
+
+            if (consumed < contiguous) {
+                if (coderResult.isOverflow() || lastBlock) {
+                    break;
+                }
+                // char split by the end of the ring
+                int splitCharConsumed = decodeSplitChar(decoder, out, position, to);
+                if (splitCharConsumed == 0) {
+                    break;
+                }
+                position += splitCharConsumed;
+            }
+        }
+        return (int) (position - from);
+    }
+
+    private int decodeSplitChar(CharsetDecoder decoder, CharBuffer out, long from, long to) {
+        final ByteBuffer splitChar = this.splitChar;
+        splitChar.clear();
+        int length = (int) Math.min(to - from, splitChar.capacity());
+        for(int i = 0; i < length; i++) {
+            splitChar.put(buffer[(int) ((from + i) & bufferMask) + L1_CACHE_LINE_SIZE]);
+        }
+        splitChar.flip();
+        decoder.decode(splitChar, out, false);
+        return splitChar.position();
+    }
+
+    private void signal() {
+        if (signalingStrategy != null) {
+            signalingStrategy.signal();
+        }
+    }
+
+    public void close() throws IOException {
+        dataProducer.stop();
+        inputStream.close();
+    }
+
+    private final class DataProducer implements Runnable {
+        private volatile IOException exception;
+        private final ParallelReader.WaitingStrategy waitingStrategy;
+
+        private final int minReadSize;
+        private final int maxReadSize;
+        private int readSize;
+
+        public DataProducer(ParallelReader.WaitingStrategy waitingStrategy, int readSize, int maxReadSize) {
+            this.waitingStrategy = waitingStrategy;
+            this.readSize = readSize;
+            this.minReadSize = Math.min(MIN_READ_SIZE, readSize);
+            this.maxReadSize = maxReadSize;
+        }
+
+        @Override
+        public void run() {
+            ParallelReader.WaitingStrategy waitingStrategy = this.waitingStrategy;
+            long currentTail = tail;
+            long headCache = head;
+            while(run) {
+                final int readSize = this.readSize;
+                final long wrapPoint = currentTail - (capacity - tailPadding - readSize);
+
+                if (headCache <= wrapPoint) {
+                    int i = 0;
+                    headCache = head;
+                    while (headCache <= wrapPoint && run) {
+                        i = waitingStrategy.idle(i);
+                        headCache = head;
+                    }
+                    if (!run) {
+                        break;
+                    }
+                }
+
+                currentTail = fillBuffer(currentTail, headCache, readSize);
+            }
+        }
+
+        private long fillBuffer(long tail, long head, int readSize) {
+            try {
+                int used = (int)(tail - head);
+                int writable = capacity - used - tailPadding;
+                int tailIndex = (int) (tail & bufferMask);
+
+                // check if available wrap over the array
+                int endBlock1 = tailIndex + writable;
+                if (endBlock1 > capacity) {
+                    endBlock1 = capacity;
+                }
+
+                int block1Length = endBlock1 - tailIndex;
+                int l = readSize < block1Length ? readSize : block1Length;
+
+                int r = inputStream.read(buffer, tailIndex +  L1_CACHE_LINE_SIZE, l);
+
+                if (r != -1) {
+                    tail += r;
+                    RingBufferInputStream.this.tail = tail;
+                    signal();
+                    adaptReadSize(l, r);
+                } else {
+                    run = false;
+                }
+            } catch (IOException e) {
+                exception = e;
+                run = false;
+            }
+            if (!run) {
+                signal();
+            }
+            return tail;
+        }
+
+        private void adaptReadSize(int requested, int read) {
+            if (read == requested && requested == readSize) {
+                readSize = Math.min(readSize * 2, maxReadSize);
+            } else if (read < requested >> 2) {
+                readSize = Math.max(readSize >> 1, minReadSize);
+            }
+        }
+
+        public void stop() {
+            run = false;
+            signal();
+        }
+    }
+}
@@ -53,7 +53,36 @@ public class ParallelReader extends Reader {
 
     } 
     
-    private static final WaitingStrategy DEFAULT_WAITING_STRATEGY = new WaitingStrategy() {
+    /**
+     * Executor running each task in a new virtual thread, available on java 21 and over.
+     * Looked up by reflection as the module is compiled for older versions.
+     * @return the virtual thread executor
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static Executor getVirtualThreadExecutor() {
+        if (VirtualThreadExecutorHolder.EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads are not available on java " + System.getProperty("java.version"));
+        }
+        return VirtualThreadExecutorHolder.EXECUTOR;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreadExecutorHolder.EXECUTOR != null;
+    }
+
+    private static final class VirtualThreadExecutorHolder {
+        private static final Executor EXECUTOR = newVirtualThreadExecutor();
+
+        private static Executor newVirtualThreadExecutor() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    static final WaitingStrategy DEFAULT_WAITING_STRATEGY = new WaitingStrategy() {
         @Override
         public int idle(int i) {
             LockSupport.parkNanos(1l); 
@@ -77,6 +106,16 @@ public class ParallelReader extends Reader {
         this(reader, getDefaultExecutor());
     }
 
+    /**
+     * Create a new ParallelReader that will fetch the data in a thread of the specified mode.
+     * @param reader the reader
+     * @param threadMode the kind of thread to fetch the data from
+     * @see ThreadMode
+     */
+    public ParallelReader(Reader reader, ThreadMode threadMode) {
+        this(reader, threadMode.executor(), DEFAULT_RING_BUFFER_SIZE, DEFAULT_READ_BUFFER_SIZE, threadMode.waitingStrategy());
+    }
+
     public ParallelReader(Reader reader, Executor executorService) {
         this(reader, executorService, DEFAULT_RING_BUFFER_SIZE);
     }
@@ -95,7 +134,7 @@ public class ParallelReader extends Reader {
      * @param executorService the executor to fetch from
      * @param bufferSize the size of the ring buffer
      * @param readBufferSize the size of the buffer to fetch data
-     * @param waitingStrategy the waiting strategy when the ring buffer is full
+     * @param waitingStrategy the waiting strategy when the ring buffer is full or empty, see {@link WaitingStrategies}
      */
     public ParallelReader(Reader reader, Executor executorService, int bufferSize, int readBufferSize, WaitingStrategy waitingStrategy) {
         this.reader = new RingBufferReader(reader, executorService, bufferSize, readBufferSize, waitingStrategy);
@@ -116,7 +155,55 @@ public class ParallelReader extends Reader {
         reader.close();
     }
     
+    public enum ThreadMode {
+        /**
+         * fetch from the default executor, see {@link #getDefaultExecutor()}, waiting with LockSupport.parkNanos(1).
+         */
+        DEFAULT {
+            @Override
+            public Executor executor() {
+                return getDefaultExecutor();
+            }
+
+            @Override
+            public WaitingStrategy waitingStrategy() {
+                return DEFAULT_WAITING_STRATEGY;
+            }
+        },
+        /**
+         * fetch from a new virtual thread, the producer and consumer block on a condition instead of spinning
+         * so that the virtual threads unmount from their carrier while waiting. Requires java 21,
+         * {@link #executor()} throws an UnsupportedOperationException otherwise, see {@link #isVirtualThreadSupported()}.
+         */
+        VIRTUAL {
+            @Override
+            public Executor executor() {
+                return getVirtualThreadExecutor();
+            }
+
+            @Override
+            public WaitingStrategy waitingStrategy() {
+                return WaitingStrategies.blocking();
+            }
+        };
+
+        public abstract Executor executor();
+
+        /**
+         * @return the waiting strategy to use for a new reader
+         */
+        public abstract WaitingStrategy waitingStrategy();
+    }
+
+    /**
+     * Called by the producer when the ring buffer is full and by the consumer when it is empty.
+     * See {@link WaitingStrategies} for the built-in strategies.
+     */
     public interface WaitingStrategy {
+        /**
+         * @param i 0 on the first call of a wait, then the value returned by the previous call
+         * @return the value to pass to the next call
+         */
         int idle(int i);
     }
 }
@@ -152,6 +239,7 @@ final class RingBufferReader extends Pad4 {
     private final int tailPadding;
     private long tailCache;
     private final ParallelReader.WaitingStrategy waitingStrategy;
+    private final WaitingStrategies.SignalingWaitingStrategy signalingStrategy;
 
     public RingBufferReader(Reader reader, Executor executorService, int ringBufferSize, int readSize, ParallelReader.WaitingStrategy waitingStrategy) {
         capacity =  1 << 32 - Integer.numberOfLeadingZeros(ringBufferSize - 1);
@@ -160,6 +248,7 @@ final class RingBufferReader extends Pad4 {
         buffer = new char[capacity + L1_CACHE_LINE_SIZE * 2]; // cache line padding on both 
         bufferMask = capacity - 1;
         this.waitingStrategy = waitingStrategy;
+        this.signalingStrategy = waitingStrategy instanceof WaitingStrategies.SignalingWaitingStrategy ? (WaitingStrategies.SignalingWaitingStrategy) waitingStrategy : null;
         dataProducer = new DataProducer(waitingStrategy, Math.max(Math.min(ringBufferSize / 8, readSize), 1));
         executorService.execute(dataProducer);
     }
@@ -184,6 +273,7 @@ final class RingBufferReader extends Pad4 {
 
         int l = read(cbuf, off, len, currentHead, tailCache);
         head = currentHead + l;
+        signal();
         return l;
     }
 
@@ -208,6 +298,7 @@ final class RingBufferReader extends Pad4 {
         int headIndex = (int) (currentHead & bufferMask);
         char c = buffer[headIndex + L1_CACHE_LINE_SIZE];
         head = currentHead + 1;
+        signal();
         return c;
     }
 
@@ -224,6 +315,12 @@ final class RingBufferReader extends Pad4 {
         return block1Length + block2Length;
     }
 
+    private void signal() {
+        if (signalingStrategy != null) {
+            signalingStrategy.signal();
+        }
+    }
+
     public void close() throws IOException {
         dataProducer.stop();
         reader.close();
@@ -252,10 +349,13 @@ final class RingBufferReader extends Pad4 {
                 if (headCache <= wrapPoint) {
                     int i = 0;
                     headCache = head;
-                    while (headCache <= wrapPoint) {
+                    while (headCache <= wrapPoint && run) {
                         i = waitingStrategy.idle(i);
                         headCache = head;
                     }
+                    if (!run) {
+                        break;
+                    }
                 }
 
                 currentTail = fillBuffer(currentTail, headCache, readSize);
@@ -282,6 +382,7 @@ final class RingBufferReader extends Pad4 {
                 if (r != -1) {
                     tail += r;
                     RingBufferReader.this.tail = tail;
+                    signal();
                 } else {
                     run = false;
                 }
@@ -289,12 +390,16 @@ final class RingBufferReader extends Pad4 {
                 exception = e;
                 run = false;
             }
+            if (!run) {
+                signal();
+            }
             return tail;
         }
 
 
         public void stop() {
             run = false;
+            signal();
         }
     }
 }
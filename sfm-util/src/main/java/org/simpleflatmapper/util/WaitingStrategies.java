@@ -0,0 +1,249 @@
+package org.simpleflatmapper.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Built-in {@link ParallelReader.WaitingStrategy} for the {@link ParallelReader} and {@link ParallelInputStreamReader}.
+ * <p>
+ * The producer and the consumer call the strategy when the ring buffer is respectively full or empty, the first call
+ * of a wait being done with i equals to 0.
+ * Each strategy counts the number of stalls - a wait of the producer or the consumer - and the time spent waiting.
+ * A strategy instance is stateful, use one instance per reader to get the counters of that reader.
+ */
+public final class WaitingStrategies {
+
+    private WaitingStrategies() {
+    }
+
+    /**
+     * @return a strategy that spins on the cpu, lowest latency but burns a core while waiting.
+     */
+    public static BusySpinWaitingStrategy busySpin() {
+        return new BusySpinWaitingStrategy();
+    }
+
+    /**
+     * @return a strategy that yields the thread while waiting.
+     */
+    public static YieldingWaitingStrategy yielding() {
+        return new YieldingWaitingStrategy();
+    }
+
+    /**
+     * @return a strategy that spins, then yields, then parks for a time doubling up to 1ms.
+     */
+    public static BackoffWaitingStrategy backoff() {
+        return backoff(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @param maxParkNanos the maximum time to park the thread for
+     * @return a strategy that spins, then yields, then parks for a time doubling up to maxParkNanos.
+     */
+    public static BackoffWaitingStrategy backoff(long maxParkNanos) {
+        return new BackoffWaitingStrategy(maxParkNanos);
+    }
+
+    /**
+     * @return a strategy that blocks on a condition until the other side signals progress, bounded to 1ms.
+     */
+    public static BlockingWaitingStrategy blocking() {
+        return blocking(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * The signal is sent without checking the state of the ring buffer, a wakeup can be missed if the progress
+     * happens just before the wait. The wait is then bounded by maxWaitNanos.
+     * @param maxWaitNanos the maximum time to block for
+     * @return a strategy that blocks on a condition until the other side signals progress.
+     */
+    public static BlockingWaitingStrategy blocking(long maxWaitNanos) {
+        return new BlockingWaitingStrategy(maxWaitNanos);
+    }
+
+    /**
+     * @return a strategy that adapts how long it spins before parking to the length of the previous stalls,
+     * see {@link AdaptiveWaitingStrategy} for why it does not use the fill level of the ring buffer.
+     */
+    public static AdaptiveWaitingStrategy adaptive() {
+        return new AdaptiveWaitingStrategy(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * A WaitingStrategy that need to be notified when the producer or the consumer makes progress.
+     */
+    public interface SignalingWaitingStrategy extends ParallelReader.WaitingStrategy {
+        void signal();
+    }
+
+    public static abstract class AbstractWaitingStrategy implements ParallelReader.WaitingStrategy {
+        private final AtomicLong stalls = new AtomicLong();
+        private final AtomicLong waitNanos = new AtomicLong();
+
+        @Override
+        public final int idle(int i) {
+            if (i == 0) {
+                stalls.incrementAndGet();
+            }
+            long start = System.nanoTime();
+            int next = doIdle(i);
+            waitNanos.addAndGet(System.nanoTime() - start);
+            return next;
+        }
+
+        /**
+         * @param i the number of times idle was called for the current stall
+         * @return the value to pass to the next call
+         */
+        protected abstract int doIdle(int i);
+
+        protected static int next(int i) {
+            return i == Integer.MAX_VALUE ? i : i + 1;
+        }
+
+        /**
+         * @return the number of times the producer or the consumer had to wait
+         */
+        public final long getStalls() {
+            return stalls.get();
+        }
+
+        /**
+         * @return the time spent in the strategy in nanoseconds
+         */
+        public final long getWaitNanos() {
+            return waitNanos.get();
+        }
+    }
+
+    public static final class BusySpinWaitingStrategy extends AbstractWaitingStrategy {
+        @Override
+        protected int doIdle(int i) {
+            return next(i);
+        }
+    }
+
+    public static final class YieldingWaitingStrategy extends AbstractWaitingStrategy {
+        @Override
+        protected int doIdle(int i) {
+            Thread.yield();
+            return next(i);
+        }
+    }
+
+    public static final class BackoffWaitingStrategy extends AbstractWaitingStrategy {
+        private static final int SPINS = 100;
+        private static final int YIELDS = 10;
+
+        private final long maxParkNanos;
+
+        private BackoffWaitingStrategy(long maxParkNanos) {
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        protected int doIdle(int i) {
+            return backoff(i, SPINS, maxParkNanos);
+        }
+
+        static int backoff(int i, int spins, long maxParkNanos) {
+            if (i >= spins + YIELDS) {
+                // park 1us the first time, then double up to maxParkNanos
+                int shift = Math.min(i - spins - YIELDS, 30);
+                LockSupport.parkNanos(Math.min(1000L << shift, maxParkNanos));
+            } else if (i >= spins) {
+                Thread.yield();
+            }
+            return next(i);
+        }
+    }
+
+    public static final class BlockingWaitingStrategy extends AbstractWaitingStrategy implements SignalingWaitingStrategy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition progress = lock.newCondition();
+        private final long maxWaitNanos;
+        private volatile int waiters;
+
+        private BlockingWaitingStrategy(long maxWaitNanos) {
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        @Override
+        protected int doIdle(int i) {
+            lock.lock();
+            try {
+                waiters++;
+                try {
+                    progress.awaitNanos(maxWaitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    waiters--;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return next(i);
+        }
+
+        @Override
+        public void signal() {
+            if (waiters > 0) {
+                lock.lock();
+                try {
+                    progress.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Spin while the stalls are short, the buffer being drained or filled as fast as the other side produces, and
+     * park straight away when the stalls become long, the other side being slow or idle.
+     * <p>
+     * The decision is based on a moving average of the duration of the previous stalls, not on the fill level of the
+     * ring buffer. The strategy is only called when the ring is empty or full, the fill level at that point does not tell
+     * how soon the other side will make progress, and sampling it outside of the stalls would add a call on the read
+     * path of every strategy. The duration of the stalls measures that progress directly.
+     */
+    public static final class AdaptiveWaitingStrategy extends AbstractWaitingStrategy {
+        private static final int SPINS = 1000;
+        private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+        private final long maxParkNanos;
+        // heuristic only, the producer and the consumer can race on those
+        private long averageStallNanos;
+        private long stallStart;
+        private long lastIdle;
+
+        private AdaptiveWaitingStrategy(long maxParkNanos) {
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        protected int doIdle(int i) {
+            long now = System.nanoTime();
+            if (i == 0) {
+                if (stallStart != 0) {
+                    averageStallNanos = (averageStallNanos * 7 + (lastIdle - stallStart)) >> 3;
+                }
+                stallStart = now;
+            }
+            lastIdle = now;
+            return BackoffWaitingStrategy.backoff(i, isSpinning() ? SPINS : 0, maxParkNanos);
+        }
+
+        /**
+         * @return true if the strategy currently spins before parking
+         */
+        public boolean isSpinning() {
+            return averageStallNanos < SPIN_THRESHOLD_NANOS;
+        }
+    }
+}
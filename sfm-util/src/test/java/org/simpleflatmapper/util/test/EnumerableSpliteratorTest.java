@@ -7,6 +7,7 @@ import org.simpleflatmapper.util.EnumerableSpliterator;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -35,4 +36,25 @@ public class EnumerableSpliteratorTest {
         assertEquals(Arrays.asList(STRINGS).subList(0, 1), list);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testTrySplitHandsOffBatch() {
+        EnumerableSpliterator<String> spliterator = new EnumerableSpliterator<String>(new ArrayEnumerable<String>(STRINGS));
+        Spliterator<String> batch = spliterator.trySplit();
+
+        assertNotNull(batch);
+        assertEquals(STRINGS.length, batch.estimateSize());
+        assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void testParallelStreamCollect() {
+        String[] strings = new String[10000];
+        for(int i = 0; i < strings.length; i++) {
+            strings[i] = "str" + i;
+        }
+        List<String> list = StreamSupport
+                .stream(new EnumerableSpliterator<String>(new ArrayEnumerable<String>(strings)), true)
+                .collect(Collectors.<String>toList());
+        assertEquals(Arrays.asList(strings), list);
+    }
+}
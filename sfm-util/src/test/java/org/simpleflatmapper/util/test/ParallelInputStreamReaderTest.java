@@ -0,0 +1,105 @@
+package org.simpleflatmapper.util.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.util.ParallelInputStreamReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ParallelInputStreamReaderTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final String[] TOKENS = { "a", "bc", "\u00e9", "\u20ac", "\ud83d\ude00", "\n", "0123456789" };
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    @Test
+    public void testReadMultiBytesCharsAcrossRingEnd() throws IOException {
+        Random random = new Random(31);
+        for(int i = 0; i < 64; i++) {
+            StringBuilder sb = new StringBuilder();
+            int nbTokens = random.nextInt(4096);
+            for(int j = 0; j < nbTokens; j++) {
+                sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            String str = sb.toString();
+            int ringSize = 8 << random.nextInt(10);
+            int readSize = 1 + random.nextInt(ringSize);
+
+            assertEquals(str, readAll(str, ringSize, readSize, new char[1 + random.nextInt(100)]));
+            assertEquals(str, readOneByOne(str, ringSize, readSize));
+        }
+    }
+
+    @Test
+    public void testMalformedInputReplaced() throws IOException {
+        byte[] bytes = { 'a', (byte) 0xE2, (byte) 0x82 };
+        ParallelInputStreamReader reader = new ParallelInputStreamReader(new ByteArrayInputStream(bytes), UTF8, executorService, 16, 4);
+        try {
+            char[] chars = new char[10];
+            int l = reader.read(chars, 0, 10);
+            StringBuilder sb = new StringBuilder().append(chars, 0, l);
+            while ((l = reader.read(chars, 0, 10)) != -1) {
+                sb.append(chars, 0, l);
+            }
+            assertEquals("a\ufffd", sb.toString());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void testExceptionPropagated() throws IOException {
+        InputStream inputStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("failed");
+            }
+        };
+        ParallelInputStreamReader reader = new ParallelInputStreamReader(inputStream, UTF8, executorService);
+        try {
+            reader.read(new char[10], 0, 10);
+            fail();
+        } catch (IOException e) {
+            assertEquals("failed", e.getMessage());
+        } finally {
+            reader.close();
+        }
+    }
+
+    private String readAll(String str, int ringSize, int readSize, char[] buffer) throws IOException {
+        ParallelInputStreamReader reader = new ParallelInputStreamReader(new ByteArrayInputStream(str.getBytes(UTF8)), UTF8, executorService, ringSize, readSize);
+        StringBuilder sb = new StringBuilder();
+        try {
+            int l;
+            while ((l = reader.read(buffer, 0, buffer.length)) != -1) {
+                sb.append(buffer, 0, l);
+            }
+        } finally {
+            reader.close();
+        }
+        return sb.toString();
+    }
+
+    private String readOneByOne(String str, int ringSize, int readSize) throws IOException {
+        ParallelInputStreamReader reader = new ParallelInputStreamReader(new ByteArrayInputStream(str.getBytes(UTF8)), UTF8, executorService, ringSize, readSize);
+        StringBuilder sb = new StringBuilder();
+        try {
+            int c;
+            while ((c = reader.read()) != -1) {
+                sb.append((char) c);
+            }
+        } finally {
+            reader.close();
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package org.simpleflatmapper.util.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.util.ParallelInputStreamReader;
+import org.simpleflatmapper.util.ParallelReader;
+import org.simpleflatmapper.util.WaitingStrategies;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WaitingStrategiesTest {
+
+    ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private final String content;
+    {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 2000; i++) {
+            sb.append(i).append(",abcdefghijklmnopqrstuvwxyz\n");
+        }
+        content = sb.toString();
+    }
+
+    @Test
+    public void testStrategiesReadAllContentAndCountStalls() throws IOException {
+        WaitingStrategies.AbstractWaitingStrategy[] strategies = {
+                WaitingStrategies.busySpin(),
+                WaitingStrategies.yielding(),
+                WaitingStrategies.backoff(),
+                WaitingStrategies.blocking(),
+                WaitingStrategies.adaptive()
+        };
+        for (WaitingStrategies.AbstractWaitingStrategy strategy : strategies) {
+            // slow consumer on a small ring, the producer has to wait
+            ParallelReader reader = new ParallelReader(new StringReader(content), executorService, 64, 16, strategy);
+            assertEquals(content, readAll(reader, true));
+
+            assertTrue(strategy.getStalls() > 0);
+            assertTrue(strategy.getWaitNanos() > 0);
+
+            ParallelInputStreamReader inputStreamReader = new ParallelInputStreamReader(new ByteArrayInputStream(content.getBytes("UTF-8")), Charset.forName("UTF-8"), executorService, 64, 16, strategy);
+            assertEquals(content, readAll(inputStreamReader, false));
+        }
+    }
+
+    @Test
+    public void testAdaptiveStopsSpinningOnLongStalls() {
+        WaitingStrategies.AdaptiveWaitingStrategy strategy = WaitingStrategies.adaptive();
+        assertTrue(strategy.isSpinning());
+        for(int stall = 0; stall < 20 && strategy.isSpinning(); stall++) {
+            long start = System.nanoTime();
+            int i = 0;
+            while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1)) {
+                i = strategy.idle(i);
+            }
+        }
+        assertFalse(strategy.isSpinning());
+        assertTrue(strategy.getStalls() > 0);
+    }
+
+    private String readAll(Reader reader, boolean slow) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[10];
+        try {
+            int l;
+            while((l = reader.read(buffer, 0, buffer.length)) != -1) {
+                sb.append(buffer, 0, l);
+                if (slow) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(1));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return sb.toString();
+    }
+}